@@ -3,18 +3,30 @@ package com.suppleit.backend.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Properties;
 
 @Configuration  // ✅ Spring 설정 클래스
 public class AppConfig {
 
     @Bean  // ✅ RestTemplate을 Bean으로 등록
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            @Value("${app.http.connect-timeout-ms:3000}") long connectTimeoutMillis,
+            @Value("${app.http.read-timeout-ms:10000}") long readTimeoutMillis) {
+        // ✅ JDK HttpClient 기반: 연결 재사용(keep-alive 풀) + 연결/응답 타임아웃
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return new RestTemplate(requestFactory);
     }
     
     // 이메일 설정 추가
@@ -35,6 +47,10 @@ public class AppConfig {
         props.put("mail.transport.protocol", "smtp");
         props.put("mail.smtp.auth", "true");
         props.put("mail.smtp.starttls.enable", "true");
+        // 발송 워커가 SMTP 서버 응답을 무한정 기다리지 않도록 제한
+        props.put("mail.smtp.connectiontimeout", "5000");
+        props.put("mail.smtp.timeout", "10000");
+        props.put("mail.smtp.writetimeout", "10000");
         
         return mailSender;
     }
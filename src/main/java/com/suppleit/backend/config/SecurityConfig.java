@@ -1,7 +1,11 @@
 package com.suppleit.backend.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.security.BCryptCostCalibrator;
+import com.suppleit.backend.security.SecurityRoute;
+import com.suppleit.backend.security.SecurityRoute.RouteClass;
 import com.suppleit.backend.security.jwt.JwtFilter;
+import com.suppleit.backend.security.jwt.JwtRouteClassifier;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
 import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
 import com.suppleit.backend.service.MemberDetailsService;
@@ -9,6 +13,7 @@ import com.suppleit.backend.service.MemberDetailsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -51,9 +56,13 @@ public class SecurityConfig {
     }
 
     // ✅ 비밀번호 암호화 (BCrypt)
+    // cost 를 지정하지 않으면(0) 기동 시 서버 성능을 측정해 목표 해시 시간에 맞는 cost 선택
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-cost:0}") int bcryptCost,
+            @Value("${security.password.target-hash-ms:250}") long targetHashMillis) {
+        int strength = bcryptCost > 0 ? bcryptCost : BCryptCostCalibrator.calibrate(targetHashMillis, 10, 14);
+        return new BCryptPasswordEncoder(strength);
     }
 
     // ✅ 보안 필터 체인 설정
@@ -75,34 +84,40 @@ public class SecurityConfig {
     // ✅ JWT 필터를 Bean으로 등록
     @Bean
     public JwtFilter jwtFilter() {
-        return new JwtFilter(jwtTokenProvider, memberDetailsService, tokenBlacklistService);
+        return new JwtFilter(jwtTokenProvider, memberDetailsService, tokenBlacklistService,
+                new JwtRouteClassifier(ROUTES));  // 권한 설정과 같은 경로 표로 분류
     }
 
-    // ✅ 요청별 권한 설정
-    private void configureAuthorization(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
-        auth
-            .requestMatchers("/admin/**").hasAuthority("ROLE_ADMIN")  // ✅ 관리자 권한 필요
-            .requestMatchers("/api/member/auth/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")  // ✅ 관리자 & 사용자 권한 필요
-            .requestMatchers("/api/logout").authenticated() // ✅ 로그인한 사용자만 로그아웃 가능
+    // ✅ 요청별 권한 + JWT 필터 처리 방식 (위에서부터 처음 일치하는 규칙 적용)
+    private static final List<SecurityRoute> ROUTES = List.of(
+        SecurityRoute.hasAnyAuthority(null, "/admin/**", "ROLE_ADMIN"),  // ✅ 관리자 권한 필요
+        SecurityRoute.hasAnyAuthority(null, "/api/admin/**", "ROLE_ADMIN"),  // ✅ 관리자 API (회원 내보내기 등)
+        SecurityRoute.hasAnyAuthority(null, "/api/member/auth/**", "ROLE_ADMIN", "ROLE_USER"),  // ✅ 관리자 & 사용자 권한 필요
+        SecurityRoute.authenticated(null, "/api/logout"),  // ✅ 로그인한 사용자만 로그아웃 가능
 
-            // 소셜 로그인 API는 인증 없이 접근 가능
-            .requestMatchers("/api/social/login/**").permitAll()
+        // 소셜 로그인 API는 인증 없이 접근 가능
+        SecurityRoute.permitAll(null, "/api/social/login/**", RouteClass.PROTECTED),
 
-            // 추가: 이메일 인증과 토큰 갱신은 인증 없이 접근 가능
-            .requestMatchers("/api/member/verify-email").permitAll()
-            .requestMatchers("/api/auth/refresh").permitAll()
-            .requestMatchers("/api/auth/login").permitAll()
+        // 추가: 이메일 인증과 토큰 갱신은 인증 없이 접근 가능
+        SecurityRoute.permitAll(null, "/api/member/verify-email/**", RouteClass.PROTECTED),  // 코드 발송/확인
+        SecurityRoute.permitAll(null, "/api/auth/refresh", RouteClass.PROTECTED),
+        SecurityRoute.permitAll(null, "/api/auth/login", RouteClass.PROTECTED),
 
-            //공지사항
-            .requestMatchers("/api/notice/image/**").permitAll()  // 이미지 접근 허용
-            .requestMatchers("/api/notice/attachment/**").permitAll()  // 첨부파일 접근 허용
+        //공지사항
+        SecurityRoute.permitAll(null, "/api/notice/image/**", RouteClass.PUBLIC_STATIC),  // 이미지 접근 허용 (인증 처리 생략)
+        SecurityRoute.permitAll(null, "/api/notice/attachment/**", RouteClass.PUBLIC_STATIC),  // 첨부파일 접근 허용 (인증 처리 생략)
 
-            .requestMatchers(HttpMethod.GET, "/api/notice/**").permitAll()  // 모든 사용자 공지사항 조회 가능
-            .requestMatchers(HttpMethod.POST, "/api/notice").hasAuthority("ROLE_ADMIN")  // 공지사항 작성은 관리자만
-            .requestMatchers(HttpMethod.PUT, "/api/notice/**").hasAuthority("ROLE_ADMIN")  // 공지사항 수정은 관리자만
-            .requestMatchers(HttpMethod.DELETE, "/api/notice/**").hasAuthority("ROLE_ADMIN")  // 공지사항 삭제는 관리자만
+        SecurityRoute.permitAll(HttpMethod.GET, "/api/notice/**", RouteClass.PUBLIC_READ),  // 모든 사용자 공지사항 조회 가능 (가벼운 인증)
+        SecurityRoute.hasAnyAuthority(HttpMethod.POST, "/api/notice", "ROLE_ADMIN"),  // 공지사항 작성은 관리자만
+        SecurityRoute.hasAnyAuthority(HttpMethod.POST, "/api/notice/stream", "ROLE_ADMIN"),  // 공지사항 작성 (스트리밍 업로드)
+        SecurityRoute.hasAnyAuthority(HttpMethod.PUT, "/api/notice/**", "ROLE_ADMIN"),  // 공지사항 수정은 관리자만
+        SecurityRoute.hasAnyAuthority(HttpMethod.DELETE, "/api/notice/**", "ROLE_ADMIN")  // 공지사항 삭제는 관리자만
+    );
 
-            .anyRequest().permitAll();  // ✅ 그 외 요청은 누구나 가능
+    // ✅ 요청별 권한 설정
+    private void configureAuthorization(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
+        ROUTES.forEach(route -> route.applyTo(auth));
+        auth.anyRequest().permitAll();  // ✅ 그 외 요청은 누구나 가능
     }
 
     // ✅ 로그아웃 설정 추가
@@ -0,0 +1,62 @@
+package com.suppleit.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${app.async.request-timeout-ms:600000}")
+    private long asyncRequestTimeout;
+
+    @Value("${app.async.pool-size:4}")
+    private int asyncPoolSize;
+
+    // 기본 MultipartResolver 를 대체하므로 Spring Boot 의 multipart 설정을 직접 반영
+    @Value("${spring.servlet.multipart.resolve-lazily:false}")
+    private boolean multipartResolveLazily;
+
+    @Value("${spring.servlet.multipart.strict-servlet-compliance:false}")
+    private boolean multipartStrictServletCompliance;
+
+    // ✅ StreamingResponseBody 등 비동기 응답용 스레드 풀과 타임아웃 (대용량 내보내기 대비)
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncPoolSize);
+        executor.setMaxPoolSize(asyncPoolSize);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(asyncRequestTimeout);
+    }
+
+    // ✅ 스트리밍 업로드 경로(/api/notice/stream, /api/notice/{id}/stream)는 multipart 를 미리 파싱하지 않음
+    // (컨트롤러에서 요청 본문을 직접 순차 파싱, 그 외 경로는 기존처럼 MultipartFile 로 처리)
+    @Bean
+    public MultipartResolver multipartResolver() {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !isStreamingUpload(request) && super.isMultipart(request);
+            }
+        };
+        resolver.setResolveLazily(multipartResolveLazily);
+        resolver.setStrictServletCompliance(multipartStrictServletCompliance);
+        return resolver;
+    }
+
+    private static boolean isStreamingUpload(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith(request.getContextPath() + "/api/notice/") && uri.endsWith("/stream");
+    }
+}
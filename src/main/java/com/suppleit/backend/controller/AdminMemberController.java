@@ -0,0 +1,98 @@
+package com.suppleit.backend.controller;
+
+import com.suppleit.backend.dto.MemberSearchCondition;
+import com.suppleit.backend.dto.MemberSummaryDto;
+import com.suppleit.backend.service.MemberExportService;
+import com.suppleit.backend.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminMemberController extends JwtSupportController {
+
+    private final MemberExportService memberExportService;
+    private final MemberService memberService;
+
+    // 회원 검색 (키셋 페이지네이션: 응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+    @GetMapping
+    public ResponseEntity<?> searchMembers(
+            MemberSearchCondition condition,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, 100));
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            List<MemberSummaryDto> members = memberService.searchMembers(condition, cursor, pageSize + 1);
+            boolean hasNext = members.size() > pageSize;
+            if (hasNext) {
+                members = members.subList(0, pageSize);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("members", members);
+            response.put("hasNext", hasNext);
+            response.put("nextCursor", hasNext ? members.get(members.size() - 1).getMemberId() : null);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 회원 전체 내보내기 (CSV 또는 NDJSON, gzip 전송 선택)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportMembers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        MemberExportService.Format exportFormat;
+        try {
+            exportFormat = MemberExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "지원하지 않는 형식입니다. (csv, ndjson)"
+            ));
+        }
+
+        log.info("회원 내보내기 요청: 형식 {}, gzip {}", exportFormat, gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(outputStream, 64 * 1024, true) : outputStream;
+            memberExportService.export(out, exportFormat);
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+            out.flush();
+        };
+
+        String fileName = exportFormat == MemberExportService.Format.CSV ? "members.csv" : "members.ndjson";
+        MediaType contentType = exportFormat == MemberExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .contentType(contentType);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
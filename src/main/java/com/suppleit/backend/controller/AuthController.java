@@ -1,10 +1,13 @@
 package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.AuthRequest;
+import com.suppleit.backend.security.LoginAttemptLimiter;
 import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
 import com.suppleit.backend.service.AuthService;
+import com.suppleit.backend.service.PasswordHashingBusyException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,10 +22,23 @@ public class AuthController extends JwtSupportController {
 
     private final AuthService authService;
     private final JwtTokenBlacklistService tokenBlacklistService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     // 로그인 API (JWT 발급)
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest request) {
+    public ResponseEntity<?> login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        // 리버스 프록시 뒤에서는 server.forward-headers-strategy=native(또는 framework) 로
+        // X-Forwarded-For 를 반영해야 getRemoteAddr 가 프록시가 아닌 실제 클라이언트 주소가 됨
+        // (설정하지 않으면 모든 사용자가 프록시 IP 하나의 한도를 함께 사용)
+        String clientIp = httpRequest.getRemoteAddr();
+        
+        // 실패 횟수 초과 시 비밀번호 비교(BCrypt) 전에 차단
+        if (loginAttemptLimiter.isBlocked(request.getEmail(), clientIp)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginAttemptLimiter.getRetryAfterSeconds()))
+                    .body(Map.of("message", "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."));
+        }
+        
         try {
             String token = authService.authenticate(request.getEmail(), request.getPassword());
             String refreshToken = jwtTokenProvider.createRefreshToken(request.getEmail());
@@ -31,7 +47,13 @@ public class AuthController extends JwtSupportController {
                 "refreshToken", refreshToken
             ));
         } catch (IllegalArgumentException e) {
+            loginAttemptLimiter.recordFailure(request.getEmail(), clientIp);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", e.getMessage()));
+        } catch (PasswordHashingBusyException e) {
+            // 해시 풀 포화 시 바로 503 반환 (요청 스레드를 붙잡지 않음)
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("message", e.getMessage()));
         }
     }
     
@@ -90,6 +112,25 @@ public class AuthController extends JwtSupportController {
         }
     }
     
+    // 모든 기기에서 로그아웃 (토큰 세대 증가로 기존 토큰 전체 무효화)
+    @PostMapping("/logout-all")
+    public ResponseEntity<Map<String, Object>> logoutAll(HttpServletRequest req) {
+        try {
+            String email = extractEmailFromToken(req);
+            authService.logoutEverywhere(email);
+            
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "모든 기기에서 로그아웃되었습니다."
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
     // 비밀번호 찾기 (임시 비밀번호 발급)
     @PostMapping("/find/password")
     public ResponseEntity<Map<String, Object>> findPassword(@RequestParam String email) {
@@ -117,9 +158,12 @@ public class AuthController extends JwtSupportController {
             
             boolean isChanged = authService.changePassword(email, oldPassword, newPassword);
             
+            // 다른 세션은 모두 무효화되므로 현재 세션용 토큰을 새로 발급
             return ResponseEntity.ok(Map.of(
                 "success", isChanged,
-                "message", "비밀번호가 변경되었습니다."
+                "message", "비밀번호가 변경되었습니다.",
+                "accessToken", authService.issueAccessToken(email),
+                "refreshToken", jwtTokenProvider.createRefreshToken(email)
             ));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of(
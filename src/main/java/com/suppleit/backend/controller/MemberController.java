@@ -1,8 +1,11 @@
 package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.MemberDto;
+import com.suppleit.backend.service.EmailVerificationService;
+import com.suppleit.backend.service.MailSendBusyException;
 import com.suppleit.backend.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +21,7 @@ import java.util.Optional;
 public class MemberController extends JwtSupportController {
 
     private final MemberService memberService;
+    private final EmailVerificationService emailVerificationService;
 
     // 회원가입
     @PostMapping("/join")
@@ -37,6 +41,81 @@ public class MemberController extends JwtSupportController {
         }
     }
 
+    // 이메일 인증 코드 발송 (메일은 백그라운드 발송, 요청은 바로 반환)
+    @PostMapping("/verify-email/send")
+    public ResponseEntity<Map<String, Object>> sendVerificationCode(@RequestBody Map<String, String> request) {
+        try {
+            String email = request.get("email");
+            if (email == null || !email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+                throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다.");
+            }
+            if (!memberService.checkEmail(email)) {
+                throw new IllegalArgumentException("이미 등록된 이메일입니다.");
+            }
+
+            long retryAfterSeconds = emailVerificationService.issue(email);
+            if (retryAfterSeconds > 0) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                        .body(Map.of(
+                            "success", false,
+                            "message", "인증 코드 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+                        ));
+            }
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "인증 코드가 이메일로 발송되었습니다."
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        } catch (MailSendBusyException e) {
+            // 발송 풀 포화 시 바로 503 반환
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of(
+                        "success", false,
+                        "message", e.getMessage()
+                    ));
+        }
+    }
+
+    // 이메일 인증 코드 확인
+    @PostMapping("/verify-email")
+    public ResponseEntity<Map<String, Object>> verifyEmail(@RequestBody Map<String, String> request) {
+        try {
+            EmailVerificationService.Result result =
+                    emailVerificationService.verify(request.get("email"), request.get("code"));
+
+            return switch (result) {
+                case VERIFIED -> ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "이메일 인증이 완료되었습니다."
+                ));
+                case MISMATCH -> ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "인증 코드가 일치하지 않습니다."
+                ));
+                case TOO_MANY_ATTEMPTS -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of(
+                    "success", false,
+                    "message", "인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요."
+                ));
+                case EXPIRED -> ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "인증 코드가 만료되었습니다. 인증 코드를 다시 요청해주세요."
+                ));
+            };
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+
     // JWT 토큰 기반으로 회원 정보 조회
     @GetMapping("/info")
     public ResponseEntity<?> getMemberInfo(HttpServletRequest request) {
@@ -1,23 +1,34 @@
 package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.NoticeDto;
-import com.suppleit.backend.service.FileService;
+import com.suppleit.backend.dto.NoticeSummaryDto;
+import com.suppleit.backend.service.BlobStore;
+import com.suppleit.backend.service.FileDownloadService;
+import com.suppleit.backend.service.ImageVariantService;
+import com.suppleit.backend.service.NoticeDetailCache;
+import com.suppleit.backend.service.NoticeListCache;
 import com.suppleit.backend.service.NoticeService;
+import com.suppleit.backend.service.StreamingUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,122 +38,201 @@ import java.util.Map;
 @Slf4j
 public class NoticeController extends JwtSupportController {
 
+    // 내용이 바뀌지 않는 파일(UUID 파일명)의 캐시 정책
+    private static final CacheControl IMMUTABLE_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final NoticeService noticeService;
-    private final FileService fileService;
+    private final NoticeListCache noticeListCache;
+    private final FileDownloadService fileDownloadService;
+    private final ImageVariantService imageVariantService;
+    private final StreamingUploadService streamingUploadService;
+
+    @Value("${notice.page.default-size:20}")
+    private int defaultPageSize;
 
-    // 공지사항 전체 조회
+    @Value("${notice.page.max-size:100}")
+    private int maxPageSize;
+
+    // 공지사항 목록 조회 (키셋 페이지네이션: 응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+    // all=true 이면 기존처럼 전체 목록(본문 일부 포함)을 반환
+    // 직렬화된 응답은 공지사항 버전별로 캐시, If-None-Match 가 현재 ETag 와 같으면 304
     @GetMapping
-    public ResponseEntity<List<NoticeDto>> getAllNotices() {
-        log.info("공지사항 전체 조회 요청");
-        return ResponseEntity.ok(noticeService.getAllNotices());
+    public ResponseEntity<byte[]> getAllNotices(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean all,
+            WebRequest webRequest) {
+        int pageSize = Math.max(1, Math.min(size != null ? size : defaultPageSize, maxPageSize));
+        String cacheKey = all ? "all" : "p" + (cursor != null ? cursor : "") + "-" + pageSize;
+
+        if (webRequest.checkNotModified(noticeListCache.etag(cacheKey))) {
+            return null;  // 304 (ETag 헤더는 checkNotModified 가 설정)
+        }
+
+        NoticeListCache.Entry entry = noticeListCache.get(cacheKey,
+                () -> all ? noticeService.getAllNotices() : loadNoticePage(cursor, pageSize));
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
+    }
+
+    private Map<String, Object> loadNoticePage(Long cursor, int pageSize) {
+        log.info("공지사항 목록 조회: cursor {}, size {}", cursor, pageSize);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<NoticeSummaryDto> notices = noticeService.getNoticePage(cursor, pageSize + 1);
+        boolean hasNext = notices.size() > pageSize;
+        if (hasNext) {
+            notices = notices.subList(0, pageSize);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("notices", notices);
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? notices.get(notices.size() - 1).getNoticeId() : null);
+        return response;
     }
 
-    // 특정 공지사항 조회
+    // 공지사항 검색 (제목/본문, 관련도 순)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchNotices(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer size) {
+        if (query == null || query.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "검색어를 입력해주세요."
+            ));
+        }
+
+        int limit = Math.max(1, Math.min(size != null ? size : defaultPageSize, maxPageSize));
+        log.info("공지사항 검색 요청: {}", query);
+        return ResponseEntity.ok(Map.of("notices", noticeService.searchNotices(query, limit)));
+    }
+
+    // 특정 공지사항 조회 (미리 압축해 둔 본문을 Accept-Encoding 에 맞춰 그대로 응답)
     @GetMapping("/{noticeId}")
-    public ResponseEntity<NoticeDto> getNotice(@PathVariable Long noticeId) {
+    public ResponseEntity<byte[]> getNotice(
+            @PathVariable Long noticeId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("공지사항 상세 조회 요청: {}", noticeId);
-        return ResponseEntity.ok(noticeService.getNoticeById(noticeId));
+        NoticeDetailCache.Encoding encoding = negotiateEncoding(acceptEncoding);
+        byte[] body = noticeService.renderNoticeDetail(noticeId, encoding);
+        if (body == null) {
+            return ResponseEntity.ok().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != NoticeDetailCache.Encoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.name().toLowerCase());
+        }
+        return response.body(body);
+    }
+
+    // Accept-Encoding 에서 gzip > deflate 순으로 선택 (q=0 은 제외)
+    private NoticeDetailCache.Encoding negotiateEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return NoticeDetailCache.Encoding.IDENTITY;
+        }
+        boolean gzip = false;
+        boolean deflate = false;
+        for (String part : acceptEncoding.toLowerCase().split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            boolean rejected = tokens.length > 1 && tokens[1].trim().matches("q=0(\\.0*)?");
+            if (rejected) {
+                continue;
+            }
+            if (coding.equals("gzip") || coding.equals("*")) {
+                gzip = true;
+            } else if (coding.equals("deflate")) {
+                deflate = true;
+            }
+        }
+        if (gzip) {
+            return NoticeDetailCache.Encoding.GZIP;
+        }
+        return deflate ? NoticeDetailCache.Encoding.DEFLATE : NoticeDetailCache.Encoding.IDENTITY;
     }
 
     // 공지사항 이미지 조회 - 브라우저에서 보기
+    // size=thumb|medium 이면 축소본 제공 (아직 생성 전이면 원본)
+    // 이미지 파일명은 UUID 라 내용이 바뀌지 않으므로 오래 캐시, 축소본 대신 원본을 준 경우만 재검증
     @GetMapping("/image/{year}/{month}/{day}/{fileName:.+}")
-    public ResponseEntity<Resource> getImage(
+    public void getImage(
             @PathVariable String year,
             @PathVariable String month,
             @PathVariable String day,
-            @PathVariable String fileName) {
-        try {
-            log.info("이미지 조회 요청: {}/{}/{}/{}", year, month, day, fileName);
-            String imagePath = year + "/" + month + "/" + day + "/" + fileName;
-            Path path = fileService.getImagePath(imagePath);
-            Resource resource = new UrlResource(path.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                // 이미지 타입 추정
-                MediaType mediaType = determineMediaType(fileName);
-                
-                return ResponseEntity.ok()
-                        .contentType(mediaType)
-                        .body(resource);
-            } else {
-                log.warn("이미지 파일이 존재하지 않음: {}", imagePath);
-                return ResponseEntity.notFound().build();
-            }
-        } catch (Exception e) {
-            log.error("이미지 조회 오류: {}", e.getMessage());
-            return ResponseEntity.notFound().build();
+            @PathVariable String fileName,
+            @RequestParam(required = false) String size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.debug("이미지 조회 요청: {}/{}/{}/{} (size: {})", year, month, day, fileName, size);
+        String imagePath = year + "/" + month + "/" + day + "/" + fileName;
+        ImageVariantService.Variant variant = ImageVariantService.Variant.from(size);
+        String key = imageVariantService.resolve(imagePath, variant);
+        boolean fallback = variant != null && key.equals(imagePath);
+
+        if (!fileDownloadService.send(BlobStore.Area.IMAGE, key, determineMediaType(fileName), null,
+                fallback ? CacheControl.noCache() : IMMUTABLE_CACHE, request, response)) {
+            log.warn("이미지 파일이 존재하지 않음: {}", imagePath);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
     // 이미지 직접 다운로드
     @GetMapping("/image/download/{year}/{month}/{day}/{fileName:.+}")
-    public ResponseEntity<Resource> downloadImage(
+    public void downloadImage(
             @PathVariable String year,
             @PathVariable String month,
             @PathVariable String day,
-            @PathVariable String fileName) {
-        try {
-            log.info("이미지 다운로드 요청: {}/{}/{}/{}", year, month, day, fileName);
-            String imagePath = year + "/" + month + "/" + day + "/" + fileName;
-            Path path = fileService.getImagePath(imagePath);
-            Resource resource = new UrlResource(path.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                // 파일명 인코딩 (한글 깨짐 방지)
-                String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                        .replaceAll("\\+", "%20");
-                
-                // 다운로드를 위한 헤더 설정
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                        .header(HttpHeaders.CONTENT_TYPE, determineMediaType(fileName).toString())
-                        .body(resource);
-            } else {
-                log.warn("이미지 파일이 존재하지 않음: {}", imagePath);
-                return ResponseEntity.notFound().build();
-            }
-        } catch (Exception e) {
-            log.error("이미지 다운로드 오류: {}", e.getMessage());
-            return ResponseEntity.notFound().build();
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("이미지 다운로드 요청: {}/{}/{}/{}", year, month, day, fileName);
+        String imagePath = year + "/" + month + "/" + day + "/" + fileName;
+
+        if (!fileDownloadService.send(BlobStore.Area.IMAGE, imagePath, determineMediaType(fileName),
+                attachmentDisposition(fileName), IMMUTABLE_CACHE, request, response)) {
+            log.warn("이미지 파일이 존재하지 않음: {}", imagePath);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
-    // 첨부파일 다운로드
+    // 첨부파일 다운로드 (본문 없이 첨부파일 정보만 조회, 조회수 증가 없음)
+    // 같은 URL 에서 첨부파일이 교체될 수 있으므로 매번 ETag 로 재검증
     @GetMapping("/attachment/{noticeId}/{fileName:.+}")
-    public ResponseEntity<Resource> downloadAttachment(
+    public void downloadAttachment(
             @PathVariable Long noticeId, 
-            @PathVariable String fileName) {
-        try {
-            log.info("첨부파일 다운로드 요청: {}/{}", noticeId, fileName);
-            NoticeDto notice = noticeService.getNoticeById(noticeId);
-            
-            if (notice == null || notice.getAttachmentPath() == null) {
-                log.warn("첨부파일이 없는 공지사항: {}", noticeId);
-                return ResponseEntity.notFound().build();
-            }
-            
-            Path path = fileService.getAttachmentPath(notice.getAttachmentPath());
-            Resource resource = new UrlResource(path.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                // 파일명 인코딩 (한글 깨짐 방지)
-                String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.toString())
-                        .replaceAll("\\+", "%20");
-                
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                        .body(resource);
-            } else {
-                log.warn("첨부파일이 존재하지 않음: {}", notice.getAttachmentPath());
-                return ResponseEntity.notFound().build();
-            }
-        } catch (Exception e) {
-            log.error("첨부파일 다운로드 오류: {}", e.getMessage());
-            return ResponseEntity.notFound().build();
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("첨부파일 다운로드 요청: {}/{}", noticeId, fileName);
+        NoticeDto notice = noticeService.getNoticeAttachment(noticeId);
+
+        if (notice == null || notice.getAttachmentPath() == null) {
+            log.warn("첨부파일이 없는 공지사항: {}", noticeId);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (!fileDownloadService.send(BlobStore.Area.ATTACHMENT, notice.getAttachmentPath(),
+                MediaType.APPLICATION_OCTET_STREAM, attachmentDisposition(fileName),
+                CacheControl.noCache(), request, response)) {
+            log.warn("첨부파일이 존재하지 않음: {}", notice.getAttachmentPath());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
+    // 다운로드용 Content-Disposition (파일명 인코딩, 한글 깨짐 방지)
+    private String attachmentDisposition(String fileName) {
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20");
+        return "attachment; filename*=UTF-8''" + encodedFileName;
+    }
+
     // 공지사항 등록 (이미지 및 첨부파일 포함) - 수정: 본문 내 이미지 처리 추가
     @PostMapping
     public ResponseEntity<?> createNotice(
@@ -156,12 +246,6 @@ public class NoticeController extends JwtSupportController {
                 notice.getTitle(), 
                 contentImages != null ? contentImages.size() : 0);
             
-            // 컨텐츠 길이 제한 확인 및 처리
-            if (notice.getContent() != null && notice.getContent().length() > 16000) {
-                log.warn("컨텐츠 길이 초과 ({}자), 16000자로 제한합니다.", notice.getContent().length());
-                notice.setContent(notice.getContent().substring(0, 16000));
-            }
-            
             // JWT에서 현재 로그인한 사용자의 이메일을 가져옴
             String email = extractEmailFromToken(request);
 
@@ -200,12 +284,6 @@ public class NoticeController extends JwtSupportController {
                 noticeId, 
                 contentImages != null ? contentImages.size() : 0);
             
-            // 컨텐츠 길이 제한 확인 및 처리
-            if (notice.getContent() != null && notice.getContent().length() > 16000) {
-                log.warn("컨텐츠 길이 초과 ({}자), 16000자로 제한합니다.", notice.getContent().length());
-                notice.setContent(notice.getContent().substring(0, 16000));
-            }
-            
             // JWT에서 현재 로그인한 사용자의 이메일을 가져옴
             String email = extractEmailFromToken(request);
 
@@ -231,6 +309,92 @@ public class NoticeController extends JwtSupportController {
         }
     }
 
+    // 공지사항 등록 (스트리밍 업로드) - 파트 구성은 POST /api/notice 와 같음
+    // 요청 본문을 버퍼링하지 않고 읽으면서 바로 저장하므로 대용량 첨부파일에 사용
+    @PostMapping("/stream")
+    public ResponseEntity<?> createNoticeStreaming(HttpServletRequest request) {
+        try {
+            // 본문을 읽기 전에 작성자 확인
+            String email = extractEmailFromToken(request);
+            Long memberId = noticeService.getMemberIdByEmail(email);
+
+            StreamingUploadService.Result upload = readStreamingUpload(request);
+            NoticeDto notice = upload.notice();
+            log.info("공지사항 등록 요청 (스트리밍): {}, 본문 이미지: {}개",
+                notice.getTitle(), upload.uploads().getContentImagePaths().size());
+
+            notice.setMemberId(memberId);
+            noticeService.createNotice(notice, upload.uploads());
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "공지사항이 등록되었습니다.",
+                "noticeId", notice.getNoticeId()
+            ));
+        } catch (FileUploadSizeException e) {
+            log.warn("공지사항 등록 업로드 크기 초과: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of(
+                "success", false,
+                "message", "업로드 크기 제한을 초과했습니다."
+            ));
+        } catch (IllegalArgumentException e) {
+            log.warn("공지사항 등록 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("공지사항 등록 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(403).body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+
+    // 공지사항 수정 (스트리밍 업로드) - 파트 구성은 PUT /api/notice/{noticeId} 와 같음
+    @PutMapping("/{noticeId}/stream")
+    public ResponseEntity<?> updateNoticeStreaming(@PathVariable Long noticeId, HttpServletRequest request) {
+        try {
+            // 본문을 읽기 전에 수정자 확인
+            String email = extractEmailFromToken(request);
+            Long memberId = noticeService.getMemberIdByEmail(email);
+
+            StreamingUploadService.Result upload = readStreamingUpload(request);
+            NoticeDto notice = upload.notice();
+            log.info("공지사항 수정 요청 (스트리밍): {}, 본문 이미지: {}개",
+                noticeId, upload.uploads().getContentImagePaths().size());
+
+            notice.setMemberId(memberId);
+            notice.setLastModifiedBy(memberId);
+            noticeService.updateNotice(noticeId, notice, upload.uploads());
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "공지사항이 수정되었습니다."
+            ));
+        } catch (FileUploadSizeException e) {
+            log.warn("공지사항 수정 업로드 크기 초과: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of(
+                "success", false,
+                "message", "업로드 크기 제한을 초과했습니다."
+            ));
+        } catch (Exception e) {
+            log.error("공지사항 수정 오류: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+
+    private StreamingUploadService.Result readStreamingUpload(HttpServletRequest request) throws IOException {
+        if (!StreamingUploadService.isMultipart(request)) {
+            throw new IllegalArgumentException("multipart/form-data 요청이 필요합니다.");
+        }
+        return streamingUploadService.read(request);
+    }
+
     // 공지사항 삭제
     @DeleteMapping("/{noticeId}")
     public ResponseEntity<?> deleteNotice(@PathVariable Long noticeId) {
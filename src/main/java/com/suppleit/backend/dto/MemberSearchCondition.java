@@ -0,0 +1,27 @@
+package com.suppleit.backend.dto;
+
+import com.suppleit.backend.constants.Gender;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 관리자 회원 검색 조건 (모든 항목 선택)
+@Getter
+@Setter
+@NoArgsConstructor
+public class MemberSearchCondition {
+    private SocialType socialType;
+    private MemberRole memberRole;
+    private Gender gender;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate birthFrom;  // 생년월일 시작 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate birthTo;    // 생년월일 끝 (포함)
+}
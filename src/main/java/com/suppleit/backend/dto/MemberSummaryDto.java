@@ -0,0 +1,42 @@
+package com.suppleit.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.suppleit.backend.constants.Gender;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.model.Member;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 관리자 회원 목록/내보내기용 DTO (비밀번호 제외)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberSummaryDto {
+    private Long memberId;
+    private String email;
+    private String nickname;
+    private Gender gender;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate birth;
+
+    private MemberRole memberRole;
+    private SocialType socialType;
+
+    // Member → MemberSummaryDto 변환
+    public static MemberSummaryDto fromEntity(Member member) {
+        return MemberSummaryDto.builder()
+                .memberId(member.getMemberId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .gender(member.getGender())
+                .birth(member.getBirth())
+                .memberRole(member.getMemberRole())
+                .socialType(member.getSocialType())
+                .build();
+    }
+}
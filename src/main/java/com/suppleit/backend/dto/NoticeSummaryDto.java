@@ -0,0 +1,36 @@
+package com.suppleit.backend.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+// 공지사항 목록용 DTO (본문 제외)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoticeSummaryDto {
+    private Long noticeId;
+    private String title;
+    private Long memberId;
+    private String authorName; // 작성자 이름 (JOIN 쿼리 결과)
+    private String imagePath;
+    private String attachmentName;
+    private int views;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    // 이미지 URL 생성 메서드
+    public String getImageUrl() {
+        if (imagePath != null && !imagePath.isEmpty()) {
+            return "/api/notice/image/" + imagePath;
+        }
+        return null;
+    }
+}
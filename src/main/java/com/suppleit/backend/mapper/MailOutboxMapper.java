@@ -0,0 +1,36 @@
+package com.suppleit.backend.mapper;
+
+import com.suppleit.backend.model.MailOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface MailOutboxMapper {
+    // 발송 대기열에 메일 적재
+    void insertMail(MailOutbox mail);
+
+    // 발송 가능한 메일을 워커 몫으로 선점 (선점한 건수 반환)
+    int claimBatch(@Param("workerId") String workerId, @Param("limit") int limit);
+
+    // 워커가 선점한 메일 조회
+    List<MailOutbox> getClaimedMails(@Param("workerId") String workerId);
+
+    // 발송 완료 처리
+    void markSent(@Param("mailIds") List<Long> mailIds);
+
+    // 재시도 예약 (status 를 PENDING 으로 되돌리고 다음 시도 시각 설정)
+    void scheduleRetry(@Param("mailId") Long mailId, @Param("attempts") int attempts,
+                       @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    // 최종 실패 처리
+    void markFailed(@Param("mailId") Long mailId, @Param("attempts") int attempts, @Param("lastError") String lastError);
+
+    // 오래 선점된 채 남은 메일 복구 (워커 비정상 종료 대비)
+    int releaseStaleClaims(@Param("lockedBefore") LocalDateTime lockedBefore);
+
+    // 발송 대기 건수
+    long countPending();
+}
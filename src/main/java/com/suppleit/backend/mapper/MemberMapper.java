@@ -1,14 +1,22 @@
 package com.suppleit.backend.mapper;
 
+import com.suppleit.backend.dto.MemberSearchCondition;
 import com.suppleit.backend.model.Member;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
 
 @Mapper
 public interface MemberMapper {
     // ✅ 회원 가입
     void insertMember(Member member);
 
+    // ✅ 소셜 회원 등록 (이미 있으면 변경 없음, 새로 등록한 경우에만 memberId 가 채워짐)
+    int insertSocialMemberIfAbsent(Member member);
+
     // ✅ 이메일로 회원 조회 (VARCHAR → Enum 변환 적용)
     Member getMemberByEmail(@Param("email") String email);
 
@@ -24,6 +32,10 @@ public interface MemberMapper {
     // ✅ 비밀번호 변경
     void updatePassword(@Param("email") String email, @Param("password") String password);
 
+    // ✅ 비밀번호 해시 재암호화 (저장된 해시가 oldPassword 그대로일 때만 변경, 변경된 행 수 반환)
+    int upgradePassword(@Param("email") String email, @Param("oldPassword") String oldPassword,
+                        @Param("password") String password);
+
     // ✅ 회원 삭제 (이메일 기반)
     void deleteMemberByEmail(@Param("email") String email);
 
@@ -33,4 +45,20 @@ public interface MemberMapper {
     // 회원 정보 수정
     void updateMemberInfo(@Param("member") Member member);
 
+    // 이메일/닉네임 전체 조회 (가용성 인덱스 적재용)
+    void scanMemberKeys(ResultHandler<Member> handler);
+
+    // 회원 내보내기용 커서 조회 (afterId 이후 limit 건, 비밀번호 제외)
+    Cursor<Member> scanMembersAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 관리자 회원 검색 (afterId 이후 limit 건, 키셋 페이지네이션)
+    List<Member> searchMembers(@Param("condition") MemberSearchCondition condition,
+                               @Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 토큰 세대 조회
+    Integer getTokenEpoch(@Param("email") String email);
+
+    // 토큰 세대 증가 (전체 로그아웃)
+    void incrementTokenEpoch(@Param("email") String email);
+
 }
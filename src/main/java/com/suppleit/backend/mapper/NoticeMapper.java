@@ -1,23 +1,41 @@
 package com.suppleit.backend.mapper;
 
 import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.dto.NoticeSummaryDto;
 import com.suppleit.backend.model.Notice;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface NoticeMapper {
     // 공지사항 전체 조회
     List<NoticeDto> getAllNotices();
 
+    // 공지사항 목록 페이지 조회 (notice_id 내림차순 키셋, beforeId 가 null 이면 첫 페이지)
+    List<NoticeSummaryDto> getNoticePage(@Param("beforeId") Long beforeId, @Param("limit") int limit);
+
+    // 검색 색인 적재용 전체 조회 (ID, 제목, 본문만)
+    void scanNoticesForSearch(ResultHandler<NoticeDto> handler);
+
+    // 업로드 파일 정리용 전체 조회 (대표 이미지, 첨부파일, 본문만)
+    void scanUploadReferences(ResultHandler<NoticeDto> handler);
+
+    // ID 목록으로 목록용 요약 조회 (검색 결과 표시용, 순서는 보장하지 않음)
+    List<NoticeSummaryDto> getNoticeSummariesByIds(@Param("noticeIds") List<Long> noticeIds);
+
     // 특정 공지사항 조회
     NoticeDto getNoticeById(@Param("noticeId") Long noticeId);
+
+    // 첨부파일 정보만 조회 (다운로드용, 본문 제외)
+    NoticeDto getNoticeAttachment(@Param("noticeId") Long noticeId);
     
-    // 조회수 증가 메서드 추가
-    void incrementViews(@Param("noticeId") Long noticeId);
+    // 조회수 일괄 증가 (공지사항 ID -> 증가분)
+    void addViews(@Param("deltas") Map<Long, Long> deltas);
 
     // 공지사항 생성 (관리자만 가능)
     void insertNotice(Notice notice);
@@ -27,4 +45,19 @@ public interface NoticeMapper {
 
     // 공지사항 삭제 (관리자만 가능)
     void deleteNotice(@Param("noticeId") Long noticeId);
+
+    // 공지사항이 등록한 본문 이미지 경로 (등록 횟수만큼 중복 포함)
+    List<String> getContentImagePaths(@Param("noticeId") Long noticeId);
+
+    // 본문 이미지 등록 기록 추가
+    void insertContentImages(@Param("noticeId") Long noticeId, @Param("paths") List<String> paths);
+
+    // 본문 이미지 등록 기록 전체 삭제
+    void deleteContentImages(@Param("noticeId") Long noticeId);
+
+    // 공지사항 목록 버전 (목록 캐시/ETag 용)
+    long getListVersion();
+
+    // 공지사항 목록 버전 증가 (등록/수정/삭제 트랜잭션 안에서 호출)
+    void incrementListVersion();
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.suppleit.backend.mapper;
+
+import com.suppleit.backend.model.UploadBlob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface UploadBlobMapper {
+    // 새 파일 등록, 같은 내용이 이미 있으면 참조 수만 증가
+    void acquire(UploadBlob blob);
+
+    // 내용 해시로 저장 경로 조회
+    String getPathByDigest(@Param("kind") String kind, @Param("digest") String digest);
+
+    // 참조 수 감소 (등록된 파일이 아니면 0 반환)
+    int release(@Param("kind") String kind, @Param("relativePath") String relativePath);
+
+    // 저장 경로로 파일 정보 조회 후 행 잠금 (SELECT ... FOR UPDATE, 트랜잭션 안에서만 호출)
+    UploadBlob lockByPath(@Param("kind") String kind, @Param("relativePath") String relativePath);
+
+    // 참조 수와 관계없이 파일 정보 삭제 (마지막 참조 해제, 사용하는 공지사항이 없는 것으로 확인된 파일 정리용)
+    int deleteByPath(@Param("kind") String kind, @Param("relativePath") String relativePath);
+}
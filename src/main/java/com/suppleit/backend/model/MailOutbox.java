@@ -0,0 +1,23 @@
+package com.suppleit.backend.model;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox {
+    private Long mailId;
+    private String recipient;
+    private String subject;
+    private String body;
+    private String status;          // PENDING, SENDING, SENT, FAILED
+    private int attempts;           // 발송 시도 횟수
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
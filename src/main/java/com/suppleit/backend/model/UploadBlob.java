@@ -0,0 +1,21 @@
+package com.suppleit.backend.model;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadBlob {
+    private Long blobId;
+    private String kind;            // IMAGE, ATTACHMENT
+    private String digest;          // SHA-256 (hex)
+    private String relativePath;    // 저장 경로 (yyyy/MM/dd/...)
+    private long size;
+    private int refCount;           // 이 파일을 사용하는 곳의 수
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;    // 마지막으로 참조가 추가된 시각
+}
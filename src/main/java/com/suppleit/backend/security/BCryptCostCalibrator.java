@@ -0,0 +1,40 @@
+package com.suppleit.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+// 서버 성능에 맞춰 BCrypt cost(strength) 를 결정하는 보정기
+// 가장 낮은 cost 로 해시 시간을 측정한 뒤, cost 가 1 오를 때마다 시간이 2배가 되는 성질로 목표 시간에 맞는 cost 를 고름
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    // 목표 해시 시간(ms)을 넘지 않는 가장 큰 cost 반환 (minCost ~ maxCost 범위)
+    public static int calibrate(long targetMillis, int minCost, int maxCost) {
+        // JIT 워밍업
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minCost));
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minCost));
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        double estimatedMillis = bestNanos / 1_000_000.0;
+        int cost = minCost;
+        while (cost < maxCost && estimatedMillis * 2 <= targetMillis) {
+            estimatedMillis *= 2;
+            cost++;
+        }
+
+        log.info("BCrypt cost 보정 완료: cost={}, 예상 해시 시간={}ms (목표 {}ms)",
+                cost, Math.round(estimatedMillis), targetMillis);
+        return cost;
+    }
+}
@@ -0,0 +1,175 @@
+package com.suppleit.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 로그인 실패 횟수 제한 (이메일별, 클라이언트 IP별 슬라이딩 윈도우)
+// BCrypt 비교 전에 차단 여부를 확인해서 무차별 대입 시 CPU 낭비를 막음
+//
+// 메모리 모드: 고정 크기 슬롯 배열(AtomicLongArray)에 CAS 로 카운트 (락 없음, 메모리 고정)
+//   - 슬롯 하나 = [윈도우 번호(상위 32bit) | 횟수(하위 32bit)], 현재/직전 윈도우용으로 2칸씩 사용
+//   - 해시 충돌은 서로 다른 시드의 2개 행 중 작은 값을 사용해 줄임 (count-min 방식, 과소 집계 없음)
+//   - 행마다 키 바이트 전체를 독립된 임의 시드로 해시하므로 (String.hashCode 를 쓰지 않음)
+//     남의 키와 모든 행에서 충돌하는 이메일/IP 를 미리 만들어 차단을 유도할 수 없음
+// Redis 모드(app.redis.enabled=true): 윈도우별 INCR 키로 클러스터 전체에 동일한 제한 적용
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int ROWS = 2;
+    private static final String KEY_PREFIX = "login-attempt:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisEnabled;
+    private final long windowMillis;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final int slotMask;
+    private final AtomicLongArray counters;
+    private final long[] seeds = new SecureRandom().longs(ROWS).toArray();
+
+    public LoginAttemptLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${security.login-limit.window-ms:900000}") long windowMillis,
+            @Value("${security.login-limit.max-per-email:10}") int maxAttemptsPerEmail,
+            @Value("${security.login-limit.max-per-ip:100}") int maxAttemptsPerIp,
+            @Value("${security.login-limit.slots:65536}") int slots) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.windowMillis = windowMillis;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+
+        int size = Integer.highestOneBit(Math.max(slots, 1024));
+        this.slotMask = size - 1;
+        this.counters = new AtomicLongArray(ROWS * size * 2);
+    }
+
+    // 차단 여부 확인 (이메일 또는 IP 중 하나라도 한도를 넘으면 차단)
+    public boolean isBlocked(String email, String clientIp) {
+        return estimate(emailKey(email)) >= maxAttemptsPerEmail
+                || estimate(ipKey(clientIp)) >= maxAttemptsPerIp;
+    }
+
+    // 로그인 실패 기록
+    public void recordFailure(String email, String clientIp) {
+        increment(emailKey(email));
+        increment(ipKey(clientIp));
+    }
+
+    // 차단 시 재시도까지 권장 대기 시간(초)
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (windowMillis - System.currentTimeMillis() % windowMillis) / 1000);
+    }
+
+    private String emailKey(String email) {
+        return "e:" + (email != null ? email.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private String ipKey(String clientIp) {
+        return "i:" + (clientIp != null ? clientIp : "");
+    }
+
+    // 슬라이딩 윈도우 추정치 = 현재 윈도우 횟수 + 직전 윈도우 횟수 × 남은 비율
+    private double estimate(String key) {
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis;
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+        long current;
+        long previous;
+        if (redisEnabled) {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(redisKey(key, window), redisKey(key, window - 1)));
+            current = parseCount(values != null ? values.get(0) : null);
+            previous = parseCount(values != null ? values.get(1) : null);
+        } else {
+            current = localCount(key, window);
+            previous = localCount(key, window - 1);
+        }
+        return current + previous * previousWeight;
+    }
+
+    private void increment(String key) {
+        long window = System.currentTimeMillis() / windowMillis;
+        if (redisEnabled) {
+            String redisKey = redisKey(key, window);
+            Long count = redisTemplate.opsForValue().increment(redisKey);
+            if (count != null && count == 1) {
+                redisTemplate.expire(redisKey, Duration.ofMillis(windowMillis * 2));
+            }
+            return;
+        }
+
+        long windowTag = window & 0xFFFFFFFFL;
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(key, row, window);
+            while (true) {
+                long value = counters.get(index);
+                long next = (value >>> 32) == windowTag ? value + 1 : (windowTag << 32) | 1;
+                if (counters.compareAndSet(index, value, next)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private long localCount(String key, long window) {
+        long windowTag = window & 0xFFFFFFFFL;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++) {
+            long value = counters.get(indexOf(key, row, window));
+            long count = (value >>> 32) == windowTag ? value & 0xFFFFFFFFL : 0;
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    // 행(row)별로 다른 해시로 슬롯을 고르고, 윈도우 번호 홀짝으로 현재/직전 칸을 나눔
+    private int indexOf(String key, int row, long window) {
+        int slot = (int) hash(key, seeds[row]) & slotMask;
+        return ((row * (slotMask + 1) + slot) << 1) | (int) (window & 1);
+    }
+
+    // 시드별 64비트 해시 (8바이트씩 섞은 뒤 murmur3 fmix64 로 마무리)
+    static long hash(String key, long seed) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h = seed ^ (bytes.length * 0x9E3779B97F4A7C15L);
+        long block = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            block = (block << 8) | (bytes[i] & 0xff);
+            if ((i & 7) == 7 || i == bytes.length - 1) {
+                h = Long.rotateLeft(h ^ mix(block), 27) * 0x87C37B91114253D5L;
+                block = 0;
+            }
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private String redisKey(String key, long window) {
+        return KEY_PREFIX + key + ":" + window;
+    }
+
+    private long parseCount(String value) {
+        return value != null ? Long.parseLong(value) : 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.suppleit.backend.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
+
+// 요청 경로별 권한 + JWT 필터 처리 방식 정의
+// SecurityConfig 의 권한 설정과 JwtFilter 의 경로 분류가 같은 표를 사용
+public record SecurityRoute(HttpMethod method, String pattern, Access access, String[] authorities, RouteClass routeClass) {
+
+    // 접근 권한
+    public enum Access {
+        PERMIT_ALL,
+        AUTHENTICATED,
+        HAS_ANY_AUTHORITY
+    }
+
+    // JWT 필터 처리 방식
+    public enum RouteClass {
+        PUBLIC_STATIC,  // 인증 처리 생략 (이미지/첨부파일 등 정적 리소스)
+        PUBLIC_READ,    // 토큰이 있으면 클레임만으로 가볍게 인증 (DB 조회 없음)
+        PROTECTED       // 블랙리스트/서명/회원 조회까지 전체 인증
+    }
+
+    public static SecurityRoute permitAll(HttpMethod method, String pattern, RouteClass routeClass) {
+        return new SecurityRoute(method, pattern, Access.PERMIT_ALL, new String[0], routeClass);
+    }
+
+    public static SecurityRoute authenticated(HttpMethod method, String pattern) {
+        return new SecurityRoute(method, pattern, Access.AUTHENTICATED, new String[0], RouteClass.PROTECTED);
+    }
+
+    public static SecurityRoute hasAnyAuthority(HttpMethod method, String pattern, String... authorities) {
+        return new SecurityRoute(method, pattern, Access.HAS_ANY_AUTHORITY, authorities, RouteClass.PROTECTED);
+    }
+
+    // Spring Security 권한 설정에 반영
+    public void applyTo(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
+        AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizedUrl url = method != null
+                ? auth.requestMatchers(method, pattern)
+                : auth.requestMatchers(pattern);
+
+        switch (access) {
+            case PERMIT_ALL -> url.permitAll();
+            case AUTHENTICATED -> url.authenticated();
+            case HAS_ANY_AUTHORITY -> url.hasAnyAuthority(authorities);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.suppleit.backend.security.jwt;
 
+import com.suppleit.backend.security.SecurityRoute.RouteClass;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,6 +30,13 @@ public class JwtFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
     private final JwtTokenBlacklistService tokenBlacklistService; // 추가
+    private final JwtRouteClassifier routeClassifier;
+
+    // 공개 정적 리소스(이미지/첨부파일)는 인증 처리 자체를 생략
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routeClassifier.classify(request) == RouteClass.PUBLIC_STATIC;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -32,50 +45,117 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
 
             if (token != null) {
-                // 블랙리스트 토큰 확인 로직 추가
-                if (tokenBlacklistService.isBlacklisted(token)) {
-                    log.info("Token is blacklisted (logged out): {}", token.substring(0, 10) + "...");
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has been invalidated (logged out)");
+                if (routeClassifier.classify(request) == RouteClass.PUBLIC_READ) {
+                    authenticateLightweight(token, request);
+                    chain.doFilter(request, response);
                     return;
                 }
 
-                if (!jwtTokenProvider.validateToken(token)) {
-                    log.warn("Invalid or expired token");
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token");
+                // 블랙리스트, 서명/만료, 토큰 세대 확인 (공개 조회 경로와 같은 검사)
+                Verification verification = verify(token);
+                if (verification.rejection() != null) {
+                    log.info("Rejected token ({}): {}", verification.rejection(), token.substring(0, 10) + "...");
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, verification.rejection().message);
                     return;
                 }
-    
-                String email = jwtTokenProvider.getEmail(token);
-                
+                Claims claims = verification.claims();
+
+                String email = claims.getSubject();
+
                 // UserDetails 먼저 로드
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-    
+
                 if (userDetails != null) {
-                    // UserDetails의 기존 권한을 사용
-                    Authentication auth = new UsernamePasswordAuthenticationToken(
-                        userDetails, 
-                        null, 
-                        userDetails.getAuthorities()  // 토큰에서 추출한 권한 대신 UserDetails의 권한 사용
-                    );
-                    
-                    ((UsernamePasswordAuthenticationToken) auth).setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-                    
-                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    setAuthentication(userDetails, request);
                 } else {
                     log.warn("No user details found for email: {}", email);
                 }
             }
-    
+
             chain.doFilter(request, response);
-    
+
         } catch (Exception e) {
             log.error("JWT Filter Error", e);
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Authentication error: " + e.getMessage());
         }
     }
 
+    // 공개 조회 경로: 클레임 한 번 파싱으로 인증 (회원 DB 조회 없음)
+    // 폐기 여부(블랙리스트, 토큰 세대)는 보호 경로와 같은 verify 로 확인하고, 통과한 토큰만 역할 클레임을 신뢰
+    // 토큰이 유효하지 않거나 폐기되었어도 공개 경로이므로 요청은 익명으로 계속 진행
+    private void authenticateLightweight(String token, HttpServletRequest request) {
+        Verification verification = verify(token);
+        if (verification.rejection() != null) {
+            log.debug("Ignoring token on public route: {}", verification.rejection());
+            return;
+        }
+
+        Claims claims = verification.claims();
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            return;
+        }
+
+        UserDetails userDetails = User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(List.of(new SimpleGrantedAuthority(role)))
+                .build();
+        setAuthentication(userDetails, request);
+    }
+
+    // 토큰 검증 (경로 구분 없이 공통)
+    // 블랙리스트(로그아웃) -> 서명/만료 -> 토큰 세대(전체 로그아웃, 비밀번호 변경) 순서
+    private Verification verify(String token) {
+        if (tokenBlacklistService.isBlacklisted(token)) {
+            return Verification.rejected(Rejection.BLACKLISTED);
+        }
+
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Verification.rejected(Rejection.INVALID);
+        }
+
+        if (!jwtTokenProvider.isTokenEpochCurrent(claims)) {
+            return Verification.rejected(Rejection.REVOKED);
+        }
+        return new Verification(claims, null);
+    }
+
+    private enum Rejection {
+        BLACKLISTED("Token has been invalidated (logged out)"),
+        INVALID("Invalid or expired token"),
+        REVOKED("Token has been revoked");
+
+        private final String message;
+
+        Rejection(String message) {
+            this.message = message;
+        }
+    }
+
+    private record Verification(Claims claims, Rejection rejection) {
+        static Verification rejected(Rejection rejection) {
+            return new Verification(null, rejection);
+        }
+    }
+
+    private void setAuthentication(UserDetails userDetails, HttpServletRequest request) {
+        // UserDetails의 기존 권한을 사용
+        Authentication auth = new UsernamePasswordAuthenticationToken(
+            userDetails,
+            null,
+            userDetails.getAuthorities()  // 토큰에서 추출한 권한 대신 UserDetails의 권한 사용
+        );
+
+        ((UsernamePasswordAuthenticationToken) auth).setDetails(
+            new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken == null) {
@@ -87,4 +167,4 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         return bearerToken.substring(7);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.security.SecurityRoute;
+import com.suppleit.backend.security.SecurityRoute.RouteClass;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+// 요청 경로를 JWT 필터 처리 방식으로 분류
+// SecurityConfig 와 같은 경로 표에서 패턴을 미리 컴파일해 두고, 첫 번째로 일치하는 규칙을 사용
+public class JwtRouteClassifier {
+
+    private final List<CompiledRoute> routes;
+
+    public JwtRouteClassifier(List<SecurityRoute> securityRoutes) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.routes = securityRoutes.stream()
+                .map(route -> new CompiledRoute(
+                        route.method() != null ? route.method().name() : null,
+                        parser.parse(route.pattern()),
+                        route.routeClass()))
+                .toList();
+    }
+
+    // 일치하는 규칙이 없으면 전체 인증
+    public RouteClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        String method = request.getMethod();
+
+        for (CompiledRoute route : routes) {
+            if ((route.method() == null || route.method().equals(method)) && route.pattern().matches(pathContainer)) {
+                return route.routeClass();
+            }
+        }
+        return RouteClass.PROTECTED;
+    }
+
+    private record CompiledRoute(String method, PathPattern pattern, RouteClass routeClass) {
+    }
+}
@@ -1,45 +1,283 @@
 package com.suppleit.backend.security.jwt;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 public class JwtTokenBlacklistService {
-    
-    // 메모리 기반 블랙리스트 (토큰 -> 만료 시간)
-    private final Map<String, Long> tokenBlacklist = new ConcurrentHashMap<>();
-    
-    // 토큰을 블랙리스트에 추가
+
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String CHANNEL = "jwt:blacklist";
+
+    // 메모리 기반 블랙리스트 (토큰 다이제스트 -> 만료 시간)
+    // Redis 사용 시에는 Redis 내용을 노드 로컬에 복제해 둔 캐시 역할
+    private final Map<TokenDigest, Long> tokenBlacklist = new ConcurrentHashMap<>();
+
+    // 만료 버킷 (버킷 번호 -> 해당 구간에 만료되는 토큰 다이제스트)
+    // 같은 구간에 만료되는 토큰을 묶어 두고, 구간이 지나면 버킷 단위로 정리
+    private final Map<Long, Queue<TokenDigest>> expiryBuckets = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    private final long bucketWidthMillis;
+    private final int maxSweepPerRun;
+    private final boolean redisEnabled;
+    private final long bloomExpectedEntries;
+    private final double bloomFalsePositiveRate;
+
+    // 블랙리스트 앞단 Bloom 필터 (음성 응답이면 Redis 조회 생략)
+    private volatile TokenBloomFilter bloomFilter;
+
+    // 다음에 정리할 버킷 번호 (스케줄러 스레드에서만 변경)
+    private long sweepCursor;
+
+    public JwtTokenBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${jwt.blacklist.bucket-width-ms:60000}") long bucketWidthMillis,
+            @Value("${jwt.blacklist.max-sweep-per-run:50000}") int maxSweepPerRun,
+            @Value("${jwt.blacklist.bloom.expected-entries:1000000}") long bloomExpectedEntries,
+            @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double bloomFalsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisEnabled = redisEnabled;
+        this.bucketWidthMillis = bucketWidthMillis;
+        this.maxSweepPerRun = maxSweepPerRun;
+        this.bloomExpectedEntries = bloomExpectedEntries;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.bloomFilter = new TokenBloomFilter(bloomExpectedEntries, bloomFalsePositiveRate);
+        this.sweepCursor = bucketOf(System.currentTimeMillis());
+    }
+
+    // Redis 사용 시: 다른 노드의 로그아웃 구독 + 기존 블랙리스트 적재
+    @PostConstruct
+    public void init() {
+        if (!redisEnabled) {
+            return;
+        }
+
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container != null) {
+            container.addMessageListener((message, pattern) ->
+                    onRemoteBlacklist(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        }
+
+        try {
+            log.info("Loaded {} blacklisted tokens from Redis", syncFromRedis());
+        } catch (Exception e) {
+            log.warn("Failed to load blacklist from Redis: {}", e.getMessage());
+        }
+    }
+
+    // 주기적으로 Redis 와 다시 맞춤 (연결 끊김 등으로 pub/sub 메시지를 놓친 경우 대비)
+    // Bloom 필터가 음성이면 Redis 를 보지 않으므로, 놓친 폐기 토큰도 이 간격 안에는 거부됨
+    @Scheduled(fixedDelayString = "${jwt.blacklist.resync-interval-ms:30000}",
+            initialDelayString = "${jwt.blacklist.resync-interval-ms:30000}")
+    public void resyncFromRedis() {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            int recovered = syncFromRedis();
+            if (recovered > 0) {
+                log.warn("Recovered {} blacklisted tokens missed by pub/sub", recovered);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to resync blacklist from Redis: {}", e.getMessage());
+        }
+    }
+
+    // Redis 에 있지만 로컬에 없는 항목만 적재 (키는 SCAN, 값은 묶어서 MGET)
+    private int syncFromRedis() {
+        int loaded = 0;
+        List<String> missing = new ArrayList<>();
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                if (!tokenBlacklist.containsKey(TokenDigest.fromHex(key.substring(KEY_PREFIX.length())))) {
+                    missing.add(key);
+                }
+                if (missing.size() >= 1000) {
+                    loaded += loadFromRedis(missing);
+                    missing.clear();
+                }
+            }
+        }
+        return loaded + loadFromRedis(missing);
+    }
+
+    private int loadFromRedis(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<String> expiries = redisTemplate.opsForValue().multiGet(keys);
+        if (expiries == null) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String expiry = expiries.get(i);
+            if (expiry != null && Long.parseLong(expiry) > now) {
+                addLocal(TokenDigest.fromHex(keys.get(i).substring(KEY_PREFIX.length())), Long.parseLong(expiry));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    // 토큰을 블랙리스트에 추가 (O(1), 정리 작업은 스케줄러가 담당)
     public void addToBlacklist(String token, Long expiryTimeInMillis) {
         log.info("Adding token to blacklist, expires at: {}", expiryTimeInMillis);
-        tokenBlacklist.put(token, expiryTimeInMillis);
-        
-        // 만료된 토큰 정리 (선택적)
-        cleanupExpiredTokens();
+        long ttl = expiryTimeInMillis != null ? expiryTimeInMillis - System.currentTimeMillis() : 0;
+        if (ttl <= 0) {
+            return;  // 이미 만료된 토큰은 검증 단계에서 거부되므로 보관할 필요 없음
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        addLocal(digest, expiryTimeInMillis);
+
+        if (redisEnabled) {
+            String hex = digest.toHex();
+            redisTemplate.opsForValue().set(KEY_PREFIX + hex, String.valueOf(expiryTimeInMillis), ttl, TimeUnit.MILLISECONDS);
+            redisTemplate.convertAndSend(CHANNEL, hex + ":" + expiryTimeInMillis);
+        }
     }
-    
+
     // 토큰이 블랙리스트에 있는지 확인
+    // Bloom 필터가 음성이면 즉시 false (대부분의 요청), 양성일 때만 로컬/Redis 확인
+    // 다른 노드의 폐기는 pub/sub 으로 즉시, 놓친 경우에도 resyncFromRedis 주기 안에 반영됨
     public boolean isBlacklisted(String token) {
-        boolean isBlacklisted = tokenBlacklist.containsKey(token);
+        TokenDigest digest = TokenDigest.of(token);
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        Long expiry = tokenBlacklist.get(digest);
+        boolean isBlacklisted = expiry != null && expiry > now;
+
+        if (!isBlacklisted && redisEnabled) {
+            isBlacklisted = checkRemote(digest, now);
+        }
+
         if (isBlacklisted) {
             log.info("Token is in blacklist");
         }
         return isBlacklisted;
     }
-    
-    // 만료된 토큰 정리 (선택적)
-    private void cleanupExpiredTokens() {
-        long currentTime = System.currentTimeMillis();
-        int beforeSize = tokenBlacklist.size();
-        
-        tokenBlacklist.entrySet().removeIf(entry -> entry.getValue() < currentTime);
-        
-        int afterSize = tokenBlacklist.size();
-        if (beforeSize > afterSize) {
-            log.info("Cleaned up {} expired tokens from blacklist", beforeSize - afterSize);
+
+    // 현재 블랙리스트 크기
+    public int size() {
+        return tokenBlacklist.size();
+    }
+
+    // 만료된 버킷 정리 (한 번에 최대 maxSweepPerRun 건씩 점진적으로 처리)
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sweep-interval-ms:10000}")
+    public void sweepExpiredTokens() {
+        long now = System.currentTimeMillis();
+        long currentBucket = bucketOf(now);
+        int removed = 0;
+
+        while (sweepCursor < currentBucket && removed < maxSweepPerRun) {
+            Queue<TokenDigest> bucket = expiryBuckets.get(sweepCursor);
+            if (bucket != null) {
+                TokenDigest digest;
+                while (removed < maxSweepPerRun && (digest = bucket.poll()) != null) {
+                    Long expiry = tokenBlacklist.get(digest);
+                    if (expiry != null && expiry <= now) {
+                        tokenBlacklist.remove(digest, expiry);
+                    }
+                    removed++;
+                }
+                if (!bucket.isEmpty()) {
+                    break;  // 다음 실행에서 이어서 정리
+                }
+                expiryBuckets.remove(sweepCursor);
+            }
+            sweepCursor++;
+        }
+
+        if (removed > 0) {
+            log.info("Cleaned up {} expired tokens from blacklist", removed);
+        }
+
+        // Bloom 필터는 삭제를 지원하지 않으므로, 만료분이 많이 쌓이면 현재 목록으로 재구성
+        if (bloomFilter.getInsertions() > Math.max(bloomExpectedEntries / 10, 2L * tokenBlacklist.size())) {
+            rebuildBloomFilter();
+        }
+    }
+
+    // 목록에 먼저 넣은 뒤 Bloom 필터에 반영
+    // 재구성 중 교체 전 필터에 들어가더라도, 교체 후 두 번째 반영에서 목록을 보고 새 필터에 다시 넣음
+    private void addLocal(TokenDigest digest, long expiryTimeInMillis) {
+        if (tokenBlacklist.put(digest, expiryTimeInMillis) == null) {
+            expiryBuckets.computeIfAbsent(bucketOf(expiryTimeInMillis), b -> new ConcurrentLinkedQueue<>())
+                    .add(digest);
+        }
+        bloomFilter.put(digest);
+    }
+
+    // 다른 노드에서 발행한 블랙리스트 이벤트 반영 ("다이제스트:만료시간")
+    private void onRemoteBlacklist(String payload) {
+        try {
+            int separator = payload.indexOf(':');
+            long expiry = Long.parseLong(payload.substring(separator + 1));
+            if (expiry > System.currentTimeMillis()) {
+                addLocal(TokenDigest.fromHex(payload.substring(0, separator)), expiry);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Invalid blacklist message: {}", payload);
         }
     }
-}
\ No newline at end of file
+
+    // Bloom 필터 양성이지만 로컬에 없을 때 (이벤트 유실 또는 위양성) Redis 확인
+    private boolean checkRemote(TokenDigest digest, long now) {
+        try {
+            String expiry = redisTemplate.opsForValue().get(KEY_PREFIX + digest.toHex());
+            if (expiry == null) {
+                return false;
+            }
+            long expiryTime = Long.parseLong(expiry);
+            addLocal(digest, expiryTime);
+            return expiryTime > now;
+        } catch (Exception e) {
+            log.warn("Failed to check blacklist in Redis: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        TokenBloomFilter rebuilt = new TokenBloomFilter(bloomExpectedEntries, bloomFalsePositiveRate);
+        tokenBlacklist.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // 교체 직전에 추가된 항목이 빠지지 않도록 한 번 더 반영
+        tokenBlacklist.keySet().forEach(rebuilt::put);
+        log.info("Rebuilt blacklist bloom filter with {} entries", tokenBlacklist.size());
+    }
+
+    private long bucketOf(long timeInMillis) {
+        return timeInMillis / bucketWidthMillis;
+    }
+}
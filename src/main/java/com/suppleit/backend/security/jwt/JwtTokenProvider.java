@@ -11,24 +11,32 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String EPOCH_CLAIM = "ep";
+
     private final Key key;
+    private final JwtParser parser;  // 스레드 안전, 요청마다 새로 만들지 않음
     private final long expirationTime;
     private final long refreshExpirationTime; // 리프레시 토큰 만료 시간 추가
+    private final TokenEpochService tokenEpochService;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.expiration}") long expirationTime,
-            @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationTime) { // 기본값 7일
+            @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationTime, // 기본값 7일
+            TokenEpochService tokenEpochService) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.expirationTime = expirationTime;
         this.refreshExpirationTime = refreshExpirationTime;
+        this.tokenEpochService = tokenEpochService;
     }
 
-    // JWT 생성 (이메일 + 역할 포함)
+    // JWT 생성 (이메일 + 역할 + 토큰 세대 포함)
     public String createToken(String email, String role) {
         return Jwts.builder()
                 .setSubject(email)
                 .claim("role", "ROLE_" + role.toUpperCase())  // ROLE_을 포함하여 저장
+                .claim(EPOCH_CLAIM, tokenEpochService.currentEpoch(email))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -45,6 +53,17 @@ public class JwtTokenProvider {
         }
     }
 
+    // JWT 클레임 한 번에 파싱 (서명/만료 검증 포함, 실패 시 JwtException)
+    public Claims getClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // 이미 파싱한 클레임에서 토큰 세대 추출
+    public int getTokenEpoch(Claims claims) {
+        Integer epoch = claims.get(EPOCH_CLAIM, Integer.class);
+        return epoch != null ? epoch : 0;
+    }
+
     // JWT에서 이메일 추출
     public String getEmail(String token) {
         return Jwts.parserBuilder()
@@ -65,6 +84,27 @@ public class JwtTokenProvider {
                 .get("role", String.class);   // 역할(role) 가져오기
     }
 
+    // JWT에서 토큰 세대 추출 (세대 클레임이 없는 예전 토큰은 0)
+    public int getTokenEpoch(String token) {
+        Integer epoch = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .get(EPOCH_CLAIM, Integer.class);
+        return epoch != null ? epoch : 0;
+    }
+
+    // 토큰 세대가 현재 회원 세대와 일치하는지 확인 (전체 로그아웃 여부)
+    public boolean isTokenEpochCurrent(String token) {
+        return tokenEpochService.isCurrent(getEmail(token), getTokenEpoch(token));
+    }
+
+    // 이미 파싱한 클레임 기준 토큰 세대 확인
+    public boolean isTokenEpochCurrent(Claims claims) {
+        return tokenEpochService.isCurrent(claims.getSubject(), getTokenEpoch(claims));
+    }
+
     // JWT 만료 여부 확인
     public boolean isJwtExpired(String token) {
         try {
@@ -97,10 +137,11 @@ public class JwtTokenProvider {
         }
     }
     
-    // 리프레시 토큰 생성
+    // 리프레시 토큰 생성 (토큰 세대 포함)
     public String createRefreshToken(String email) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim(EPOCH_CLAIM, tokenEpochService.currentEpoch(email))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshExpirationTime))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -0,0 +1,66 @@
+package com.suppleit.backend.security.jwt;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 블랙리스트 앞단에서 사용하는 락 없는 Bloom 필터
+// mightContain == false 이면 확실히 블랙리스트에 없음 (네트워크 조회 생략 가능)
+public class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public TokenBloomFilter(long expectedEntries, double falsePositiveRate) {
+        long n = Math.max(expectedEntries, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    // 다이제스트 추가
+    public void put(TokenDigest digest) {
+        long combined = digest.getHigh();
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(combined, bitCount));
+            combined += digest.getLow();
+        }
+        insertions.incrementAndGet();
+    }
+
+    // 포함 가능성 확인
+    public boolean mightContain(TokenDigest digest) {
+        long combined = digest.getHigh();
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Math.floorMod(combined, bitCount))) {
+                return false;
+            }
+            combined += digest.getLow();
+        }
+        return true;
+    }
+
+    // 지금까지 추가된 건수 (재구성 시점 판단용)
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 회원별 토큰 세대(epoch) 관리
+// 토큰 발급 시 현재 세대를 클레임에 넣고, 검증 시 캐시된 세대와 비교
+// 세대를 1 올리면 그 회원의 기존 토큰이 모두 무효화됨 ("모든 기기에서 로그아웃")
+@Slf4j
+@Service
+public class TokenEpochService {
+
+    private static final String CHANNEL = "jwt:epoch";
+
+    private final MemberMapper memberMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisEnabled;
+    private final long cacheTtlMillis;
+
+    // 이메일 -> 캐시된 세대 (무효화 시 지우지 않고 만료된 항목으로 교체)
+    private final Map<String, CachedEpoch> epochCache = new ConcurrentHashMap<>();
+
+    public TokenEpochService(
+            MemberMapper memberMapper,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${jwt.epoch.cache-ttl-ms:30000}") long cacheTtlMillis) {
+        this.memberMapper = memberMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisEnabled = redisEnabled;
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    // Redis 사용 시: 다른 노드에서 세대가 바뀌면 캐시 무효화
+    @PostConstruct
+    public void init() {
+        RedisMessageListenerContainer container = redisEnabled ? listenerContainerProvider.getIfAvailable() : null;
+        if (container != null) {
+            container.addMessageListener((message, pattern) ->
+                    invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        }
+    }
+
+    // 현재 세대 조회 (캐시 우선)
+    public int currentEpoch(String email) {
+        long now = System.currentTimeMillis();
+        CachedEpoch cached = epochCache.get(email);
+        if (cached != null && cached.loadedAt() + cacheTtlMillis > now) {
+            return cached.epoch();
+        }
+
+        Integer epoch = memberMapper.getTokenEpoch(email);
+        int value = epoch != null ? epoch : 0;
+        // 조회하는 동안 무효화되었으면 (읽기 전에 본 항목이 교체됨) 옛 세대일 수 있으므로 캐시하지 않음
+        CachedEpoch loaded = new CachedEpoch(value, now);
+        epochCache.compute(email, (key, current) -> current == cached ? loaded : current);
+        return value;
+    }
+
+    // 토큰의 세대가 현재 세대와 같은지 확인
+    public boolean isCurrent(String email, int tokenEpoch) {
+        return tokenEpoch == currentEpoch(email);
+    }
+
+    // 해당 회원의 모든 토큰 무효화 (세대 1 증가)
+    // 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 무효화하고 다른 노드에 알림
+    // (커밋 전에 다른 요청이 옛 세대를 읽어 캐시했을 수 있음)
+    public void revokeAll(String email) {
+        memberMapper.incrementTokenEpoch(email);
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                    publish(email);
+                }
+            });
+        } else {
+            publish(email);
+        }
+        log.info("회원의 모든 토큰 무효화: {}", email);
+    }
+
+    // 캐시 항목을 새 (만료된) 항목으로 교체해 진행 중인 조회가 옛 세대를 다시 넣지 못하게 함
+    private void invalidate(String email) {
+        epochCache.put(email, new CachedEpoch(0, 0));
+    }
+
+    private void publish(String email) {
+        if (redisEnabled) {
+            redisTemplate.convertAndSend(CHANNEL, email);
+        }
+    }
+
+    private record CachedEpoch(int epoch, long loadedAt) {
+    }
+}
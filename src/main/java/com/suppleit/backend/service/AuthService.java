@@ -5,10 +5,11 @@ import com.suppleit.backend.constants.SocialType;
 import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Member;
 import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -18,12 +19,15 @@ import java.util.UUID;
 public class AuthService {
     
     private final MemberMapper memberMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberLookup memberLookup;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenEpochService tokenEpochService;
+    private final MailOutboxService mailOutboxService;
     
     // 로그인 인증 및 JWT 생성
     public String authenticate(String email, String password) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         
         if (member == null) {
             throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
@@ -39,12 +43,22 @@ public class AuthService {
             throw new IllegalArgumentException("소셜 로그인 계정입니다. 일반 로그인 대신 소셜 로그인 API를 사용하세요.");
         }
         
-        // 비밀번호 검증
-        boolean passwordMatch = passwordEncoder.matches(password, storedPassword);
+        // 비밀번호 검증 (전용 해시 풀에서 실행)
+        boolean passwordMatch = passwordHashingService.matches(password, storedPassword);
         if (!passwordMatch) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
         
+        // 저장된 해시의 cost 가 현재 설정보다 낮으면 백그라운드에서 재암호화
+        // 검증한 해시가 그대로일 때만 바꿈 (그 사이 바뀐 비밀번호를 옛 비밀번호로 되돌리지 않도록)
+        if (passwordHashingService.needsUpgrade(storedPassword)) {
+            passwordHashingService.upgradeInBackground(password, upgraded -> {
+                if (memberMapper.upgradePassword(email, storedPassword, upgraded) > 0) {
+                    memberLookup.evict(email);
+                }
+            });
+        }
+        
         MemberRole role = (member.getMemberRole() != null) ? member.getMemberRole() : MemberRole.USER;
         return jwtTokenProvider.createToken(email, role.name());
     }
@@ -55,8 +69,13 @@ public class AuthService {
             throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
         }
         
+        // 전체 로그아웃 이전에 발급된 리프레시 토큰 거부
+        if (!jwtTokenProvider.isTokenEpochCurrent(refreshToken)) {
+            throw new IllegalArgumentException("무효화된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+        
         String email = jwtTokenProvider.getEmail(refreshToken);
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         
         if (member == null) {
             throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
@@ -66,9 +85,10 @@ public class AuthService {
         return jwtTokenProvider.createToken(email, role.name());
     }
     
-    // 임시 비밀번호 발급
+    // 임시 비밀번호 발급 (메일은 발송 대기열에 적재, 실제 발송은 워커가 처리)
+    @Transactional
     public String generateTempPassword(String email) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         if (member == null) {
             throw new IllegalArgumentException("존재하지 않는 이메일입니다.");
         }
@@ -78,17 +98,21 @@ public class AuthService {
         }
 
         String tempPassword = UUID.randomUUID().toString().substring(0, 8);
-        String encryptedTempPassword = passwordEncoder.encode(tempPassword);
+        String encryptedTempPassword = passwordHashingService.encode(tempPassword);
 
         memberMapper.updatePassword(email, encryptedTempPassword);
-        log.info("임시 비밀번호 발급: {}", tempPassword);
+        memberLookup.evict(email);
+        tokenEpochService.revokeAll(email);  // 기존 세션 모두 무효화
+        mailOutboxService.enqueue(email, "[SuppleIT] 임시 비밀번호 안내",
+                "임시 비밀번호: " + tempPassword + "\n로그인 후 반드시 비밀번호를 변경해 주세요.");
+        log.info("임시 비밀번호 발급: {}", email);
 
         return tempPassword;
     }
     
     // 비밀번호 변경
     public boolean changePassword(String email, String oldPassword, String newPassword) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
     
         if (member == null) {
             throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
@@ -98,23 +122,44 @@ public class AuthService {
             throw new IllegalArgumentException("소셜 로그인 사용자는 비밀번호를 변경할 수 없습니다.");
         }
         
-        if (!passwordEncoder.matches(oldPassword, member.getPassword())) {
+        if (!passwordHashingService.matches(oldPassword, member.getPassword())) {
             throw new IllegalArgumentException("기존 비밀번호가 일치하지 않습니다.");
         }
     
-        if (passwordEncoder.matches(newPassword, member.getPassword())) {
+        if (passwordHashingService.matches(newPassword, member.getPassword())) {
             throw new IllegalArgumentException("새로운 비밀번호는 기존 비밀번호와 다르게 설정해야 합니다.");
         }
     
-        String encodedNewPassword = passwordEncoder.encode(newPassword);
+        String encodedNewPassword = passwordHashingService.encode(newPassword);
         memberMapper.updatePassword(email, encodedNewPassword);
+        memberLookup.evict(email);
+        
+        // 비밀번호 변경 시 다른 기기의 세션 모두 무효화
+        tokenEpochService.revokeAll(email);
         
         return true;
     }
     
+    // 현재 세대로 액세스 토큰 재발급 (비밀번호 변경 직후 현재 세션 유지용)
+    public String issueAccessToken(String email) {
+        Member member = memberLookup.findByEmail(email);
+        if (member == null) {
+            throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
+        }
+        
+        MemberRole role = (member.getMemberRole() != null) ? member.getMemberRole() : MemberRole.USER;
+        return jwtTokenProvider.createToken(email, role.name());
+    }
+    
+    // 모든 기기에서 로그아웃 (토큰 세대 증가)
+    public void logoutEverywhere(String email) {
+        tokenEpochService.revokeAll(email);
+    }
+    
     // 비밀번호 업데이트 (임시 비밀번호 저장 등에 사용)
     public void updatePassword(String email, String newPassword) {
-        String encodedPassword = passwordEncoder.encode(newPassword);
+        String encodedPassword = passwordHashingService.encode(newPassword);
         memberMapper.updatePassword(email, encodedPassword);
+        memberLookup.evict(email);
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.suppleit.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+// 업로드 파일 저장소 (app.storage.type: local | s3)
+// 키는 영역(이미지/첨부파일)별 상대 경로 (yyyy/MM/dd/파일명), 디렉토리 구분자는 항상 '/'
+// 여러 노드에서 같은 저장소를 쓰려면 s3 (S3 호환 오브젝트 스토리지) 사용
+public interface BlobStore {
+
+    enum Area {
+        IMAGE,
+        ATTACHMENT
+    }
+
+    // 최종 키가 정해지기 전의 임시 저장본 (내용 해시를 계산한 뒤 commit)
+    interface StagedBlob {
+        long size();
+
+        // 최종 키로 옮김
+        void commit(String key) throws IOException;
+
+        // 임시 저장본 삭제 (commit 이후에는 아무 일도 하지 않음)
+        void discard() throws IOException;
+    }
+
+    // 목록 조회 결과
+    record BlobInfo(String key, long size, Instant lastModified) {}
+
+    // 스트림을 끝까지 읽어 임시로 저장
+    StagedBlob stage(Area area, InputStream in) throws IOException;
+
+    boolean exists(Area area, String key) throws IOException;
+
+    InputStream open(Area area, String key) throws IOException;
+
+    void delete(Area area, String key) throws IOException;
+
+    // prefix("" 또는 "yyyy/", "yyyy/MM/") 바로 아래 디렉토리 (끝에 '/' 포함한 키 접두어)
+    List<String> listDirectories(Area area, String prefix) throws IOException;
+
+    // prefix 바로 아래 파일
+    List<BlobInfo> listFiles(Area area, String prefix) throws IOException;
+
+    // 업로드 도중 중단되어 남은 임시 저장본 정리
+    void purgeStaged(Area area, Instant cutoff) throws IOException;
+
+    // 로컬 파일 경로 (zero-copy 전송용), 로컬 저장소가 아니면 null
+    default Path localPath(Area area, String key) {
+        return null;
+    }
+
+    // 저장소에서 직접 내려받는 URL (presigned), 지원하지 않으면 null
+    default URI downloadUrl(Area area, String key, String contentType, String contentDisposition) {
+        return null;
+    }
+}
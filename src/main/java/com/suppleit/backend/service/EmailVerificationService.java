@@ -0,0 +1,266 @@
+package com.suppleit.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이메일 인증 코드 발급/확인
+// - 코드는 HMAC 해시로만 저장, 발급/확인 모두 Lua 스크립트 한 번(왕복 1회)으로 처리
+// - 확인 실패 횟수와 발급 횟수를 원자적으로 세어 제한 (Redis 사용 시 모든 노드에 동일하게 적용)
+// - 인증 성공 전에는 MySQL 에 아무것도 쓰지 않음, 성공 결과도 TTL 이 있는 키로만 남김
+// Redis 미사용(app.redis.enabled=false) 시에는 같은 규칙을 메모리에서 처리
+@Slf4j
+@Service
+public class EmailVerificationService {
+
+    public enum Result {
+        VERIFIED,
+        MISMATCH,
+        EXPIRED,
+        TOO_MANY_ATTEMPTS
+    }
+
+    private static final String KEY_PREFIX = "email-verify:";
+
+    // KEYS[1]=코드 해시, KEYS[2]=발급 횟수 / ARGV: 코드 해시, 코드 TTL(ms), 발급 제한 구간(ms), 구간당 최대 발급 수
+    // 반환: 0 이상 = 발급 완료, 음수 = 발급 제한 (절댓값이 남은 대기 시간 ms)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local sent = redis.call('INCR', KEYS[2])
+            if sent == 1 then redis.call('PEXPIRE', KEYS[2], ARGV[3]) end
+            if sent > tonumber(ARGV[4]) then
+              return -math.max(redis.call('PTTL', KEYS[2]), 1)
+            end
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return sent
+            """, Long.class);
+
+    // KEYS[1]=코드 해시, KEYS[3]=인증 완료 표시 / ARGV: 입력 코드 해시, 최대 시도 수, 인증 완료 유지 시간(ms)
+    // 반환: 1 = 성공, 0 = 불일치, -1 = 만료/미발급, -2 = 시도 초과
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local code = redis.call('HGET', KEYS[1], 'code')
+            if not code then return -1 end
+            local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            if attempts > tonumber(ARGV[2]) then
+              redis.call('DEL', KEYS[1])
+              return -2
+            end
+            if code == ARGV[1] then
+              redis.call('DEL', KEYS[1])
+              redis.call('SET', KEYS[3], '1', 'PX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[3]=인증 완료 표시 (한 번만 사용 가능)
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('DEL', KEYS[3])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MailDispatcher mailDispatcher;
+    private final boolean redisEnabled;
+    private final long codeTtlMillis;
+    private final int maxAttempts;
+    private final long issueWindowMillis;
+    private final int maxIssuesPerWindow;
+    private final long verifiedTtlMillis;
+    private final SecretKeySpec hmacKey;
+    private final SecureRandom random = new SecureRandom();
+
+    // 메모리 모드 저장소 (이메일 -> 상태)
+    private final Map<String, LocalState> localStates = new ConcurrentHashMap<>();
+
+    public EmailVerificationService(
+            RedisTemplate<String, String> redisTemplate,
+            MailDispatcher mailDispatcher,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${email.verification.secret:${jwt.secret}}") String secret,
+            @Value("${email.verification.code-ttl-ms:600000}") long codeTtlMillis,
+            @Value("${email.verification.max-attempts:5}") int maxAttempts,
+            @Value("${email.verification.issue-window-ms:3600000}") long issueWindowMillis,
+            @Value("${email.verification.max-issues-per-window:5}") int maxIssuesPerWindow,
+            @Value("${email.verification.verified-ttl-ms:1800000}") long verifiedTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.mailDispatcher = mailDispatcher;
+        this.redisEnabled = redisEnabled;
+        this.codeTtlMillis = codeTtlMillis;
+        this.maxAttempts = maxAttempts;
+        this.issueWindowMillis = issueWindowMillis;
+        this.maxIssuesPerWindow = maxIssuesPerWindow;
+        this.verifiedTtlMillis = verifiedTtlMillis;
+        this.hmacKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    // 인증 코드 발급 + 메일 발송 요청 (발송은 워커 스레드에서 처리)
+    // 반환: 0 = 발급 완료, 양수 = 발급 제한으로 재요청까지 남은 시간(초)
+    public long issue(String email) {
+        String normalized = normalize(email);
+        String code = String.format("%06d", random.nextInt(1_000_000));
+        String codeHash = hash(normalized, code);
+
+        long retryAfterMillis = redisEnabled ? issueInRedis(normalized, codeHash) : issueLocally(normalized, codeHash);
+        if (retryAfterMillis > 0) {
+            return Math.max(1, retryAfterMillis / 1000);
+        }
+
+        mailDispatcher.sendAsync(email, "[SuppleIT] 이메일 인증 코드",
+                "인증 코드: " + code + "\n" + (codeTtlMillis / 60000) + "분 안에 입력해 주세요.");
+        log.info("이메일 인증 코드 발급: {}", normalized);
+        return 0;
+    }
+
+    // 인증 코드 확인
+    public Result verify(String email, String code) {
+        String normalized = normalize(email);
+        String codeHash = hash(normalized, code != null ? code.trim() : "");
+
+        if (redisEnabled) {
+            Long result = redisTemplate.execute(VERIFY_SCRIPT, keys(normalized),
+                    codeHash, String.valueOf(maxAttempts), String.valueOf(verifiedTtlMillis));
+            return toResult(result != null ? result : -1);
+        }
+        return verifyLocally(normalized, codeHash);
+    }
+
+    // 인증 완료 여부 확인 후 소모 (회원가입 시 한 번만 사용)
+    public boolean consumeVerified(String email) {
+        String normalized = normalize(email);
+        if (redisEnabled) {
+            Long deleted = redisTemplate.execute(CONSUME_SCRIPT, keys(normalized));
+            return deleted != null && deleted > 0;
+        }
+
+        boolean[] verified = {false};
+        localStates.computeIfPresent(normalized, (key, state) -> {
+            long now = System.currentTimeMillis();
+            verified[0] = state.verifiedUntil > now;
+            state.verifiedUntil = 0;
+            return state.isEmpty(now) ? null : state;
+        });
+        return verified[0];
+    }
+
+    private long issueInRedis(String normalized, String codeHash) {
+        Long result = redisTemplate.execute(ISSUE_SCRIPT, keys(normalized), codeHash,
+                String.valueOf(codeTtlMillis), String.valueOf(issueWindowMillis), String.valueOf(maxIssuesPerWindow));
+        return result != null && result < 0 ? -result : 0;
+    }
+
+    private long issueLocally(String normalized, String codeHash) {
+        long[] retryAfter = {0};
+        localStates.compute(normalized, (key, state) -> {
+            long now = System.currentTimeMillis();
+            if (state == null) {
+                state = new LocalState();
+            }
+            if (state.issueWindowEndsAt <= now) {
+                state.issueWindowEndsAt = now + issueWindowMillis;
+                state.issued = 0;
+            }
+            if (++state.issued > maxIssuesPerWindow) {
+                retryAfter[0] = Math.max(state.issueWindowEndsAt - now, 1);
+                return state;
+            }
+            state.codeHash = codeHash;
+            state.codeExpiresAt = now + codeTtlMillis;
+            state.attempts = 0;
+            return state;
+        });
+        return retryAfter[0];
+    }
+
+    private Result verifyLocally(String normalized, String codeHash) {
+        Result[] result = {Result.EXPIRED};
+        localStates.computeIfPresent(normalized, (key, state) -> {
+            long now = System.currentTimeMillis();
+            if (state.codeHash == null || state.codeExpiresAt <= now) {
+                result[0] = Result.EXPIRED;
+            } else if (++state.attempts > maxAttempts) {
+                state.codeHash = null;
+                result[0] = Result.TOO_MANY_ATTEMPTS;
+            } else if (state.codeHash.equals(codeHash)) {
+                state.codeHash = null;
+                state.verifiedUntil = now + verifiedTtlMillis;
+                result[0] = Result.VERIFIED;
+            } else {
+                result[0] = Result.MISMATCH;
+            }
+            return state;
+        });
+        return result[0];
+    }
+
+    // 메모리 모드: 만료된 상태 정리
+    @Scheduled(fixedDelayString = "${email.verification.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        if (!redisEnabled) {
+            long now = System.currentTimeMillis();
+            localStates.entrySet().removeIf(entry -> entry.getValue().isEmpty(now));
+        }
+    }
+
+    // 같은 이메일의 키는 해시 태그로 같은 슬롯에 배치 (Redis Cluster 에서도 스크립트 실행 가능)
+    private List<String> keys(String normalized) {
+        String tag = KEY_PREFIX + "{" + normalized + "}";
+        return List.of(tag + ":code", tag + ":issued", tag + ":verified");
+    }
+
+    private Result toResult(long value) {
+        if (value == 1) {
+            return Result.VERIFIED;
+        }
+        if (value == 0) {
+            return Result.MISMATCH;
+        }
+        return value == -2 ? Result.TOO_MANY_ATTEMPTS : Result.EXPIRED;
+    }
+
+    private String hash(String normalized, String code) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(hmacKey);
+            return HexFormat.of().formatHex(mac.doFinal((normalized + ":" + code).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("인증 코드 해시 생성 실패", e);
+        }
+    }
+
+    private String normalize(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("이메일을 입력해주세요.");
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 메모리 모드 상태 (compute 안에서만 변경)
+    private static final class LocalState {
+        private String codeHash;
+        private long codeExpiresAt;
+        private int attempts;
+        private int issued;
+        private long issueWindowEndsAt;
+        private long verifiedUntil;
+
+        private boolean isEmpty(long now) {
+            return (codeHash == null || codeExpiresAt <= now)
+                    && issueWindowEndsAt <= now
+                    && verifiedUntil <= now;
+        }
+    }
+}
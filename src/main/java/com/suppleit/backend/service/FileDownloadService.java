@@ -0,0 +1,203 @@
+package com.suppleit.backend.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+// 업로드 파일 응답 (이미지/첨부파일 공통)
+// - ETag(크기+수정시각), Last-Modified 로 조건부 GET 처리 (일치하면 304)
+// - Range 요청(단일 구간)은 206, 범위를 벗어나면 416 으로 응답해 이어받기 지원
+// - Tomcat 이 sendfile 을 지원하면 파일 경로와 구간만 넘겨 커널에서 바로 전송,
+//   아니면 FileChannel.transferTo 로 복사
+// - 로컬 디스크가 아닌 저장소(S3)는 presigned URL 로 리다이렉트해 저장소에서 바로 내려받게 함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDownloadService {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 전송할 구간 [start, end]
+    private record Range(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    private final BlobStore blobStore;
+
+    // 저장소의 파일을 응답으로 전송, 파일이 없으면 false (호출한 쪽에서 404 처리)
+    public boolean send(BlobStore.Area area, String key, MediaType contentType, String contentDisposition,
+                        CacheControl cacheControl, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path path = blobStore.localPath(area, key);
+        if (path != null) {
+            return send(path, contentType, contentDisposition, cacheControl, request, response);
+        }
+
+        if (!blobStore.exists(area, key)) {
+            return false;
+        }
+        URI url = blobStore.downloadUrl(area, key, contentType.toString(), contentDisposition);
+        if (url == null) {
+            return false;
+        }
+        // presigned URL 은 만료되므로 리다이렉트 응답은 캐시하지 않음 (Range/조건부 GET 은 저장소가 처리)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        response.sendRedirect(url.toString());
+        return true;
+    }
+
+    // 로컬 파일을 응답으로 전송, 파일이 없으면 false
+    private boolean send(Path path, MediaType contentType, String contentDisposition, CacheControl cacheControl,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!attributes.isRegularFile()) {
+            return false;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return true;  // 304 (ETag, Last-Modified 헤더는 checkNotModified 가 설정)
+        }
+
+        Range range = null;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            range = parseRange(rangeHeader, size);
+            if (range == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return true;
+            }
+            if (range.start() == 0 && range.end() == size - 1) {
+                range = null;  // 전체 구간이면 일반 응답
+            }
+        }
+
+        response.setContentType(contentType.toString());
+        if (contentDisposition != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        }
+        if (range == null) {
+            range = new Range(0, size - 1);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equals(request.getMethod()) || range.length() <= 0) {
+            return true;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 Tomcat 이 요청 처리 후 sendfile 로 전송 (end 는 배타적)
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return true;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;  // 전송 도중 파일이 줄어든 경우
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        return true;
+    }
+
+    // If-Range 가 없거나 현재 ETag/수정시각과 같을 때만 Range 적용 (다르면 전체 전송)
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            // HTTP 날짜는 초 단위
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // "bytes=start-end", "bytes=start-", "bytes=-suffix" 형식의 단일 구간만 지원
+    // 여러 구간 요청은 전체 구간으로 응답 (허용된 동작), 충족할 수 없으면 null
+    private Range parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new Range(0, size - 1);
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new Range(0, size - 1);
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            }
+            if (start >= size || start > end) {
+                return null;
+            }
+            return new Range(start, end);
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Range 헤더 무시: {}", header);
+            return new Range(0, size - 1);
+        }
+    }
+}
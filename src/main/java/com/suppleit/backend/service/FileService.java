@@ -1,111 +1,235 @@
 package com.suppleit.backend.service;
 
-import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Value;
+import com.suppleit.backend.mapper.UploadBlobMapper;
+import com.suppleit.backend.model.UploadBlob;
+import com.suppleit.backend.service.BlobStore.Area;
+import com.suppleit.backend.service.BlobStore.StagedBlob;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.util.HexFormat;
 
+@Slf4j
 @Service
 public class FileService {
 
-    @Value("${app.upload.image-dir}")
-    private String imageUploadDir;
+    private final UploadBlobMapper uploadBlobMapper;
+    private final BlobStore blobStore;
+    private final TransactionTemplate blobTransaction;
 
-    @Value("${app.upload.attachment-dir}")
-    private String attachmentUploadDir;
-
-    // 애플리케이션 시작 시 업로드 디렉토리 생성
-    @PostConstruct
-    public void init() {
-        try {
-            Path imagePath = Paths.get(imageUploadDir);
-            Path attachmentPath = Paths.get(attachmentUploadDir);
-            
-            System.out.println("이미지 업로드 경로: " + imagePath.toAbsolutePath());
-            System.out.println("첨부파일 업로드 경로: " + attachmentPath.toAbsolutePath());
-            
-            Files.createDirectories(imagePath);
-            Files.createDirectories(attachmentPath);
-        } catch (IOException e) {
-            throw new RuntimeException("업로드 디렉토리를 생성할 수 없습니다: " + e.getMessage(), e);
-        }
+    public FileService(UploadBlobMapper uploadBlobMapper, BlobStore blobStore,
+                       PlatformTransactionManager transactionManager) {
+        this.uploadBlobMapper = uploadBlobMapper;
+        this.blobStore = blobStore;
+        // 참조 수 변경과 실제 파일 반영은 항상 독립된 트랜잭션으로 처리
+        // (공지사항 트랜잭션의 afterCommit 에서도 호출되므로 기존 트랜잭션에 합류하지 않음)
+        this.blobTransaction = new TransactionTemplate(transactionManager);
+        this.blobTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     // 이미지 저장
     public String saveImage(MultipartFile file) throws IOException {
         // 이미지 파일 검증
-        if (!isImageFile(file)) {
+        if (!isImageFile(file.getContentType())) {
+            throw new IllegalArgumentException("유효한 이미지 파일만 업로드 가능합니다.");
+        }
+        return saveFile(file.getInputStream(), file.getOriginalFilename(), Area.IMAGE, "img");
+    }
+
+    // 이미지 저장 (스트리밍 업로드, 요청 본문에서 바로 읽음)
+    public String saveImage(InputStream in, String originalFileName, String contentType) throws IOException {
+        if (!isImageFile(contentType)) {
             throw new IllegalArgumentException("유효한 이미지 파일만 업로드 가능합니다.");
         }
-        return saveFile(file, imageUploadDir, "img");
+        return saveFile(in, originalFileName, Area.IMAGE, "img");
     }
 
     // 첨부파일 저장
     public String saveAttachment(MultipartFile file) throws IOException {
-        return saveFile(file, attachmentUploadDir, "file");
+        return saveFile(file.getInputStream(), file.getOriginalFilename(), Area.ATTACHMENT, "file");
+    }
+
+    // 첨부파일 저장 (스트리밍 업로드, 요청 본문에서 바로 읽음)
+    public String saveAttachment(InputStream in, String originalFileName) throws IOException {
+        return saveFile(in, originalFileName, Area.ATTACHMENT, "file");
     }
 
-    // 파일 저장 공통 로직
-    private String saveFile(MultipartFile file, String baseDir, String prefix) throws IOException {
-        // 날짜 기반 디렉토리 생성
-        LocalDate now = LocalDate.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        Path uploadPath = Paths.get(baseDir + datePath);
+    // 파일 저장 공통 로직 (내용 해시 기준 중복 제거)
+    // 저장소에 임시로 올리면서 SHA-256 을 함께 계산하므로 바이트를 한 번만 읽음
+    // 같은 내용이 이미 있으면 임시 저장본을 지우고 기존 경로를 반환 (참조 수 증가)
+    private String saveFile(InputStream source, String originalFileName, Area area, String prefix)
+            throws IOException {
+        String kind = area.name();
 
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        // 파일 확장자
+        int dot = originalFileName != null ? originalFileName.lastIndexOf(".") : -1;
+        String fileExtension = dot >= 0 ? originalFileName.substring(dot) : "";
+
+        MessageDigest messageDigest = newDigest();
+        StagedBlob staged;
+        try (InputStream in = new DigestInputStream(source, messageDigest)) {
+            staged = blobStore.stage(area, in);
         }
 
-        // 고유한 파일명 생성
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        String uniqueFileName = prefix + "_" + UUID.randomUUID().toString() + fileExtension;
-        
-        // 파일 저장
-        Path filePath = uploadPath.resolve(uniqueFileName);
-        Files.copy(file.getInputStream(), filePath);
-        
-        // 상대 경로 반환 (DB 저장용)
-        return datePath + "/" + uniqueFileName;
+        try {
+            String digest = HexFormat.of().formatHex(messageDigest.digest());
+
+            // 날짜 기반 디렉토리 + 내용 해시 파일명
+            String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+            String candidatePath = datePath + "/" + prefix + "_" + digest + fileExtension;
+
+            // 등록(acquire)이 잡은 행 잠금을 커밋까지 유지하므로 다른 노드의 참조 해제와 겹치지 않음
+            // 파일 반영에 실패하면 롤백되어 참조 수도 원래대로 돌아감
+            return inBlobTransaction(() -> {
+                uploadBlobMapper.acquire(UploadBlob.builder()
+                        .kind(kind)
+                        .digest(digest)
+                        .relativePath(candidatePath)
+                        .size(staged.size())
+                        .build());
+                String relativePath = uploadBlobMapper.getPathByDigest(kind, digest);
+
+                if (blobStore.exists(area, relativePath)) {
+                    log.debug("중복 업로드 감지, 기존 파일 사용: {}", relativePath);
+                } else {
+                    staged.commit(relativePath);
+                }
+
+                // 상대 경로 반환 (DB 저장용)
+                return relativePath;
+            });
+        } finally {
+            staged.discard();
+        }
+    }
+
+    // 파일 참조 해제 (마지막 참조였을 때만 실제 파일 삭제)
+    // 행 잠금(SELECT ... FOR UPDATE) 상태에서 판단과 삭제를 한 트랜잭션으로 처리하므로
+    // 다른 노드가 같은 파일을 다시 등록하는 중이면 그 커밋 이후에 판단함
+    // 등록되지 않은 파일(참조 수 관리 이전에 저장된 파일 등)은 건드리지 않고 정리 작업에 맡김
+    private boolean releaseFile(Area area, String relativePath) throws IOException {
+        String kind = area.name();
+        return inBlobTransaction(() -> {
+            UploadBlob blob = uploadBlobMapper.lockByPath(kind, relativePath);
+            if (blob == null || blob.getRefCount() <= 0) {
+                return false;
+            }
+            if (blob.getRefCount() > 1) {
+                uploadBlobMapper.release(kind, relativePath);
+                return false;  // 다른 공지사항이 아직 사용 중
+            }
+            // 마지막 참조: 행 잠금을 쥔 채로 파일까지 삭제
+            // (커밋이 실패해 행만 남더라도 다음 업로드가 파일이 없는 것을 보고 다시 저장함)
+            uploadBlobMapper.deleteByPath(kind, relativePath);
+            blobStore.delete(area, relativePath);
+            return true;
+        });
+    }
+
+    // 사용하는 공지사항이 없는 이미지 정리 (축소본 포함)
+    // cutoff 이후 다시 참조가 추가된 파일(같은 내용 재업로드)은 남겨 둠
+    public boolean deleteOrphanImage(String relativePath, Instant cutoff) throws IOException {
+        if (!deleteOrphan(Area.IMAGE, relativePath, cutoff)) {
+            return false;
+        }
+        deleteVariants(relativePath);
+        return true;
+    }
+
+    // 사용하는 공지사항이 없는 첨부파일 정리
+    public boolean deleteOrphanAttachment(String relativePath, Instant cutoff) throws IOException {
+        return deleteOrphan(Area.ATTACHMENT, relativePath, cutoff);
+    }
+
+    private boolean deleteOrphan(Area area, String relativePath, Instant cutoff) throws IOException {
+        String kind = area.name();
+        return inBlobTransaction(() -> {
+            UploadBlob blob = uploadBlobMapper.lockByPath(kind, relativePath);
+            if (blob != null) {
+                if (blob.getUpdatedAt() != null
+                        && blob.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().isAfter(cutoff)) {
+                    return false;
+                }
+                uploadBlobMapper.deleteByPath(kind, relativePath);
+            }
+            blobStore.delete(area, relativePath);
+            return true;
+        });
+    }
+
+    private void deleteVariants(String relativePath) throws IOException {
+        for (ImageVariantService.Variant variant : ImageVariantService.Variant.values()) {
+            blobStore.delete(Area.IMAGE, variantPath(relativePath, variant.suffix()));
+        }
+    }
+
+    // 파일 작업을 포함한 DB 작업을 독립된 트랜잭션으로 실행 (IOException 이면 롤백 후 그대로 전달)
+    private <T> T inBlobTransaction(BlobWork<T> work) throws IOException {
+        try {
+            return blobTransaction.execute(status -> {
+                try {
+                    return work.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlobWork<T> {
+        T run() throws IOException;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
     
     // 이미지 파일 검증
-    private boolean isImageFile(MultipartFile file) {
-        String contentType = file.getContentType();
+    private boolean isImageFile(String contentType) {
         return contentType != null && contentType.startsWith("image/");
     }
     
-    // 이미지 전체 경로 가져오기
-    public Path getImagePath(String relativePath) {
-        return Paths.get(imageUploadDir + relativePath);
-    }
-    
-    // 첨부파일 전체 경로 가져오기
-    public Path getAttachmentPath(String relativePath) {
-        return Paths.get(attachmentUploadDir + relativePath);
+    // 이미지 축소본 상대 경로 (img_xxx.jpg -> img_xxx_thumb.jpg, 원본과 같은 디렉토리)
+    public static String variantPath(String relativePath, String suffix) {
+        int dot = relativePath.lastIndexOf('.');
+        if (dot < 0 || dot < relativePath.lastIndexOf('/')) {
+            return relativePath + "_" + suffix;
+        }
+        return relativePath.substring(0, dot) + "_" + suffix + relativePath.substring(dot);
     }
-    
-    // 이미지 삭제
+
+    // 이미지 삭제 (다른 곳에서 사용하지 않을 때만, 축소본 포함)
     public void deleteImage(String relativePath) throws IOException {
-        if (relativePath != null && !relativePath.isEmpty()) {
-            Path filePath = Paths.get(imageUploadDir + relativePath);
-            Files.deleteIfExists(filePath);
+        if (relativePath != null && !relativePath.isEmpty() && releaseFile(Area.IMAGE, relativePath)) {
+            deleteVariants(relativePath);
         }
     }
     
-    // 첨부파일 삭제
+    // 첨부파일 삭제 (다른 곳에서 사용하지 않을 때만)
     public void deleteAttachment(String relativePath) throws IOException {
         if (relativePath != null && !relativePath.isEmpty()) {
-            Path filePath = Paths.get(attachmentUploadDir + relativePath);
-            Files.deleteIfExists(filePath);
+            releaseFile(Area.ATTACHMENT, relativePath);
         }
     }
     
@@ -0,0 +1,312 @@
+package com.suppleit.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 공지사항 이미지 축소본 생성 (썸네일, 중간 크기)
+// 업로드 직후 백그라운드에서 ImageIO 로 만들어 저장소의 원본 옆에 저장 (img_xxx.jpg -> img_xxx_thumb.jpg)
+// 원본은 서브샘플링으로 필요한 해상도까지만 디코딩해 큰 사진도 메모리를 적게 사용
+// JPEG/PNG 만 처리하고, 나머지(GIF 애니메이션, SVG 등)나 이미 작은 이미지는 원본을 그대로 제공
+// JPEG 의 EXIF 방향(Orientation) 값대로 먼저 회전/반전한 뒤 축소 (축소본은 EXIF 없이 저장되므로)
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String EXIF_MARKER_TAG = "225";  // APP1
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    public enum Variant {
+        THUMB("thumb"),
+        MEDIUM("medium");
+
+        private final String suffix;
+
+        Variant(String suffix) {
+            this.suffix = suffix;
+        }
+
+        public String suffix() {
+            return suffix;
+        }
+
+        // 요청 파라미터(size=thumb|medium)에 해당하는 축소본, 없으면 null (원본)
+        public static Variant from(String size) {
+            if (size == null) {
+                return null;
+            }
+            for (Variant variant : values()) {
+                if (variant.suffix.equalsIgnoreCase(size)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final BlobStore blobStore;
+    private final int thumbSize;
+    private final int mediumSize;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(
+            BlobStore blobStore,
+            @Value("${app.upload.image-variant.thumb-size:320}") int thumbSize,
+            @Value("${app.upload.image-variant.medium-size:1280}") int mediumSize,
+            @Value("${app.upload.image-variant.threads:2}") int threads,
+            @Value("${app.upload.image-variant.queue-size:200}") int queueSize) {
+        this.blobStore = blobStore;
+        this.thumbSize = thumbSize;
+        this.mediumSize = mediumSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        // 대기열이 가득 차면 생성을 건너뜀 (축소본이 없으면 원본을 제공하므로 기능상 문제 없음)
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("이미지 축소본 생성 대기열 초과, 원본으로 제공"));
+    }
+
+    // 축소본 생성 예약 (업로드 직후 호출)
+    public void generateAsync(String imagePath) {
+        if (imagePath == null || formatOf(imagePath) == null) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                generate(imagePath);
+            } catch (Exception e) {
+                log.warn("이미지 축소본 생성 실패 ({}): {}", imagePath, e.getMessage());
+            }
+        });
+    }
+
+    // 요청한 축소본의 저장소 키 (아직 없거나 만들 수 없으면 원본 키)
+    public String resolve(String imagePath, Variant variant) throws IOException {
+        if (variant == null) {
+            return imagePath;
+        }
+        String variantPath = FileService.variantPath(imagePath, variant.suffix());
+        return blobStore.exists(BlobStore.Area.IMAGE, variantPath) ? variantPath : imagePath;
+    }
+
+    // 축소본 생성 (이미 있거나 만들 필요가 없으면 건너뜀)
+    void generate(String imagePath) throws IOException {
+        String format = formatOf(imagePath);
+        if (blobStore.exists(BlobStore.Area.IMAGE, FileService.variantPath(imagePath, Variant.THUMB.suffix()))) {
+            return;  // 같은 내용의 이미지가 다시 업로드된 경우 (이미 생성됨)
+        }
+
+        BufferedImage medium;
+        int originalLongest;
+        try (InputStream source = blobStore.open(BlobStore.Area.IMAGE, imagePath);
+             ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                // EXIF 방향을 읽기 위해 JPEG 은 메타데이터도 함께 읽음
+                reader.setInput(input, true, !"jpg".equals(format));
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                originalLongest = Math.max(width, height);
+                if (originalLongest <= thumbSize) {
+                    return;  // 이미 충분히 작음
+                }
+
+                // 중간 크기의 두 배 이상 해상도가 남도록 정수 배 서브샘플링해 디코딩
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, originalLongest / (mediumSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+                int orientation = "jpg".equals(format) ? exifOrientation(reader.getImageMetadata(0)) : 1;
+                medium = scale(orient(decoded, orientation, format), mediumSize, format);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        // 원본이 중간 크기 이하면 중간 크기 요청에도 원본 제공
+        if (originalLongest > mediumSize) {
+            write(medium, format, imagePath, Variant.MEDIUM);
+        }
+        write(scale(medium, thumbSize, format), format, imagePath, Variant.THUMB);
+        log.debug("이미지 축소본 생성 완료: {}", imagePath);
+    }
+
+    // JPEG 메타데이터의 EXIF APP1 세그먼트에서 방향 값 (1~8, 없거나 읽을 수 없으면 1)
+    static int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return 1;
+        }
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+        NodeList markers = root.getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (EXIF_MARKER_TAG.equals(marker.getAttribute("MarkerTag"))
+                    && marker.getUserObject() instanceof byte[] data) {
+                return exifOrientation(data);
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더(바이트 순서, 42, IFD0 위치) + IFD0 항목(12바이트)에서 Orientation 태그 값
+    static int exifOrientation(byte[] app1) {
+        if (app1.length < EXIF_HEADER.length + 8
+                || !Arrays.equals(app1, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return 1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, EXIF_HEADER.length, app1.length - EXIF_HEADER.length).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        long ifd = Integer.toUnsignedLong(tiff.getInt(4));
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort((int) ifd));
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == TAG_ORIENTATION) {
+                int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    // EXIF 방향 값대로 회전/반전 (5~8 은 가로/세로가 바뀜)
+    static BufferedImage orient(BufferedImage image, int orientation, String format) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        // 원본 좌표 (x, y) -> 결과 좌표, AffineTransform(m00, m10, m01, m11, m02, m12)
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 주대각선 기준 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 부대각선 기준 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean swap = orientation >= 5;
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 비율 유지 축소 (더 작으면 그대로)
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+    private BufferedImage scale(BufferedImage image, int maxSize, String format) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longest = Math.max(width, height);
+        if (longest <= maxSize) {
+            return image;
+        }
+
+        int targetWidth = Math.max(1, (int) Math.round((double) width * maxSize / longest));
+        int targetHeight = Math.max(1, (int) Math.round((double) height * maxSize / longest));
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        while (width != targetWidth || height != targetHeight) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    // 메모리에서 인코딩한 뒤 저장소에 한 번에 저장해 반쯤 쓰인 파일이 제공되지 않도록 함
+    private void write(BufferedImage image, String format, String imagePath, Variant variant) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, encoded)) {
+            return;
+        }
+        BlobStore.StagedBlob staged = blobStore.stage(BlobStore.Area.IMAGE,
+                new ByteArrayInputStream(encoded.toByteArray()));
+        try {
+            staged.commit(FileService.variantPath(imagePath, variant.suffix()));
+        } finally {
+            staged.discard();
+        }
+    }
+
+    // 축소본을 만들 출력 형식 (JPEG/PNG 만)
+    private static String formatOf(String imagePath) {
+        String lower = imagePath.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
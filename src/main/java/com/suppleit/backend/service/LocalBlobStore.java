@@ -0,0 +1,187 @@
+package com.suppleit.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// 로컬 디스크 저장소 (기본값)
+// 임시 저장본은 업로드 디렉토리 아래 .incoming 에 쓰고, 같은 파일 시스템 안에서 이름만 바꿔 확정
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private static final String INCOMING_DIR = ".incoming";
+
+    @Value("${app.upload.image-dir}")
+    private String imageUploadDir;
+
+    @Value("${app.upload.attachment-dir}")
+    private String attachmentUploadDir;
+
+    // 애플리케이션 시작 시 업로드 디렉토리 생성
+    @PostConstruct
+    public void init() {
+        try {
+            Path imagePath = Paths.get(imageUploadDir);
+            Path attachmentPath = Paths.get(attachmentUploadDir);
+
+            log.info("이미지 업로드 경로: {}", imagePath.toAbsolutePath());
+            log.info("첨부파일 업로드 경로: {}", attachmentPath.toAbsolutePath());
+
+            Files.createDirectories(imagePath);
+            Files.createDirectories(attachmentPath);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 디렉토리를 생성할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StagedBlob stage(Area area, InputStream in) throws IOException {
+        Path incomingDir = Paths.get(baseDir(area) + INCOMING_DIR);
+        Files.createDirectories(incomingDir);
+        Path tempFile = Files.createTempFile(incomingDir, "upload_", ".part");
+        try {
+            long size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return new LocalStagedBlob(area, tempFile, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists(Area area, String key) {
+        return Files.isRegularFile(resolve(area, key));
+    }
+
+    @Override
+    public InputStream open(Area area, String key) throws IOException {
+        return Files.newInputStream(resolve(area, key));
+    }
+
+    @Override
+    public void delete(Area area, String key) throws IOException {
+        Files.deleteIfExists(resolve(area, key));
+    }
+
+    @Override
+    public List<String> listDirectories(Area area, String prefix) throws IOException {
+        List<String> directories = new ArrayList<>();
+        Path parent = resolve(area, prefix);
+        if (!Files.isDirectory(parent)) {
+            return directories;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(parent, Files::isDirectory)) {
+            for (Path path : stream) {
+                directories.add(prefix + path.getFileName() + "/");
+            }
+        }
+        return directories;
+    }
+
+    @Override
+    public List<BlobInfo> listFiles(Area area, String prefix) throws IOException {
+        List<BlobInfo> files = new ArrayList<>();
+        Path parent = resolve(area, prefix);
+        if (!Files.isDirectory(parent)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(parent)) {
+            for (Path path : stream) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue;  // 목록 조회 도중 삭제됨
+                }
+                if (attributes.isRegularFile()) {
+                    files.add(new BlobInfo(prefix + path.getFileName(), attributes.size(),
+                            attributes.lastModifiedTime().toInstant()));
+                }
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public void purgeStaged(Area area, Instant cutoff) throws IOException {
+        Path incomingDir = Paths.get(baseDir(area) + INCOMING_DIR);
+        if (!Files.isDirectory(incomingDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(incomingDir)) {
+            for (Path path : stream) {
+                if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Path localPath(Area area, String key) {
+        return resolve(area, key);
+    }
+
+    private String baseDir(Area area) {
+        return area == Area.IMAGE ? imageUploadDir : attachmentUploadDir;
+    }
+
+    // 업로드 디렉토리 밖을 가리키는 키(../ 등)는 거부
+    private Path resolve(Area area, String key) {
+        Path root = Paths.get(baseDir(area)).toAbsolutePath().normalize();
+        Path path = Paths.get(baseDir(area) + key).toAbsolutePath().normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    private final class LocalStagedBlob implements StagedBlob {
+        private final Area area;
+        private final Path tempFile;
+        private final long size;
+        private boolean committed;
+
+        private LocalStagedBlob(Area area, Path tempFile, long size) {
+            this.area = area;
+            this.tempFile = tempFile;
+            this.size = size;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public void commit(String key) throws IOException {
+            Path target = resolve(area, key);
+            Files.createDirectories(target.getParent());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            committed = true;
+        }
+
+        @Override
+        public void discard() throws IOException {
+            if (!committed) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MailOutboxMapper;
+import com.suppleit.backend.model.MailOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 메일 발송 대기열(Mail_Outbox) 처리기
+// - 워커 스레드가 대기열에서 배치 단위로 선점 → 배치 전체를 SMTP 연결 하나로 발송 (JavaMailSender.send(MimeMessage...))
+// - 실패 시 지수 백오프로 재시도, 최대 횟수를 넘으면 FAILED
+// - 수신 도메인별 초당 발송 수 제한 (초과분은 잠시 뒤로 미룸)
+// - 발송/재시도/실패 건수와 배치 처리 시간은 Micrometer 지표로 노출
+// - 인증 코드처럼 DB 에 남기지 않는 단발성 메일은 sendAsync 로 별도의 제한된 풀에서 바로 발송
+//   (대기열 워커와 스레드를 나누지 않고, 풀과 큐가 가득 차면 MailSendBusyException 으로 바로 거절)
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final MailOutboxMapper mailOutboxMapper;
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseMillis;
+    private final double perDomainPerSecond;
+    private final long staleClaimMillis;
+
+    private final ExecutorService workers;
+    private final ThreadPoolExecutor asyncSenders;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong workerSequence = new AtomicLong();
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<String, DomainRateLimiter> domainLimiters = new ConcurrentHashMap<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter asyncRejectedCounter;
+    private final Timer batchTimer;
+
+    public MailDispatcher(
+            MailOutboxMapper mailOutboxMapper,
+            JavaMailSender mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${mail.from:${spring.mail.username:}}") String from,
+            @Value("${mail.dispatch.workers:2}") int workerCount,
+            @Value("${mail.dispatch.batch-size:50}") int batchSize,
+            @Value("${mail.dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${mail.dispatch.retry-base-ms:30000}") long retryBaseMillis,
+            @Value("${mail.dispatch.per-domain-per-second:5}") double perDomainPerSecond,
+            @Value("${mail.dispatch.stale-claim-ms:600000}") long staleClaimMillis,
+            @Value("${mail.async.threads:2}") int asyncThreads,
+            @Value("${mail.async.queue-capacity:100}") int asyncQueueCapacity) {
+        this.mailOutboxMapper = mailOutboxMapper;
+        this.mailSender = mailSender;
+        this.from = from;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        this.perDomainPerSecond = perDomainPerSecond;
+        this.staleClaimMillis = staleClaimMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicInteger asyncThreadNumber = new AtomicInteger();
+        this.asyncSenders = new ThreadPoolExecutor(
+                asyncThreads, asyncThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(asyncQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-async-" + asyncThreadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("mail.outbox.retried");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.rateLimitedCounter = meterRegistry.counter("mail.outbox.rate_limited");
+        this.asyncRejectedCounter = meterRegistry.counter("mail.async.rejected");
+        this.batchTimer = meterRegistry.timer("mail.outbox.batch");
+        meterRegistry.gauge("mail.outbox.pending", pendingCount);
+    }
+
+    // 주기적으로 재시도 대상 확인 + 오래 선점된 메일 복구
+    @Scheduled(fixedDelayString = "${mail.dispatch.poll-interval-ms:10000}")
+    public void poll() {
+        try {
+            int released = mailOutboxMapper.releaseStaleClaims(
+                    LocalDateTime.now().minusNanos(staleClaimMillis * 1_000_000));
+            if (released > 0) {
+                log.warn("오래 선점된 메일 {}건을 대기열로 되돌렸습니다.", released);
+            }
+            pendingCount.set(mailOutboxMapper.countPending());
+        } catch (Exception e) {
+            log.warn("메일 대기열 확인 실패: {}", e.getMessage());
+        }
+        wakeUp();
+    }
+
+    // 대기열 처리 시작 (이미 모든 워커가 동작 중이면 무시)
+    public void wakeUp() {
+        while (true) {
+            int active = activeWorkers.get();
+            if (active >= workerCount) {
+                return;
+            }
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                workers.execute(this::drain);
+            }
+        }
+    }
+
+    // 대기열을 거치지 않는 단발성 메일 발송 (요청 스레드는 기다리지 않음, 실패 시 재시도 없음)
+    // 발송 풀과 큐가 가득 차면 쌓아 두지 않고 바로 MailSendBusyException
+    public void sendAsync(String recipient, String subject, String body) {
+        MailOutbox mail = MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build();
+        try {
+            asyncSenders.execute(() -> {
+                try {
+                    mailSender.send(createMessage(mail));
+                    sentCounter.increment();
+                } catch (MessagingException | MailException e) {
+                    failedCounter.increment();
+                    log.warn("메일 발송 실패 (수신자: {}): {}", recipient, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            asyncRejectedCounter.increment();
+            throw new MailSendBusyException("메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 대기열이 빌 때까지 배치 단위로 처리
+    private void drain() {
+        String workerId = nodeId + "-" + workerSequence.incrementAndGet();
+        try {
+            while (processBatch(workerId) > 0) {
+                // 계속 처리
+            }
+        } catch (Exception e) {
+            log.error("메일 발송 워커 오류: {}", e.getMessage(), e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private int processBatch(String workerId) {
+        int claimed = mailOutboxMapper.claimBatch(workerId, batchSize);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        batchTimer.record(() -> {
+            List<MailOutbox> sendable = new ArrayList<>();
+            for (MailOutbox mail : mailOutboxMapper.getClaimedMails(workerId)) {
+                if (limiterFor(mail.getRecipient()).tryAcquire()) {
+                    sendable.add(mail);
+                } else {
+                    // 도메인 발송 한도 초과: 시도 횟수는 그대로 두고 잠시 뒤로 미룸
+                    rateLimitedCounter.increment();
+                    mailOutboxMapper.scheduleRetry(mail.getMailId(), mail.getAttempts(),
+                            LocalDateTime.now().plusSeconds(1), "rate limited");
+                }
+            }
+            send(sendable);
+        });
+        return claimed;
+    }
+
+    // 배치 전체를 하나의 SMTP 연결로 발송
+    private void send(List<MailOutbox> mails) {
+        if (mails.isEmpty()) {
+            return;
+        }
+
+        Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+        for (MailOutbox mail : mails) {
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException e) {
+                handleFailure(mail, e);
+            }
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                // 연결 실패 등 메시지별 결과가 없는 경우 전체 재시도
+                messages.values().forEach(mail -> handleFailure(mail, e));
+                return;
+            }
+        } catch (MailException e) {
+            messages.values().forEach(mail -> handleFailure(mail, e));
+            return;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure != null) {
+                handleFailure(entry.getValue(), failure);
+            } else {
+                sentIds.add(entry.getValue().getMailId());
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            mailOutboxMapper.markSent(sentIds);
+            sentCounter.increment(sentIds.size());
+            log.info("메일 {}건 발송 완료", sentIds.size());
+        }
+    }
+
+    private MimeMessage createMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        if (from != null && !from.isEmpty()) {
+            helper.setFrom(from);
+        }
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), false);
+        return message;
+    }
+
+    // 지수 백오프로 재시도 예약, 최대 횟수 초과 시 실패 처리
+    private void handleFailure(MailOutbox mail, Exception e) {
+        int attempts = mail.getAttempts() + 1;
+        String error = e.getMessage() != null && e.getMessage().length() > 500
+                ? e.getMessage().substring(0, 500) : e.getMessage();
+
+        if (attempts >= maxAttempts) {
+            mailOutboxMapper.markFailed(mail.getMailId(), attempts, error);
+            failedCounter.increment();
+            log.error("메일 발송 최종 실패 (ID: {}, 수신자: {}): {}", mail.getMailId(), mail.getRecipient(), error);
+            return;
+        }
+
+        long delay = retryBaseMillis << Math.min(attempts - 1, 10);
+        mailOutboxMapper.scheduleRetry(mail.getMailId(), attempts,
+                LocalDateTime.now().plusNanos(delay * 1_000_000), error);
+        retriedCounter.increment();
+        log.warn("메일 발송 실패, {}ms 후 재시도 (ID: {}): {}", delay, mail.getMailId(), error);
+    }
+
+    private DomainRateLimiter limiterFor(String recipient) {
+        int at = recipient.lastIndexOf('@');
+        String domain = at >= 0 ? recipient.substring(at + 1).toLowerCase(Locale.ROOT) : "";
+        return domainLimiters.computeIfAbsent(domain, d -> new DomainRateLimiter(perDomainPerSecond));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        asyncSenders.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+        asyncSenders.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 도메인별 토큰 버킷 (초당 permitsPerSecond 건, 최대 1초치 누적)
+    private static final class DomainRateLimiter {
+
+        private final double permitsPerSecond;
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        private DomainRateLimiter(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.tokens = permitsPerSecond;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(permitsPerSecond, tokens + (now - lastRefillNanos) / 1e9 * permitsPerSecond);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MailOutboxMapper;
+import com.suppleit.backend.model.MailOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메일 발송 요청을 대기열(Mail_Outbox)에 적재
+// 호출한 쪽 트랜잭션과 함께 커밋되고, 커밋 이후 발송 워커를 깨움 (요청 스레드는 SMTP 를 기다리지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxMapper mailOutboxMapper;
+    private final MailDispatcher mailDispatcher;
+
+    public void enqueue(String recipient, String subject, String body) {
+        MailOutbox mail = MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build();
+        mailOutboxMapper.insertMail(mail);
+        log.info("메일 발송 대기열 적재 (ID: {}, 수신자: {})", mail.getMailId(), recipient);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailDispatcher.wakeUp();
+                }
+            });
+        } else {
+            mailDispatcher.wakeUp();
+        }
+    }
+}
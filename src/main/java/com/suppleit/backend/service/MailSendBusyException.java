@@ -0,0 +1,13 @@
+package com.suppleit.backend.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 단발성 메일 발송 풀과 큐가 가득 찬 경우 (503 응답)
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "요청이 많아 잠시 후 다시 시도해주세요.")
+public class MailSendBusyException extends RuntimeException {
+
+    public MailSendBusyException(String message) {
+        super(message);
+    }
+}
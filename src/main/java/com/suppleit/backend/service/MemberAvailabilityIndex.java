@@ -0,0 +1,251 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이메일/닉네임 사용 가능 여부를 DB 조회 없이 판단하기 위한 메모리 인덱스
+// 기동 시 Member 테이블에서 적재하고, 가입/수정/탈퇴 시 커밋 이후 갱신
+// Redis 사용 시 다른 노드의 변경도 Pub/Sub 으로 반영, 주기적으로 전체 재적재해 어긋남 보정
+@Slf4j
+@Component
+public class MemberAvailabilityIndex {
+
+    private static final String CHANNEL = "member:keys";
+
+    private final MemberMapper memberMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisEnabled;
+
+    // 정규화된 이메일 집합
+    private volatile Set<String> emails = ConcurrentHashMap.newKeySet();
+
+    // 정규화된 닉네임 -> 사용 중인 회원 수 (닉네임은 DB 에 유니크 제약이 없음)
+    private volatile Map<String, Integer> nicknames = new ConcurrentHashMap<>();
+
+    // 적재 완료 전에는 DB 로 조회
+    private volatile boolean ready;
+
+    // 재적재 중에 변경된 이메일/닉네임 (교체 직후 DB 에서 다시 확인해 새 집합에 반영, this 로 보호)
+    private Set<String> emailsChangedDuringReload;
+    private Set<String> nicknamesChangedDuringReload;
+
+    public MemberAvailabilityIndex(
+            MemberMapper memberMapper,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled) {
+        this.memberMapper = memberMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisEnabled = redisEnabled;
+    }
+
+    @PostConstruct
+    public void init() {
+        RedisMessageListenerContainer container = redisEnabled ? listenerContainerProvider.getIfAvailable() : null;
+        if (container != null) {
+            container.addMessageListener((message, pattern) ->
+                    applyRemote(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(CHANNEL));
+        }
+        reload();
+    }
+
+    // Member 테이블에서 전체 재적재 (새 집합을 만든 뒤 교체)
+    // 스캔 도중 들어온 변경은 스캔 결과에 포함됐는지 알 수 없으므로, 교체 직후 해당 항목만 DB 에서 다시 확인
+    @Scheduled(initialDelayString = "${member.availability.reload-interval-ms:3600000}",
+            fixedDelayString = "${member.availability.reload-interval-ms:3600000}")
+    public void reload() {
+        synchronized (this) {
+            emailsChangedDuringReload = new HashSet<>();
+            nicknamesChangedDuringReload = new HashSet<>();
+        }
+        try {
+            Set<String> loadedEmails = ConcurrentHashMap.newKeySet();
+            Map<String, Integer> loadedNicknames = new ConcurrentHashMap<>();
+            memberMapper.scanMemberKeys(context -> {
+                Member member = context.getResultObject();
+                loadedEmails.add(normalize(member.getEmail()));
+                if (member.getNickname() != null) {
+                    loadedNicknames.merge(normalize(member.getNickname()), 1, Integer::sum);
+                }
+            });
+            synchronized (this) {
+                emails = loadedEmails;
+                nicknames = loadedNicknames;
+                emailsChangedDuringReload.forEach(this::recheckEmail);
+                nicknamesChangedDuringReload.forEach(this::recheckNickname);
+                ready = true;
+            }
+            log.info("회원 가용성 인덱스 적재 완료: 이메일 {}개, 닉네임 {}개", loadedEmails.size(), loadedNicknames.size());
+        } catch (Exception e) {
+            log.warn("회원 가용성 인덱스 적재 실패 (DB 조회로 대체): {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                emailsChangedDuringReload = null;
+                nicknamesChangedDuringReload = null;
+            }
+        }
+    }
+
+    private void recheckEmail(String email) {
+        if (memberMapper.checkEmail(email) > 0) {
+            emails.add(normalize(email));
+        } else {
+            emails.remove(normalize(email));
+        }
+    }
+
+    private void recheckNickname(String nickname) {
+        int count = memberMapper.checkNickname(nickname);
+        if (count > 0) {
+            nicknames.put(normalize(nickname), count);
+        } else {
+            nicknames.remove(normalize(nickname));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isEmailTaken(String email) {
+        return emails.contains(normalize(email));
+    }
+
+    public boolean isNicknameTaken(String nickname) {
+        return nicknames.containsKey(normalize(nickname));
+    }
+
+    // 가입 반영 (커밋 이후)
+    public void memberAdded(String email, String nickname) {
+        afterCommit(() -> publish("ADD", email, nickname));
+    }
+
+    // 닉네임 변경 반영 (커밋 이후)
+    public void nicknameChanged(String oldNickname, String newNickname) {
+        if (oldNickname != null && oldNickname.equals(newNickname)) {
+            return;
+        }
+        afterCommit(() -> publish("RENAME", oldNickname, newNickname));
+    }
+
+    // 탈퇴 반영 (커밋 이후)
+    public void memberRemoved(String email, String nickname) {
+        afterCommit(() -> publish("REMOVE", email, nickname));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 로컬 반영 후 다른 노드에 전파 (Redis 사용 시 자기 메시지도 수신하므로 로컬 반영은 한 번만)
+    private void publish(String type, String first, String second) {
+        if (redisEnabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, type + "\t" + nullToEmpty(first) + "\t" + nullToEmpty(second));
+                return;
+            } catch (Exception e) {
+                log.warn("회원 인덱스 변경 전파 실패: {}", e.getMessage());
+            }
+        }
+        apply(type, first, second);
+    }
+
+    private void applyRemote(String payload) {
+        String[] parts = payload.split("\t", -1);
+        if (parts.length == 3) {
+            apply(parts[0], emptyToNull(parts[1]), emptyToNull(parts[2]));
+        }
+    }
+
+    private synchronized void apply(String type, String first, String second) {
+        recordDuringReload(type, first, second);
+        switch (type) {
+            case "ADD" -> {
+                emails.add(normalize(first));
+                addNickname(second);
+            }
+            case "RENAME" -> {
+                removeNickname(first);
+                addNickname(second);
+            }
+            case "REMOVE" -> {
+                emails.remove(normalize(first));
+                removeNickname(second);
+            }
+            default -> log.warn("알 수 없는 회원 인덱스 변경: {}", type);
+        }
+    }
+
+    // 재적재 중이면 변경된 항목 기록 (RENAME 은 두 값 모두 닉네임)
+    private void recordDuringReload(String type, String first, String second) {
+        if (emailsChangedDuringReload == null) {
+            return;
+        }
+        if ("RENAME".equals(type)) {
+            addIfNotNull(nicknamesChangedDuringReload, first);
+        } else {
+            addIfNotNull(emailsChangedDuringReload, first);
+        }
+        addIfNotNull(nicknamesChangedDuringReload, second);
+    }
+
+    private static void addIfNotNull(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private void addNickname(String nickname) {
+        if (nickname != null) {
+            nicknames.merge(normalize(nickname), 1, Integer::sum);
+        }
+    }
+
+    private void removeNickname(String nickname) {
+        if (nickname != null) {
+            nicknames.computeIfPresent(normalize(nickname), (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -2,7 +2,6 @@ package com.suppleit.backend.service;
 
 import com.suppleit.backend.constants.SocialType;
 import com.suppleit.backend.constants.MemberRole;
-import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
@@ -15,11 +14,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MemberDetailsService implements UserDetailsService {
 
-    private final MemberMapper memberMapper;
+    private final MemberLookup memberLookup;  // 요청 단위 캐시 (이후 컨트롤러/서비스 조회와 공유)
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         if (member == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email);
         }
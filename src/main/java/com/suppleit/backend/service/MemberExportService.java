@@ -0,0 +1,124 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.MemberSummaryDto;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// 회원 전체 내보내기 (CSV / NDJSON)
+// member_id 구간마다 짧은 읽기 전용 트랜잭션 안에서 MyBatis Cursor 로 한 행씩 읽어 바로 출력
+// List 로 모으지 않으므로 회원 수와 관계없이 메모리 사용량이 일정하고, DB 연결도 구간 단위로만 점유
+@Slf4j
+@Service
+public class MemberExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final byte[] CSV_HEADER =
+            "member_id,email,nickname,gender,birth,member_role,social_type\n".getBytes(StandardCharsets.UTF_8);
+
+    private final MemberMapper memberMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+
+    public MemberExportService(
+            MemberMapper memberMapper,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.export.chunk-size:5000}") int chunkSize) {
+        this.memberMapper = memberMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    // 전체 회원을 지정한 형식으로 출력 (구간마다 flush)
+    public long export(OutputStream out, Format format) throws IOException {
+        if (format == Format.CSV) {
+            out.write(CSV_HEADER);
+        }
+
+        long lastId = 0;
+        long total = 0;
+        while (true) {
+            long[] chunk = exportChunk(out, format, lastId);  // {읽은 건수, 마지막 member_id}
+            if (chunk[0] == 0) {
+                break;
+            }
+            total += chunk[0];
+            lastId = chunk[1];
+            out.flush();
+            if (chunk[0] < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("회원 내보내기 완료: {}건, 형식: {}", total, format);
+        return total;
+    }
+
+    private long[] exportChunk(OutputStream out, Format format, long afterId) {
+        return readOnlyTransaction.execute(status -> {
+            long count = 0;
+            long lastId = afterId;
+            try (Cursor<Member> cursor = memberMapper.scanMembersAfter(afterId, chunkSize)) {
+                for (Member member : cursor) {
+                    writeRow(out, format, member);
+                    lastId = member.getMemberId();
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new long[] {count, lastId};
+        });
+    }
+
+    private void writeRow(OutputStream out, Format format, Member member) throws IOException {
+        if (format == Format.NDJSON) {
+            out.write(objectMapper.writeValueAsBytes(MemberSummaryDto.fromEntity(member)));
+            out.write('\n');
+            return;
+        }
+
+        String row = member.getMemberId() + ","
+                + csv(member.getEmail()) + ","
+                + csv(member.getNickname()) + ","
+                + csv(member.getGender() != null ? member.getGender().name() : null) + ","
+                + csv(member.getBirth() != null ? member.getBirth().toString() : null) + ","
+                + csv(member.getMemberRoleString()) + ","
+                + csv(member.getSocialTypeString()) + "\n";
+        out.write(row.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // CSV 값 이스케이프 (쉼표/따옴표/줄바꿈 포함 시 따옴표로 감싸기)
+    // 스프레드시트가 수식으로 해석하는 값(=, +, -, @, 탭, CR 로 시작)은 앞에 ' 를 붙여 문자열로 고정
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 요청 단위 회원 조회 캐시 (identity map)
+// 한 요청 안에서 같은 이메일로 여러 번 조회해도 SELECT 는 한 번만 실행
+// 요청 밖(스케줄러 등)에서는 캐시 없이 바로 조회
+@Component
+@RequiredArgsConstructor
+public class MemberLookup {
+
+    private static final String ATTRIBUTE = MemberLookup.class.getName() + ".members";
+
+    private final MemberMapper memberMapper;
+
+    // 이메일로 회원 조회 (없으면 null, 없는 결과도 요청 동안 캐시)
+    public Member findByEmail(String email) {
+        Map<String, Optional<Member>> members = currentRequestMembers();
+        if (members == null) {
+            return memberMapper.getMemberByEmail(email);
+        }
+
+        Optional<Member> cached = members.get(email);
+        if (cached == null) {
+            cached = Optional.ofNullable(memberMapper.getMemberByEmail(email));
+            members.put(email, cached);
+        }
+        return cached.orElse(null);
+    }
+
+    // 저장/수정한 회원을 캐시에 반영 (write-through)
+    public void put(Member member) {
+        Map<String, Optional<Member>> members = currentRequestMembers();
+        if (members != null && member.getEmail() != null) {
+            members.put(member.getEmail(), Optional.of(member));
+        }
+    }
+
+    // 캐시에서 제거 (삭제, 비밀번호 변경 등 캐시된 행과 DB 가 달라지는 경우)
+    public void evict(String email) {
+        Map<String, Optional<Member>> members = currentRequestMembers();
+        if (members != null) {
+            members.remove(email);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Optional<Member>> currentRequestMembers() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<String, Optional<Member>> members =
+                (Map<String, Optional<Member>>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (members == null) {
+            members = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, members, RequestAttributes.SCOPE_REQUEST);
+        }
+        return members;
+    }
+}
@@ -3,14 +3,17 @@ package com.suppleit.backend.service;
 import com.suppleit.backend.constants.MemberRole;
 import com.suppleit.backend.constants.SocialType;
 import com.suppleit.backend.dto.MemberDto;
+import com.suppleit.backend.dto.MemberSearchCondition;
+import com.suppleit.backend.dto.MemberSummaryDto;
 import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Member;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -19,7 +22,14 @@ import java.util.Optional;
 public class MemberService {
 
     private final MemberMapper memberMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberLookup memberLookup;
+    private final PasswordHashingService passwordHashingService;
+    private final MemberAvailabilityIndex availabilityIndex;
+    private final EmailVerificationService emailVerificationService;
+
+    // 일반 회원가입 시 이메일 인증 완료 필요 여부
+    @Value("${member.join.require-email-verification:false}")
+    private boolean requireEmailVerification;
 
     // 회원가입
     @Transactional
@@ -34,7 +44,10 @@ public class MemberService {
         // 비밀번호 유효성 검사 및 암호화
         if (socialType == SocialType.NONE) {
             validatePassword(memberDto.getPassword());
-            String encodedPassword = passwordEncoder.encode(memberDto.getPassword());
+            if (requireEmailVerification && !emailVerificationService.consumeVerified(memberDto.getEmail())) {
+                throw new IllegalArgumentException("이메일 인증이 필요합니다.");
+            }
+            String encodedPassword = passwordHashingService.encode(memberDto.getPassword());
             memberDto.setPassword(encodedPassword);
         } else {
             memberDto.setPassword("SOCIAL_LOGIN_USER");
@@ -53,6 +66,8 @@ public class MemberService {
         
         // 실제 DB에 저장하는 호출
         memberMapper.insertMember(member);
+        memberLookup.put(member);
+        availabilityIndex.memberAdded(member.getEmail(), member.getNickname());
         
         log.info("회원 저장 완료: {}", member.getEmail());
     }
@@ -72,13 +87,19 @@ public class MemberService {
         }
     }
 
-    // 이메일 중복 검사
+    // 이메일 중복 검사 (인덱스 적재 전에는 DB 조회)
     public boolean checkEmail(String email) {
+        if (availabilityIndex.isReady()) {
+            return !availabilityIndex.isEmailTaken(email);
+        }
         return memberMapper.checkEmail(email) == 0;
     }
 
-    // 닉네임 중복 검사
+    // 닉네임 중복 검사 (인덱스 적재 전에는 DB 조회)
     public boolean checkNickname(String nickname) {
+        if (availabilityIndex.isReady()) {
+            return !availabilityIndex.isNicknameTaken(nickname);
+        }
         return memberMapper.checkNickname(nickname.toLowerCase()) == 0;
     }
 
@@ -98,15 +119,26 @@ public class MemberService {
 
     // 이메일로 회원 조회
     public Optional<MemberDto> getMemberByEmail(String email) {
-        return Optional.ofNullable(memberMapper.getMemberByEmail(email))
+        return Optional.ofNullable(memberLookup.findByEmail(email))
                 .map(MemberDto::fromEntity);  // Member 엔티티를 MemberDto로 변환
     }
     
     
+    // 관리자 회원 검색 (afterId 다음부터 size 건, 키셋 페이지네이션)
+    public List<MemberSummaryDto> searchMembers(MemberSearchCondition condition, long afterId, int size) {
+        if (condition.getBirthFrom() != null && condition.getBirthTo() != null
+                && condition.getBirthFrom().isAfter(condition.getBirthTo())) {
+            throw new IllegalArgumentException("생년월일 검색 범위가 올바르지 않습니다.");
+        }
+        return memberMapper.searchMembers(condition, afterId, size).stream()
+                .map(MemberSummaryDto::fromEntity)
+                .toList();
+    }
+    
     // 회원 정보 수정 (소셜 계정 분리 처리)
     @Transactional
     public void updateMemberInfo(String email, MemberDto memberDto) {
-        Member existingMember = memberMapper.getMemberByEmail(email);
+        Member existingMember = memberLookup.findByEmail(email);
         
         if (existingMember == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
@@ -122,6 +154,7 @@ public class MemberService {
         }
         
         // 업데이트할 필드 설정
+        String oldNickname = existingMember.getNickname();
         if (memberDto.getNickname() != null) existingMember.setNickname(memberDto.getNickname());
         if (memberDto.getGender() != null) existingMember.setGender(memberDto.getGender());
         if (memberDto.getBirth() != null) existingMember.setBirth(memberDto.getBirth());
@@ -131,7 +164,7 @@ public class MemberService {
             // 비밀번호 유효성 검사
             validatePassword(memberDto.getPassword());
             // 비밀번호 암호화
-            String encodedPassword = passwordEncoder.encode(memberDto.getPassword());
+            String encodedPassword = passwordHashingService.encode(memberDto.getPassword());
             existingMember.setPassword(encodedPassword);
         } else if (isSocialAccount && memberDto.getPassword() != null && !memberDto.getPassword().isEmpty()) {
             // 소셜 계정인데 비밀번호 변경을 시도하는 경우
@@ -139,13 +172,15 @@ public class MemberService {
         }
         
         memberMapper.updateMemberInfo(existingMember);
+        memberLookup.put(existingMember);
+        availabilityIndex.nicknameChanged(oldNickname, existingMember.getNickname());
         log.info("회원 정보 수정 완료: {}", existingMember.getEmail());
     }
 
     // 회원 탈퇴 (소셜 계정 처리 추가)
     @Transactional
     public void deleteMemberByEmail(String email) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
     
         if (member == null) {
             throw new IllegalArgumentException("해당 이메일로 가입된 사용자가 없습니다.");
@@ -164,12 +199,14 @@ public class MemberService {
 
         // DB에서 회원 정보 삭제
         memberMapper.deleteMemberByEmail(email);
+        memberLookup.evict(email);
+        availabilityIndex.memberRemoved(email, member.getNickname());
         log.info("회원 탈퇴 완료: {}", email);
     }
     
     // 이메일로 회원 역할 조회
     public String getMemberRoleByEmail(String email) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         if (member == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
@@ -178,7 +215,7 @@ public class MemberService {
     
     // 소셜 계정 여부 확인
     public boolean isSocialAccount(String email) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         if (member == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
@@ -187,7 +224,7 @@ public class MemberService {
     
     // 소셜 계정 타입 조회
     public String getSocialType(String email) {
-        Member member = memberMapper.getMemberByEmail(email);
+        Member member = memberLookup.findByEmail(email);
         if (member == null) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
@@ -0,0 +1,254 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.suppleit.backend.dto.NoticeDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// 공지사항 상세 응답 캐시 (직렬화 + 압축을 공지사항 저장 시 한 번만 수행)
+// 조회수를 뺀 JSON 본문을 원본/gzip/deflate 로 미리 만들어 두고,
+// 요청 시에는 조회수 필드(,"views":N})만 압축되지 않은 마지막 블록으로 덧붙여 응답
+//  - 본문은 SYNC_FLUSH 로 바이트 경계에서 끝나는 최종 블록 없는 deflate 스트림으로 보관
+//  - 요청마다 stored 블록(BFINAL=1) + 체크섬(CRC32/Adler32, 하드웨어 가속)만 계산
+// JDK 에 Brotli 인코더가 없어 Brotli 대신 최고 압축률 deflate 를 사용
+// 무효화할 때마다 공지사항별 세대를 올리고, DB 조회 전에 읽은 세대가 그대로일 때만 저장
+// (수정 커밋 전에 읽은 내용이 무효화 이후 뒤늦게 저장되어 계속 남는 것을 막음)
+// 최대 개수를 넘으면 가장 오래 조회되지 않은 항목부터 제거 (LRU)
+@Slf4j
+@Component
+public class NoticeDetailCache {
+
+    public enum Encoding {
+        IDENTITY,
+        GZIP,
+        DEFLATE
+    }
+
+    private static final String CHANNEL = "notice:detail";
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final byte[] ZLIB_HEADER = {0x78, (byte) 0xda};  // 최고 압축 수준
+
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisEnabled;
+    private final int maxEntries;
+
+    // 접근 순서 LinkedHashMap (this 로 동기화)
+    private final Map<Long, Entry> entries;
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    // 미리 만든 응답 본문 (조회수 제외, 마지막 '}' 제외)
+    public static final class Entry {
+        private final byte[] identity;
+        private final byte[] deflated;  // 최종 블록 없는 raw deflate 스트림
+
+        private Entry(byte[] identity, byte[] deflated) {
+            this.identity = identity;
+            this.deflated = deflated;
+        }
+
+        // 조회수 필드를 덧붙인 최종 응답 본문
+        public byte[] render(Encoding encoding, long views) {
+            byte[] tail = (",\"views\":" + views + "}").getBytes(StandardCharsets.US_ASCII);
+            return switch (encoding) {
+                case IDENTITY -> concat(identity, tail);
+                case GZIP -> gzip(tail);
+                case DEFLATE -> zlib(tail);
+            };
+        }
+
+        public int compressedSize() {
+            return deflated.length;
+        }
+
+        private byte[] gzip(byte[] tail) {
+            CRC32 crc = new CRC32();
+            crc.update(identity);
+            crc.update(tail);
+            long size = identity.length + tail.length;
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(GZIP_HEADER.length + deflated.length + tail.length + 13);
+            out.writeBytes(GZIP_HEADER);
+            out.writeBytes(deflated);
+            writeStoredFinalBlock(out, tail);
+            writeIntLittleEndian(out, crc.getValue());
+            writeIntLittleEndian(out, size);
+            return out.toByteArray();
+        }
+
+        private byte[] zlib(byte[] tail) {
+            Adler32 adler = new Adler32();
+            adler.update(identity);
+            adler.update(tail);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(ZLIB_HEADER.length + deflated.length + tail.length + 9);
+            out.writeBytes(ZLIB_HEADER);
+            out.writeBytes(deflated);
+            writeStoredFinalBlock(out, tail);
+            long checksum = adler.getValue();  // zlib 트레일러는 big-endian
+            out.write((int) (checksum >>> 24));
+            out.write((int) (checksum >>> 16));
+            out.write((int) (checksum >>> 8));
+            out.write((int) checksum);
+            return out.toByteArray();
+        }
+
+        // 압축하지 않은 최종 블록: [BFINAL=1, BTYPE=00][LEN][NLEN][데이터]
+        private static void writeStoredFinalBlock(ByteArrayOutputStream out, byte[] data) {
+            out.write(0x01);
+            out.write(data.length & 0xff);
+            out.write((data.length >>> 8) & 0xff);
+            out.write(~data.length & 0xff);
+            out.write((~data.length >>> 8) & 0xff);
+            out.writeBytes(data);
+        }
+
+        private static void writeIntLittleEndian(ByteArrayOutputStream out, long value) {
+            out.write((int) value & 0xff);
+            out.write((int) (value >>> 8) & 0xff);
+            out.write((int) (value >>> 16) & 0xff);
+            out.write((int) (value >>> 24) & 0xff);
+        }
+
+        private static byte[] concat(byte[] first, byte[] second) {
+            byte[] result = new byte[first.length + second.length];
+            System.arraycopy(first, 0, result, 0, first.length);
+            System.arraycopy(second, 0, result, first.length, second.length);
+            return result;
+        }
+    }
+
+    public NoticeDetailCache(
+            ObjectMapper objectMapper,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${notice.detail-cache.max-entries:1000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisEnabled = redisEnabled;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > NoticeDetailCache.this.maxEntries;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void init() {
+        RedisMessageListenerContainer container = redisEnabled ? listenerContainerProvider.getIfAvailable() : null;
+        if (container != null) {
+            container.addMessageListener((message, pattern) ->
+                    invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                    new ChannelTopic(CHANNEL));
+        }
+    }
+
+    public synchronized Entry get(Long noticeId) {
+        return entries.get(noticeId);
+    }
+
+    // DB 조회 직전에 호출해 세대를 받아 둠 (put 에 전달)
+    public long generation(Long noticeId) {
+        return generations.getOrDefault(noticeId, 0L);
+    }
+
+    // 공지사항을 직렬화/압축해 저장
+    // 조회 이후 무효화되었으면 (세대가 다르면) 저장하지 않고 이번 응답에만 사용
+    public Entry put(NoticeDto notice, long generation) {
+        Entry entry = build(notice);
+        synchronized (this) {
+            if (generation(notice.getNoticeId()) == generation) {
+                entries.put(notice.getNoticeId(), entry);
+            }
+        }
+        return entry;
+    }
+
+    // 공지사항 변경 반영 (커밋 이후 제거)
+    public void evict(Long noticeId) {
+        Runnable action = () -> publish(noticeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Redis 사용 시 자기 메시지도 수신하므로 로컬 반영은 한 번만
+    private void publish(Long noticeId) {
+        if (redisEnabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(noticeId));
+                return;
+            } catch (Exception e) {
+                log.warn("공지사항 상세 캐시 무효화 전파 실패: {}", e.getMessage());
+            }
+        }
+        invalidate(noticeId);
+    }
+
+    private synchronized void invalidate(Long noticeId) {
+        generations.merge(noticeId, 1L, Long::sum);
+        entries.remove(noticeId);
+    }
+
+    private Entry build(NoticeDto notice) {
+        byte[] json;
+        try {
+            ObjectNode node = objectMapper.valueToTree(notice);
+            node.remove("views");
+            json = objectMapper.writeValueAsBytes(node);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalStateException("공지사항 직렬화 실패: " + notice.getNoticeId(), e);
+        }
+
+        // 마지막 '}' 는 조회수 필드와 함께 응답 시 덧붙임
+        byte[] identity = new byte[json.length - 1];
+        System.arraycopy(json, 0, identity, 0, identity.length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(identity);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 3 + 64);
+            byte[] buffer = new byte[8192];
+            int length;
+            // SYNC_FLUSH: 바이트 경계에서 끝나고 최종 블록 표시가 없으므로 뒤에 블록을 이어 붙일 수 있음
+            do {
+                length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, length);
+            } while (length == buffer.length);
+            return new Entry(identity, out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.mapper.NoticeMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 공지사항 목록 응답 캐시 (직렬화된 JSON 바이트)
+// 공지사항 목록 버전(Notice_Version, 등록/수정/삭제 트랜잭션에서 함께 증가)별로 보관하고, ETag 도 버전으로 만들어
+// If-None-Match 가 일치하면 DB 조회와 직렬화 없이 304 응답 가능
+// 버전은 DB 에 있으므로 모든 노드와 재시작 전후에 같은 목록이면 같은 ETag
+// Redis 사용 시 다른 노드의 변경은 Pub/Sub 으로 바로 반영, 놓친 변경은 주기적 재확인으로 반영
+@Slf4j
+@Component
+public class NoticeListCache {
+
+    private static final String CHANNEL = "notice:version";
+
+    private final ObjectMapper objectMapper;
+    private final NoticeMapper noticeMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisEnabled;
+    private final int maxEntries;
+
+    private volatile Generation generation = new Generation(0);
+
+    public record Entry(String etag, byte[] body) {}
+
+    // 버전 하나에 해당하는 캐시 묶음 (버전이 바뀌면 통째로 교체)
+    private record Generation(long version, Map<String, Entry> entries) {
+        private Generation(long version) {
+            this(version, new ConcurrentHashMap<>());
+        }
+    }
+
+    public NoticeListCache(
+            ObjectMapper objectMapper,
+            NoticeMapper noticeMapper,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled,
+            @Value("${notice.list-cache.max-entries:256}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.noticeMapper = noticeMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisEnabled = redisEnabled;
+        this.maxEntries = maxEntries;
+    }
+
+    @PostConstruct
+    public void init() {
+        RedisMessageListenerContainer container = redisEnabled ? listenerContainerProvider.getIfAvailable() : null;
+        if (container != null) {
+            container.addMessageListener((message, pattern) ->
+                    advanceTo(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))),
+                    new ChannelTopic(CHANNEL));
+        }
+        advanceTo(noticeMapper.getListVersion());
+    }
+
+    // 주기적으로 DB 버전과 다시 맞춤 (Pub/Sub 메시지를 놓쳤거나 Redis 없이 여러 노드로 운영하는 경우 대비)
+    @Scheduled(fixedDelayString = "${notice.list-cache.resync-interval-ms:30000}",
+            initialDelayString = "${notice.list-cache.resync-interval-ms:30000}")
+    public void resync() {
+        try {
+            advanceTo(noticeMapper.getListVersion());
+        } catch (Exception e) {
+            log.warn("공지사항 목록 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    // 현재 버전 기준 ETag (DB 조회 없이 계산)
+    public String etag(String key) {
+        return etag(generation.version(), key);
+    }
+
+    // 캐시된 응답 반환, 없으면 loader 결과를 직렬화해 저장
+    public Entry get(String key, Supplier<Object> loader) {
+        Generation current = generation;
+        Entry entry = current.entries().get(key);
+        if (entry != null) {
+            return entry;
+        }
+
+        try {
+            entry = new Entry(etag(current.version(), key), objectMapper.writeValueAsBytes(loader.get()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공지사항 목록 직렬화 실패", e);
+        }
+
+        // 조회 도중 버전이 바뀌었으면 이전 버전 묶음에 저장되므로 새 버전에는 섞이지 않음
+        if (current.entries().size() < maxEntries) {
+            current.entries().putIfAbsent(key, entry);
+        }
+        return entry;
+    }
+
+    // 공지사항 변경 반영 (호출한 쪽 트랜잭션 안에서 버전 증가, 커밋 이후 새 버전으로 교체)
+    // 롤백되면 버전도 그대로이므로 캐시를 버리지 않음
+    public void invalidate() {
+        noticeMapper.incrementListVersion();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish();
+                }
+            });
+        } else {
+            publish();
+        }
+    }
+
+    // 커밋된 버전을 읽어 로컬에 반영하고 다른 노드에 전파
+    private void publish() {
+        long version = noticeMapper.getListVersion();
+        advanceTo(version);
+        if (redisEnabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, Long.toString(version));
+            } catch (Exception e) {
+                log.warn("공지사항 목록 캐시 무효화 전파 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 더 새로운 버전일 때만 교체 (늦게 도착한 메시지로 되돌아가지 않음)
+    private synchronized void advanceTo(long version) {
+        if (version > generation.version()) {
+            generation = new Generation(version);
+        }
+    }
+
+    private String etag(long version, String key) {
+        return "\"v" + version + "." + key + "\"";
+    }
+}
@@ -0,0 +1,413 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// 공지사항 검색용 메모리 역색인 (제목 + 본문)
+// - 한글은 2글자 단위(bigram), 영문/숫자는 단어 단위로 토큰화
+//   색인에는 한글 1글자(unigram)도 함께 넣어 1글자 검색어도 긴 단어 안에서 찾음 (2글자 이상 검색어는 bigram 만 사용)
+// - 포스팅은 (문서 번호 차이, 빈도)를 가변 길이 정수(varint)로 압축한 byte 배열
+// - BM25 로 점수 계산, 제목 토큰은 가중치를 더 줌
+// - 기동 시 전체 적재, 등록/수정/삭제 시 커밋 이후 반영 (Redis 사용 시 다른 노드에도 전파)
+// - 수정/삭제는 기존 문서 번호를 삭제 표시만 하고 새 번호로 추가, 주기적 재적재로 정리
+//   (토큰별 문서 수는 삭제 시 바로 줄여 IDF 에는 살아 있는 문서만 반영)
+@Slf4j
+@Component
+public class NoticeSearchIndex {
+
+    private static final String CHANNEL = "notice:search";
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&[a-zA-Z#0-9]+;");
+    private static final int TITLE_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int REFRESH_STRIPES = 64;
+
+    private final NoticeMapper noticeMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisEnabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+
+    // 같은 공지사항의 재색인은 DB 조회부터 반영까지 순서대로 (늦게 읽은 상태가 항상 나중에 반영)
+    private final Object[] refreshLocks = new Object[REFRESH_STRIPES];
+
+    // 재적재 중에 변경된 공지사항 (교체 직후 새 색인에 다시 반영)
+    private volatile Set<Long> changedDuringReload;
+
+    public NoticeSearchIndex(
+            NoticeMapper noticeMapper,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${app.redis.enabled:false}") boolean redisEnabled) {
+        this.noticeMapper = noticeMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisEnabled = redisEnabled;
+        for (int i = 0; i < REFRESH_STRIPES; i++) {
+            refreshLocks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        RedisMessageListenerContainer container = redisEnabled ? listenerContainerProvider.getIfAvailable() : null;
+        if (container != null) {
+            container.addMessageListener((message, pattern) ->
+                    refresh(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                    new ChannelTopic(CHANNEL));
+        }
+        reload();
+    }
+
+    // 전체 재적재 (새 색인을 만든 뒤 교체, 삭제 표시된 문서도 이때 정리)
+    @Scheduled(initialDelayString = "${notice.search.reload-interval-ms:3600000}",
+            fixedDelayString = "${notice.search.reload-interval-ms:3600000}")
+    public void reload() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringReload = changed;
+        try {
+            Segment loaded = new Segment();
+            noticeMapper.scanNoticesForSearch(context -> {
+                NoticeDto notice = context.getResultObject();
+                loaded.add(notice.getNoticeId(), notice.getTitle(), notice.getContent());
+            });
+            lock.writeLock().lock();
+            try {
+                segment = loaded;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            changedDuringReload = null;
+            changed.forEach(this::refresh);
+            log.info("공지사항 검색 색인 적재 완료: 문서 {}개, 토큰 {}개", loaded.liveCount, loaded.postings.size());
+        } catch (Exception e) {
+            changedDuringReload = null;
+            log.warn("공지사항 검색 색인 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 등록/수정 반영 (커밋 이후)
+    public void noticeChanged(Long noticeId) {
+        afterCommit(() -> publish(noticeId));
+    }
+
+    // 검색 (BM25 점수 순 공지사항 ID 목록)
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(query, terms::add);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Redis 사용 시 자기 메시지도 수신하므로 로컬 반영은 한 번만
+    private void publish(Long noticeId) {
+        if (redisEnabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(noticeId));
+                return;
+            } catch (Exception e) {
+                log.warn("공지사항 검색 색인 변경 전파 실패: {}", e.getMessage());
+            }
+        }
+        refresh(noticeId);
+    }
+
+    // DB 의 현재 상태로 문서 하나를 다시 색인 (없으면 삭제)
+    private void refresh(Long noticeId) {
+        Set<Long> changed = changedDuringReload;
+        if (changed != null) {
+            changed.add(noticeId);
+        }
+        // 조회는 쓰기 잠금 밖에서 하므로, 같은 ID 에 대한 두 갱신이 엇갈려 이전 상태가 나중에 반영되지 않도록 ID 별로 직렬화
+        synchronized (refreshLocks[Math.floorMod(noticeId.hashCode(), REFRESH_STRIPES)]) {
+            refreshLocked(noticeId);
+        }
+    }
+
+    private void refreshLocked(Long noticeId) {
+        try {
+            NoticeDto notice = noticeMapper.getNoticeById(noticeId);
+            lock.writeLock().lock();
+            try {
+                segment.remove(noticeId);
+                if (notice != null) {
+                    segment.add(noticeId, notice.getTitle(), notice.getContent());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("공지사항 검색 색인 갱신 실패 (ID: {}): {}", noticeId, e.getMessage());
+        }
+    }
+
+    // 검색어 토큰화: 한글 연속 구간은 bigram(1글자면 그대로), 영문/숫자 연속 구간은 단어 하나
+    static void tokenize(String text, Consumer<String> sink) {
+        tokenize(text, false, sink);
+    }
+
+    // 색인 토큰화: 검색어 토큰에 더해 2글자 이상 한글 구간의 각 글자(unigram)도 포함
+    static void tokenizeForIndex(String text, Consumer<String> sink) {
+        tokenize(text, true, sink);
+    }
+
+    private static void tokenize(String text, boolean unigrams, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String plain = HTML_ENTITY.matcher(HTML_TAG.matcher(text).replaceAll(" ")).replaceAll(" ")
+                .toLowerCase(Locale.ROOT);
+
+        int length = plain.length();
+        int i = 0;
+        while (i < length) {
+            char c = plain.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(plain.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    sink.accept(plain.substring(start, i));
+                } else {
+                    for (int j = start; j + 1 < i; j++) {
+                        sink.accept(plain.substring(j, j + 2));
+                    }
+                    if (unigrams) {
+                        for (int j = start; j < i; j++) {
+                            sink.accept(plain.substring(j, j + 1));
+                        }
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(plain.charAt(i)) && !isHangul(plain.charAt(i))) {
+                    i++;
+                }
+                sink.accept(plain.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    // 색인 본체 (쓰기 잠금 안에서만 변경)
+    private static final class Segment {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Long, Integer> docIdsByNotice = new HashMap<>();
+        private long[] noticeIds = new long[1024];
+        private int[] docLengths = new int[1024];
+        private PostingList[][] docTerms = new PostingList[1024][];  // 삭제 시 문서 수를 줄일 토큰 목록
+        private final BitSet deleted = new BitSet();
+        private int nextDocId;
+        private int liveCount;
+        private long totalLength;
+
+        private void add(Long noticeId, String title, String content) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokenizeForIndex(title, term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            tokenizeForIndex(content, term -> frequencies.merge(term, 1, Integer::sum));
+
+            int docId = nextDocId++;
+            if (docId == noticeIds.length) {
+                noticeIds = Arrays.copyOf(noticeIds, docId * 2);
+                docLengths = Arrays.copyOf(docLengths, docId * 2);
+                docTerms = Arrays.copyOf(docTerms, docId * 2);
+            }
+
+            int docLength = 0;
+            PostingList[] terms = new PostingList[frequencies.size()];
+            int termIndex = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+                list.append(docId, entry.getValue());
+                terms[termIndex++] = list;
+                docLength += entry.getValue();
+            }
+
+            noticeIds[docId] = noticeId;
+            docLengths[docId] = docLength;
+            docTerms[docId] = terms;
+            docIdsByNotice.put(noticeId, docId);
+            totalLength += docLength;
+            liveCount++;
+        }
+
+        private void remove(Long noticeId) {
+            Integer docId = docIdsByNotice.remove(noticeId);
+            if (docId != null) {
+                deleted.set(docId);
+                for (PostingList list : docTerms[docId]) {
+                    list.documentCount--;
+                }
+                docTerms[docId] = null;
+                totalLength -= docLengths[docId];
+                liveCount--;
+            }
+        }
+
+        private List<Long> search(Set<String> terms, int limit) {
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            float averageLength = Math.max(1f, (float) totalLength / liveCount);
+            float[] scores = new float[nextDocId];
+            BitSet matched = new BitSet(nextDocId);
+
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null || list.documentCount == 0) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (liveCount - list.documentCount + 0.5) / (list.documentCount + 0.5));
+                list.forEach((docId, frequency) -> {
+                    if (deleted.get(docId)) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * docLengths[docId] / averageLength);
+                    scores[docId] += idf * frequency * (K1 + 1) / (frequency + norm);
+                    matched.set(docId);
+                });
+            }
+
+            // 상위 limit 개만 유지 (점수가 낮은 것부터 꺼내는 최소 힙)
+            PriorityQueue<Integer> top = new PriorityQueue<>(
+                    (a, b) -> scores[a] != scores[b] ? Float.compare(scores[a], scores[b]) : Integer.compare(a, b));
+            for (int docId = matched.nextSetBit(0); docId >= 0; docId = matched.nextSetBit(docId + 1)) {
+                top.offer(docId);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Long> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(noticeIds[top.poll()]);
+            }
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    // 압축 포스팅 목록: [문서 번호 차이 varint][빈도 varint] 반복 (문서 번호는 항상 증가)
+    private static final class PostingList {
+
+        private byte[] bytes = new byte[8];
+        private int size;
+        private int lastDocId = -1;
+        private int documentCount;  // 삭제되지 않은 문서 수 (IDF 용)
+
+        private void append(int docId, int frequency) {
+            writeVarint(docId - lastDocId);
+            writeVarint(frequency);
+            lastDocId = docId;
+            documentCount++;
+        }
+
+        private void forEach(PostingConsumer consumer) {
+            int position = 0;
+            int docId = -1;
+            while (position < size) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                docId += value;
+
+                int frequency = 0;
+                shift = 0;
+                do {
+                    b = bytes[position++];
+                    frequency |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                consumer.accept(docId, frequency);
+            }
+        }
+
+        private void writeVarint(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PostingConsumer {
+        void accept(int docId, int frequency);
+    }
+}
@@ -1,18 +1,25 @@
 package com.suppleit.backend.service;
 
 import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.dto.NoticeSummaryDto;
 import com.suppleit.backend.mapper.NoticeMapper;
-import com.suppleit.backend.mapper.MemberMapper;
 import com.suppleit.backend.model.Notice;
+import com.suppleit.backend.service.NoticeUploadPipeline.StoredUploads;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,75 +30,153 @@ public class NoticeService {
     private int maxContentLength; // 기본값 16000자
 
     private final NoticeMapper noticeMapper;
-    private final MemberMapper memberMapper;
+    private final MemberLookup memberLookup;
     private final FileService fileService;
+    private final NoticeListCache noticeListCache;
+    private final NoticeViewCounter noticeViewCounter;
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final NoticeDetailCache noticeDetailCache;
+    private final NoticeUploadPipeline uploadPipeline;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
 
     // 모든 공지사항 조회
     public List<NoticeDto> getAllNotices() {
         return noticeMapper.getAllNotices();
     }
 
-    // 특정 공지사항 조회 (조회수 증가 포함)
-    @Transactional
-    public NoticeDto getNoticeById(Long noticeId) {
-        // 조회수 증가
-        noticeMapper.incrementViews(noticeId);
-        return noticeMapper.getNoticeById(noticeId);
+    // 공지사항 목록 페이지 조회 (beforeId 보다 작은 notice_id 를 최신순으로 limit 건)
+    public List<NoticeSummaryDto> getNoticePage(Long beforeId, int limit) {
+        return noticeMapper.getNoticePage(beforeId, limit);
     }
 
-    // 본문 내 Base64 이미지 처리 메서드
-    private String processBase64Images(String content, List<MultipartFile> contentImages) throws IOException {
-        if (content == null || contentImages == null || contentImages.isEmpty()) {
-            return content;
+    // 공지사항 검색 (제목/본문, BM25 점수 순)
+    public List<NoticeSummaryDto> searchNotices(String query, int limit) {
+        List<Long> noticeIds = noticeSearchIndex.search(query, limit);
+        if (noticeIds.isEmpty()) {
+            return List.of();
         }
-        
-        // 각 이미지마다 처리
-        for (int i = 0; i < contentImages.size(); i++) {
-            MultipartFile image = contentImages.get(i);
-            String imagePath = fileService.saveImage(image);
-            
-            // {{IMAGE_PLACEHOLDER_x}}를 실제 이미지 URL로 교체
-            String placeholder = "{{IMAGE_PLACEHOLDER_" + i + "}}";
-            String imageUrl = "http://localhost:8000/api/notice/image/" + imagePath;
-            content = content.replace(placeholder, imageUrl);
-            
-            log.info("본문 내 이미지 저장 완료: {}, URL: {}", imagePath, imageUrl);
+
+        // 색인의 점수 순서대로 정렬
+        Map<Long, NoticeSummaryDto> summaries = new HashMap<>();
+        for (NoticeSummaryDto summary : noticeMapper.getNoticeSummariesByIds(noticeIds)) {
+            summaries.put(summary.getNoticeId(), summary);
         }
-        
-        return content;
+        List<NoticeSummaryDto> results = new ArrayList<>(noticeIds.size());
+        for (Long noticeId : noticeIds) {
+            NoticeSummaryDto summary = summaries.get(noticeId);
+            if (summary != null) {
+                results.add(summary);
+            }
+        }
+        return results;
+    }
+
+    // 공지사항 상세 응답 본문 (미리 직렬화/압축한 본문 + 현재 조회수, 조회수 증가 포함)
+    // 캐시에 있으면 SQL 과 직렬화 없이 응답, 없는 공지사항이면 null
+    public byte[] renderNoticeDetail(Long noticeId, NoticeDetailCache.Encoding encoding) {
+        NoticeDetailCache.Entry entry = noticeDetailCache.get(noticeId);
+        long views = noticeViewCounter.currentViews(noticeId);
+        if (entry == null || views < 0) {
+            long viewGeneration = noticeViewCounter.generation(noticeId);
+            long detailGeneration = noticeDetailCache.generation(noticeId);
+            NoticeDto notice = noticeMapper.getNoticeById(noticeId);
+            if (notice == null) {
+                return null;
+            }
+            // 조회수 반영과 겹쳐 기준값을 기록하지 못해도 이번 응답은 읽은 값으로 계산
+            views = noticeViewCounter.observe(noticeId, notice.getViews(), viewGeneration);
+            entry = noticeDetailCache.put(notice, detailGeneration);
+        }
+
+        noticeViewCounter.increment(noticeId);
+        return entry.render(encoding, views + 1);  // 이번 조회 포함
+    }
+
+    // DB 에서 읽어 상세 응답을 미리 만들어 둠 (조회수 기준값도 함께 기록)
+    private NoticeDetailCache.Entry prepareNoticeDetail(Long noticeId) {
+        long viewGeneration = noticeViewCounter.generation(noticeId);
+        long detailGeneration = noticeDetailCache.generation(noticeId);
+        NoticeDto notice = noticeMapper.getNoticeById(noticeId);
+        if (notice == null) {
+            return null;
+        }
+        noticeViewCounter.observe(noticeId, notice.getViews(), viewGeneration);
+        return noticeDetailCache.put(notice, detailGeneration);
+    }
+
+    // 공지사항 변경 시 상세 응답 다시 생성 (커밋 이후)
+    private void refreshNoticeDetail(Long noticeId) {
+        noticeDetailCache.evict(noticeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        prepareNoticeDetail(noticeId);
+                    } catch (Exception e) {
+                        log.warn("공지사항 상세 응답 생성 실패 (ID: {}): {}", noticeId, e.getMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    // 첨부파일 정보만 조회 (조회수 증가 없음)
+    public NoticeDto getNoticeAttachment(Long noticeId) {
+        return noticeMapper.getNoticeAttachment(noticeId);
     }
 
     // 공지사항 생성 (여러 파일 처리)
-    @Transactional
+    // 파일 저장은 트랜잭션 밖에서 먼저 끝내고 (업로드 동안 DB 연결을 잡지 않음), DB 반영만 트랜잭션으로 처리
     public void createNotice(NoticeDto noticeDto, MultipartFile image, MultipartFile attachment, 
                           List<MultipartFile> contentImages) throws IOException {
         log.info("공지사항 생성 시작 - 이미지: {}, 첨부파일: {}, 본문 이미지: {}개", 
             image != null ? image.getOriginalFilename() : "없음", 
             attachment != null ? attachment.getOriginalFilename() : "없음",
             contentImages != null ? contentImages.size() : 0);
-            
+
+        // 대표 이미지, 첨부파일, 본문 이미지를 동시에 저장
+        createNotice(noticeDto, uploadPipeline.store(image, attachment, contentImages));
+    }
+
+    // 공지사항 생성 (파일은 이미 저장된 상태, 실패하면 저장한 파일 참조 해제)
+    public void createNotice(NoticeDto noticeDto, StoredUploads uploads) {
+        inTransaction(uploads, () -> insertNotice(noticeDto, uploads));
+    }
+
+    private void insertNotice(NoticeDto noticeDto, StoredUploads uploads) {
+        generateVariantsAfterCommit(uploads);
+
         // 컨텐츠 길이 제한
         limitContentLength(noticeDto);
-        
-        // 본문 내 Base64 이미지 처리
-        if (contentImages != null && !contentImages.isEmpty()) {
-            String processedContent = processBase64Images(noticeDto.getContent(), contentImages);
-            noticeDto.setContent(processedContent);
-        }
 
-        // 이미지와 첨부파일 모두 처리
-        processImageAndAttachment(noticeDto, image, attachment);
+        // 본문 내 이미지 자리 표시자를 실제 URL 로 치환
+        noticeDto.setContent(uploadPipeline.substitutePlaceholders(noticeDto.getContent(), uploads.getContentImagePaths()));
+
+        // 이미지와 첨부파일 경로 설정
+        if (uploads.hasImage()) {
+            noticeDto.setImagePath(uploads.getImagePath());
+        }
+        if (uploads.hasAttachment()) {
+            noticeDto.setAttachmentPath(uploads.getAttachmentPath());
+            noticeDto.setAttachmentName(uploads.getAttachmentName());
+        }
         
         Notice notice = noticeDto.toEntity();
         noticeMapper.insertNotice(notice);
         
         // noticeId를 DTO에 설정 (반환값이 필요한 경우)
         noticeDto.setNoticeId(notice.getNoticeId());
+        recordContentImages(notice.getNoticeId(), uploads.getContentImagePaths());
+        noticeListCache.invalidate();
+        noticeSearchIndex.noticeChanged(notice.getNoticeId());
+        refreshNoticeDetail(notice.getNoticeId());
         log.info("공지사항 생성 완료, ID: {}", notice.getNoticeId());
     }
 
     // 공지사항 수정 (여러 파일 처리 및 기존 파일 관리)
-    @Transactional
+    // 파일 저장은 트랜잭션 밖에서 먼저 끝내고, DB 반영만 트랜잭션으로 처리
     public void updateNotice(Long noticeId, NoticeDto noticeDto, MultipartFile image, MultipartFile attachment,
                           List<MultipartFile> contentImages) throws IOException {
         log.info("공지사항 수정 시작 - ID: {}, 이미지: {}, 첨부파일: {}, 본문 이미지: {}개", 
@@ -99,7 +184,19 @@ public class NoticeService {
             image != null ? image.getOriginalFilename() : "없음", 
             attachment != null ? attachment.getOriginalFilename() : "없음",
             contentImages != null ? contentImages.size() : 0);
-            
+
+        // 대표 이미지, 첨부파일, 본문 이미지를 동시에 저장
+        updateNotice(noticeId, noticeDto, uploadPipeline.store(image, attachment, contentImages));
+    }
+
+    // 공지사항 수정 (파일은 이미 저장된 상태, 교체된 기존 파일은 커밋 이후 삭제)
+    public void updateNotice(Long noticeId, NoticeDto noticeDto, StoredUploads uploads) {
+        inTransaction(uploads, () -> modifyNotice(noticeId, noticeDto, uploads));
+    }
+
+    private void modifyNotice(Long noticeId, NoticeDto noticeDto, StoredUploads uploads) {
+        generateVariantsAfterCommit(uploads);
+
         // 기존 공지사항 조회
         NoticeDto existingNotice = noticeMapper.getNoticeById(noticeId);
         
@@ -109,22 +206,27 @@ public class NoticeService {
 
         // 컨텐츠 길이 제한
         limitContentLength(noticeDto);
+
+        // 본문 내 이미지 자리 표시자를 실제 URL 로 치환
+        noticeDto.setContent(uploadPipeline.substitutePlaceholders(noticeDto.getContent(), uploads.getContentImagePaths()));
         
-        // 본문 내 Base64 이미지 처리
-        if (contentImages != null && !contentImages.isEmpty()) {
-            String processedContent = processBase64Images(noticeDto.getContent(), contentImages);
-            noticeDto.setContent(processedContent);
-        }
-        
+        // 이 공지사항이 등록한 본문 이미지 중 수정된 본문에서 빠진 것만 커밋 이후 참조 해제
+        List<String> keptContentImages = releaseRemovedContentImages(noticeId, noticeDto.getContent(), uploads);
+        noticeMapper.deleteContentImages(noticeId);
+        recordContentImages(noticeId, keptContentImages);
+
         // 이미지와 첨부파일 처리
-        handleImageUpdate(noticeDto, existingNotice, image);
-        handleAttachmentUpdate(noticeDto, existingNotice, attachment);
+        handleImageUpdate(noticeDto, existingNotice, uploads);
+        handleAttachmentUpdate(noticeDto, existingNotice, uploads);
         
         // 수정자 정보 설정
         noticeDto.setLastModifiedBy(noticeDto.getMemberId());
         
         Notice notice = noticeDto.toEntity();
         noticeMapper.updateNotice(noticeId, notice);
+        noticeListCache.invalidate();
+        noticeSearchIndex.noticeChanged(noticeId);
+        refreshNoticeDetail(noticeId);
         log.info("공지사항 수정 완료, ID: {}", noticeId);
     }
 
@@ -136,43 +238,20 @@ public class NoticeService {
         }
     }
 
-    // 이미지와 첨부파일 모두 처리하는 메서드
-    private void processImageAndAttachment(NoticeDto noticeDto, MultipartFile image, MultipartFile attachment) throws IOException {
-        // 이미지 처리
-        if (image != null && !image.isEmpty()) {
-            String imagePath = fileService.saveImage(image);
-            noticeDto.setImagePath(imagePath);
-            log.info("이미지 저장 완료: {}", imagePath);
-        }
-        
-        // 첨부파일 처리
-        if (attachment != null && !attachment.isEmpty()) {
-            String attachmentPath = fileService.saveAttachment(attachment);
-            noticeDto.setAttachmentPath(attachmentPath);
-            noticeDto.setAttachmentName(attachment.getOriginalFilename());
-            log.info("첨부파일 저장 완료: {}, 파일명: {}", attachmentPath, attachment.getOriginalFilename());
-        }
-    }
-
     // 이미지 업데이트 로직 분리
-    private void handleImageUpdate(NoticeDto noticeDto, NoticeDto existingNotice, MultipartFile image) throws IOException {
+    private void handleImageUpdate(NoticeDto noticeDto, NoticeDto existingNotice, StoredUploads uploads) {
         // 새 이미지가 업로드된 경우
-        if (image != null && !image.isEmpty()) {
-            // 기존 이미지 삭제
-            if (existingNotice.getImagePath() != null) {
-                fileService.deleteImage(existingNotice.getImagePath());
-                log.info("기존 이미지 삭제: {}", existingNotice.getImagePath());
-            }
-            // 새 이미지 저장
-            String imagePath = fileService.saveImage(image);
-            noticeDto.setImagePath(imagePath);
-            log.info("새 이미지 저장: {}", imagePath);
+        if (uploads.hasImage()) {
+            // 기존 이미지 삭제 (커밋 이후)
+            deleteImageAfterCommit(existingNotice.getImagePath());
+            noticeDto.setImagePath(uploads.getImagePath());
+            log.info("새 이미지 저장: {}", uploads.getImagePath());
         } 
         // 이미지 제거 요청이 있는 경우
         else if (noticeDto.isRemoveImage() && existingNotice.getImagePath() != null) {
-            fileService.deleteImage(existingNotice.getImagePath());
+            deleteImageAfterCommit(existingNotice.getImagePath());
             noticeDto.setImagePath(null);
-            log.info("이미지 삭제 완료");
+            log.info("이미지 삭제 예정: {}", existingNotice.getImagePath());
         } 
         // 변경 없음
         else {
@@ -181,26 +260,21 @@ public class NoticeService {
     }
 
     // 첨부파일 업데이트 로직 분리
-    private void handleAttachmentUpdate(NoticeDto noticeDto, NoticeDto existingNotice, MultipartFile attachment) throws IOException {
+    private void handleAttachmentUpdate(NoticeDto noticeDto, NoticeDto existingNotice, StoredUploads uploads) {
         // 새 첨부파일이 업로드된 경우
-        if (attachment != null && !attachment.isEmpty()) {
-            // 기존 첨부파일 삭제
-            if (existingNotice.getAttachmentPath() != null) {
-                fileService.deleteAttachment(existingNotice.getAttachmentPath());
-                log.info("기존 첨부파일 삭제: {}", existingNotice.getAttachmentPath());
-            }
-            // 새 첨부파일 저장
-            String attachmentPath = fileService.saveAttachment(attachment);
-            noticeDto.setAttachmentPath(attachmentPath);
-            noticeDto.setAttachmentName(attachment.getOriginalFilename());
-            log.info("새 첨부파일 저장: {}, 파일명: {}", attachmentPath, attachment.getOriginalFilename());
+        if (uploads.hasAttachment()) {
+            // 기존 첨부파일 삭제 (커밋 이후)
+            deleteAttachmentAfterCommit(existingNotice.getAttachmentPath());
+            noticeDto.setAttachmentPath(uploads.getAttachmentPath());
+            noticeDto.setAttachmentName(uploads.getAttachmentName());
+            log.info("새 첨부파일 저장: {}, 파일명: {}", uploads.getAttachmentPath(), uploads.getAttachmentName());
         } 
         // 첨부파일 제거 요청이 있는 경우
         else if (noticeDto.isRemoveAttachment() && existingNotice.getAttachmentPath() != null) {
-            fileService.deleteAttachment(existingNotice.getAttachmentPath());
+            deleteAttachmentAfterCommit(existingNotice.getAttachmentPath());
             noticeDto.setAttachmentPath(null);
             noticeDto.setAttachmentName(null);
-            log.info("첨부파일 삭제 완료");
+            log.info("첨부파일 삭제 예정: {}", existingNotice.getAttachmentPath());
         } 
         // 변경 없음
         else {
@@ -209,6 +283,112 @@ public class NoticeService {
         }
     }
 
+    // 저장한 파일을 사용하는 DB 반영을 트랜잭션으로 실행
+    // 롤백되거나 트랜잭션을 시작하지 못하면 (DB 연결 실패 등) 이번 요청에서 저장한 파일 참조 해제
+    // 롤백 시 afterCompletion 과 예외 처리 양쪽에서 호출되어도 discard 는 한 번만 실행됨
+    private void inTransaction(StoredUploads uploads, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int completionStatus) {
+                        if (completionStatus != STATUS_COMMITTED) {
+                            uploadPipeline.discard(uploads);
+                        }
+                    }
+                });
+                work.run();
+            });
+        } catch (RuntimeException | Error e) {
+            uploadPipeline.discard(uploads);
+            throw e;
+        }
+    }
+
+    // 본문 이미지 등록 기록 추가 (이번 요청에서 등록한 만큼)
+    private void recordContentImages(Long noticeId, List<String> paths) {
+        if (!paths.isEmpty()) {
+            noticeMapper.insertContentImages(noticeId, paths);
+        }
+    }
+
+    // 기존 등록 기록 중 수정된 본문에 남은 것과 이번 요청에서 새로 등록한 것을 반환하고, 나머지는 커밋 이후 참조 해제
+    // 본문에 같은 URL 이 n 번 남아 있으면 등록 기록도 n 개까지만 유지 (등록 횟수와 해제 횟수를 맞춤)
+    private List<String> releaseRemovedContentImages(Long noticeId, String content, StoredUploads uploads) {
+        Map<String, Integer> remaining = new HashMap<>();
+        NoticeUploadPipeline.forEachContentImage(content, path -> remaining.merge(path, 1, Integer::sum));
+
+        // 새로 등록한 이미지는 본문 사용 여부와 관계없이 유지 (삭제 시 해제)
+        List<String> kept = new ArrayList<>(uploads.getContentImagePaths());
+        kept.forEach(path -> take(remaining, path));
+
+        for (String path : noticeMapper.getContentImagePaths(noticeId)) {
+            if (take(remaining, path)) {
+                kept.add(path);
+            } else {
+                deleteImageAfterCommit(path);
+            }
+        }
+        return kept;
+    }
+
+    // 본문에 남은 사용 횟수에서 하나 차감 (남아 있지 않으면 false)
+    private static boolean take(Map<String, Integer> remaining, String path) {
+        Integer count = remaining.get(path);
+        if (count == null) {
+            return false;
+        }
+        if (count > 1) {
+            remaining.put(path, count - 1);
+        } else {
+            remaining.remove(path);
+        }
+        return true;
+    }
+
+    // 새로 저장한 이미지의 축소본(썸네일, 중간 크기)은 커밋 이후 백그라운드에서 생성
+    private void generateVariantsAfterCommit(StoredUploads uploads) {
+        afterCommit(() -> {
+            imageVariantService.generateAsync(uploads.getImagePath());
+            uploads.getContentImagePaths().forEach(imageVariantService::generateAsync);
+        });
+    }
+
+    // 교체/제거된 기존 이미지는 커밋 이후 삭제 (롤백 시 기존 파일 유지)
+    private void deleteImageAfterCommit(String imagePath) {
+        afterCommit(() -> fileService.deleteImage(imagePath));
+    }
+
+    private void deleteAttachmentAfterCommit(String attachmentPath) {
+        afterCommit(() -> fileService.deleteAttachment(attachmentPath));
+    }
+
+    private void afterCommit(FileAction action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runFileAction(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runFileAction(action);
+            }
+        });
+    }
+
+    private void runFileAction(FileAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            log.warn("커밋 이후 파일 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileAction {
+        void run() throws IOException;
+    }
+
     // 공지사항 삭제 (관련 파일 모두 삭제)
     @Transactional
     public void deleteNotice(Long noticeId) throws IOException {
@@ -218,25 +398,28 @@ public class NoticeService {
         NoticeDto notice = noticeMapper.getNoticeById(noticeId);
         
         if (notice != null) {
-            // 이미지 삭제
+            // 이미지 및 첨부파일 참조 해제 (커밋 이후, 다른 공지사항이 사용하지 않으면 파일 삭제)
             if (notice.getImagePath() != null) {
-                fileService.deleteImage(notice.getImagePath());
-                log.info("이미지 삭제 완료: {}", notice.getImagePath());
+                deleteImageAfterCommit(notice.getImagePath());
             }
-            
-            // 첨부파일 삭제
             if (notice.getAttachmentPath() != null) {
-                fileService.deleteAttachment(notice.getAttachmentPath());
-                log.info("첨부파일 삭제 완료: {}", notice.getAttachmentPath());
+                deleteAttachmentAfterCommit(notice.getAttachmentPath());
             }
+            // 이 공지사항이 등록한 본문 이미지도 등록 횟수만큼 참조 해제 (본문에 복사해 온 URL 은 제외)
+            noticeMapper.getContentImagePaths(noticeId).forEach(this::deleteImageAfterCommit);
         }
         
         noticeMapper.deleteNotice(noticeId);
+        // 롤백되면 공지사항이 남으므로 반영 대기 중인 조회수도 커밋 이후에만 버림
+        afterCommit(() -> noticeViewCounter.remove(noticeId));
+        noticeListCache.invalidate();
+        noticeSearchIndex.noticeChanged(noticeId);
+        noticeDetailCache.evict(noticeId);
         log.info("공지사항 삭제 완료, ID: {}", noticeId);
     }
 
     // 이메일을 통해 member_id 가져오기
     public Long getMemberIdByEmail(String email) {
-        return memberMapper.getMemberByEmail(email).getMemberId();
+        return memberLookup.findByEmail(email).getMemberId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.suppleit.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 공지사항 업로드 처리
+// - 대표 이미지, 첨부파일, 본문 이미지를 전용 스레드 풀에서 동시에 저장
+// - 하나라도 실패하면 이미 저장한 파일은 지우고 예외 전달
+// - 본문의 {{IMAGE_PLACEHOLDER_n}} 은 StringBuilder 로 한 번에 훑으며 공개 URL 로 치환
+@Slf4j
+@Service
+public class NoticeUploadPipeline {
+
+    private static final String PLACEHOLDER_PREFIX = "{{IMAGE_PLACEHOLDER_";
+    private static final String PLACEHOLDER_SUFFIX = "}}";
+    private static final String IMAGE_URL_MARKER = "/api/notice/image/";
+
+    private final FileService fileService;
+    private final String publicBaseUrl;
+    private final ExecutorService executor;
+
+    public NoticeUploadPipeline(
+            FileService fileService,
+            @Value("${app.public-base-url:http://localhost:8000}") String publicBaseUrl,
+            @Value("${app.upload.parallelism:4}") int parallelism) {
+        this.fileService = fileService;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "notice-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 저장된 업로드 파일 경로 (저장하지 않은 항목은 null)
+    @Getter
+    public static final class StoredUploads {
+        private String imagePath;
+        private String attachmentPath;
+        private String attachmentName;
+        private final List<String> contentImagePaths = new ArrayList<>();
+        private final AtomicBoolean discarded = new AtomicBoolean();
+
+        public boolean hasImage() {
+            return imagePath != null;
+        }
+
+        public boolean hasAttachment() {
+            return attachmentPath != null;
+        }
+
+        // 스트리밍 업로드에서 파트를 받는 대로 기록
+        void setImagePath(String imagePath) {
+            this.imagePath = imagePath;
+        }
+
+        void setAttachment(String attachmentPath, String attachmentName) {
+            this.attachmentPath = attachmentPath;
+            this.attachmentName = attachmentName;
+        }
+
+        void addContentImagePath(String contentImagePath) {
+            contentImagePaths.add(contentImagePath);
+        }
+    }
+
+    // 모든 파일을 동시에 저장 (모두 끝날 때까지 대기)
+    public StoredUploads store(MultipartFile image, MultipartFile attachment, List<MultipartFile> contentImages)
+            throws IOException {
+        StoredUploads uploads = new StoredUploads();
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+
+        if (image != null && !image.isEmpty()) {
+            tasks.add(CompletableFuture.runAsync(() -> uploads.imagePath = saveImage(image), executor));
+        }
+        if (attachment != null && !attachment.isEmpty()) {
+            uploads.attachmentName = attachment.getOriginalFilename();
+            tasks.add(CompletableFuture.runAsync(() -> uploads.attachmentPath = saveAttachment(attachment), executor));
+        }
+
+        int contentImageCount = contentImages != null ? contentImages.size() : 0;
+        String[] contentImagePaths = new String[contentImageCount];
+        for (int i = 0; i < contentImageCount; i++) {
+            int index = i;
+            tasks.add(CompletableFuture.runAsync(
+                    () -> contentImagePaths[index] = saveImage(contentImages.get(index)), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // allOf 는 모든 작업이 끝난 뒤 완료되므로 여기서 지우면 빠지는 파일이 없음
+            Collections.addAll(uploads.contentImagePaths, contentImagePaths);
+            discard(uploads);
+            throw unwrap(e);
+        }
+
+        Collections.addAll(uploads.contentImagePaths, contentImagePaths);
+        log.info("업로드 저장 완료 - 이미지: {}, 첨부파일: {}, 본문 이미지: {}개",
+                uploads.imagePath, uploads.attachmentPath, contentImageCount);
+        return uploads;
+    }
+
+    // 저장한 파일 모두 삭제 (DB 반영 실패 등)
+    // 참조 수를 두 번 줄이지 않도록 같은 업로드에 대해서는 한 번만 실행
+    public void discard(StoredUploads uploads) {
+        if (!uploads.discarded.compareAndSet(false, true)) {
+            return;
+        }
+        // 파일마다 따로 처리 (하나가 실패해도 나머지는 계속 삭제)
+        deleteQuietly(uploads.imagePath, fileService::deleteImage);
+        deleteQuietly(uploads.attachmentPath, fileService::deleteAttachment);
+        for (String path : uploads.contentImagePaths) {
+            deleteQuietly(path, fileService::deleteImage);
+        }
+    }
+
+    private void deleteQuietly(String path, FileDeletion deletion) {
+        try {
+            deletion.delete(path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("업로드 파일 정리 실패 ({}): {}", path, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileDeletion {
+        void delete(String path) throws IOException;
+    }
+
+    // 본문의 {{IMAGE_PLACEHOLDER_n}} 을 n 번째 본문 이미지의 공개 URL 로 치환 (본문을 한 번만 훑음)
+    public String substitutePlaceholders(String content, List<String> contentImagePaths) {
+        if (content == null || contentImagePaths.isEmpty()) {
+            return content;
+        }
+
+        StringBuilder result = new StringBuilder(content.length() + contentImagePaths.size() * 64);
+        int position = 0;
+        int start;
+        while ((start = content.indexOf(PLACEHOLDER_PREFIX, position)) >= 0) {
+            int digitsStart = start + PLACEHOLDER_PREFIX.length();
+            int digitsEnd = digitsStart;
+            while (digitsEnd < content.length() && Character.isDigit(content.charAt(digitsEnd))) {
+                digitsEnd++;
+            }
+
+            int index = digitsEnd > digitsStart && digitsEnd - digitsStart < 10
+                    ? Integer.parseInt(content, digitsStart, digitsEnd, 10) : -1;
+            if (index < 0 || index >= contentImagePaths.size()
+                    || !content.startsWith(PLACEHOLDER_SUFFIX, digitsEnd)) {
+                // 형식이 맞지 않거나 해당 이미지가 없으면 그대로 둠
+                result.append(content, position, digitsStart);
+                position = digitsStart;
+                continue;
+            }
+
+            result.append(content, position, start).append(imageUrl(contentImagePaths.get(index)));
+            position = digitsEnd + PLACEHOLDER_SUFFIX.length();
+        }
+        result.append(content, position, content.length());
+        return result.toString();
+    }
+
+    // 공지사항 이미지 공개 URL
+    public String imageUrl(String imagePath) {
+        return publicBaseUrl + IMAGE_URL_MARKER + imagePath;
+    }
+
+    // 본문의 이미지 URL(.../api/notice/image/yyyy/MM/dd/파일명)에서 상대 경로 추출
+    public static void forEachContentImage(String content, Consumer<String> sink) {
+        if (content == null) {
+            return;
+        }
+        int position = 0;
+        int start;
+        while ((start = content.indexOf(IMAGE_URL_MARKER, position)) >= 0) {
+            int pathStart = start + IMAGE_URL_MARKER.length();
+            int end = pathStart;
+            while (end < content.length() && isPathChar(content.charAt(end))) {
+                end++;
+            }
+            if (end > pathStart) {
+                sink.accept(content.substring(pathStart, end));
+            }
+            position = end;
+        }
+    }
+
+    private static boolean isPathChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '/' || c == '_' || c == '-' || c == '.';
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private String saveImage(MultipartFile file) {
+        try {
+            return fileService.saveImage(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String saveAttachment(MultipartFile file) {
+        try {
+            return fileService.saveAttachment(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IOException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;  // 이미지 형식 오류(IllegalArgumentException) 등은 그대로 전달
+        }
+        return new IOException(cause);
+    }
+}
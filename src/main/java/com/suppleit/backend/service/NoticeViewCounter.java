@@ -0,0 +1,134 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.NoticeMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 공지사항 조회수 지연 반영 (write-behind)
+// 조회 시에는 공지사항별 LongAdder 만 증가시키고, 주기적으로 모아서 UPDATE 한 번으로 반영
+// 인기 공지사항에 대한 행 잠금 경합과 조회마다 발생하던 쓰기를 없앰
+// 마지막으로 확인한 DB 조회수 + 아직 반영 안 된 증가분으로 현재 조회수를 SQL 없이 계산
+// DB 조회 도중 반영이 진행되면 읽은 값에 증가분이 포함됐는지 알 수 없으므로 반영 세대로 구분해 기준값으로 쓰지 않음
+@Slf4j
+@Component
+public class NoticeViewCounter {
+
+    private final NoticeMapper noticeMapper;
+    private final int maxBatchSize;
+
+    private final Map<Long, ViewCount> counts = new ConcurrentHashMap<>();
+
+    // 공지사항별 조회수 (DB 에 반영된 값 + 반영 대기 중인 증가분)
+    private static final class ViewCount {
+        private final AtomicLong persisted = new AtomicLong(-1);  // 아직 DB 값을 모르면 -1
+        private final AtomicLong generation = new AtomicLong();   // 반영 시작/완료마다 증가 (홀수면 반영 중)
+        private final LongAdder pending = new LongAdder();
+    }
+
+    public NoticeViewCounter(
+            NoticeMapper noticeMapper,
+            @Value("${notice.views.flush-batch-size:500}") int maxBatchSize) {
+        this.noticeMapper = noticeMapper;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // 조회수 1 증가 (메모리에만 기록)
+    public void increment(Long noticeId) {
+        counts.computeIfAbsent(noticeId, id -> new ViewCount()).pending.increment();
+    }
+
+    // DB 조회 직전에 호출해 반영 세대를 받아 둠 (observe 에 전달)
+    public long generation(Long noticeId) {
+        ViewCount count = counts.get(noticeId);  // 없는 공지사항 ID 로 카운터가 쌓이지 않도록 만들지 않음
+        return count != null ? count.generation.get() : 0;
+    }
+
+    // DB 에서 읽은 조회수를 기억하고, 반영 대기 중인 증가분을 더한 현재 조회수 반환
+    // 조회 전후로 반영이 진행 중이었거나 끝났으면 (세대가 다르면) 기준값은 바꾸지 않음
+    // 기준값을 읽은 뒤 반영 결과가 더해졌으면 CAS 가 실패하므로 증가분이 두 번 더해지지 않음
+    public long observe(Long noticeId, long dbViews, long generation) {
+        ViewCount count = counts.computeIfAbsent(noticeId, id -> new ViewCount());
+        long persisted = count.persisted.get();
+        if ((generation & 1) == 0 && count.generation.get() == generation) {
+            count.persisted.compareAndSet(persisted, dbViews);
+        }
+        return dbViews + count.pending.sum();
+    }
+
+    // 현재 조회수 (DB 값을 아직 모르면 -1)
+    public long currentViews(Long noticeId) {
+        ViewCount count = counts.get(noticeId);
+        long persisted = count != null ? count.persisted.get() : -1;
+        if (persisted < 0) {
+            return -1;
+        }
+        return persisted + count.pending.sum();
+    }
+
+    // 삭제된 공지사항의 카운터 제거
+    public void remove(Long noticeId) {
+        counts.remove(noticeId);
+    }
+
+    // 반영 대기 중인 증가분을 모아 일괄 UPDATE
+    @Scheduled(fixedDelayString = "${notice.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, ViewCount> entry : counts.entrySet()) {
+            // sumThenReset 은 셀 단위로 원자적으로 비우므로 동시 증가분은 이번 또는 다음 반영에 포함됨
+            ViewCount count = entry.getValue();
+            long delta = count.pending.sumThenReset();
+            if (delta > 0) {
+                count.generation.incrementAndGet();  // 반영 시작
+                deltas.put(entry.getKey(), delta);
+                if (deltas.size() >= maxBatchSize) {
+                    write(deltas);
+                    deltas = new HashMap<>();
+                }
+            }
+        }
+        write(deltas);
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            noticeMapper.addViews(deltas);
+            deltas.forEach((noticeId, delta) -> {
+                ViewCount count = counts.get(noticeId);
+                if (count != null) {
+                    count.persisted.updateAndGet(persisted -> persisted >= 0 ? persisted + delta : persisted);
+                    count.generation.incrementAndGet();  // 반영 완료
+                }
+            });
+            log.debug("공지사항 조회수 반영: {}건", deltas.size());
+        } catch (Exception e) {
+            // 실패한 증가분은 다음 반영 때 다시 시도
+            deltas.forEach((noticeId, delta) -> {
+                ViewCount count = counts.get(noticeId);
+                if (count != null) {
+                    count.pending.add(delta);
+                    count.generation.incrementAndGet();  // 반영 실패도 완료로 처리
+                }
+            });
+            log.warn("공지사항 조회수 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    // 정상 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,13 @@
+package com.suppleit.backend.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해시 작업 큐가 가득 찬 경우 (503 응답)
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "요청이 많아 잠시 후 다시 시도해주세요.")
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
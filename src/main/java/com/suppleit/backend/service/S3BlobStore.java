@@ -0,0 +1,318 @@
+package com.suppleit.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등)
+// - 업로드는 part-size 단위로 읽으면서 멀티파트 업로드, 파트는 전용 스레드 풀에서 동시에 전송
+//   (업로드 하나가 메모리에 들고 있는 파트는 parallelism + 1 개 이하)
+// - part-size 보다 작은 파일은 PutObject 한 번으로 저장
+// - 임시 키(incoming/)에 올린 뒤 내용 해시가 정해지면 서버 측 복사로 최종 키에 저장 (데이터는 다시 전송하지 않음)
+// - 다운로드는 presigned URL 로 리다이렉트해 애플리케이션 서버를 거치지 않음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private static final String INCOMING_PREFIX = "incoming/";
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final int partSize;
+    private final int parallelism;
+    private final Duration presignTtl;
+    private final ExecutorService executor;
+
+    public S3BlobStore(
+            @Value("${app.storage.s3.bucket}") String bucket,
+            @Value("${app.storage.s3.endpoint:}") String endpoint,
+            @Value("${app.storage.s3.region:us-east-1}") String region,
+            @Value("${app.storage.s3.access-key:}") String accessKey,
+            @Value("${app.storage.s3.secret-key:}") String secretKey,
+            @Value("${app.storage.s3.path-style:true}") boolean pathStyle,
+            @Value("${app.storage.s3.part-size:8MB}") DataSize partSize,
+            @Value("${app.storage.s3.parallelism:4}") int parallelism,
+            @Value("${app.storage.s3.presign-ttl:10m}") Duration presignTtl) {
+        this.bucket = bucket;
+        // S3 멀티파트의 마지막 파트를 제외한 최소 크기는 5MB
+        this.partSize = (int) Math.max(partSize.toBytes(), DataSize.ofMegabytes(5).toBytes());
+        this.parallelism = Math.max(1, parallelism);
+        this.presignTtl = presignTtl;
+
+        AwsCredentialsProvider credentials = accessKey.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyle)
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        if (!endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+        this.s3 = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism * 2, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public StagedBlob stage(Area area, InputStream in) throws IOException {
+        String tempKey = INCOMING_PREFIX + UUID.randomUUID();
+
+        byte[] first = in.readNBytes(partSize);
+        if (first.length < partSize) {
+            // 작은 파일은 한 번에 저장
+            s3.putObject(b -> b.bucket(bucket).key(tempKey), RequestBody.fromBytes(first));
+            return new S3StagedBlob(area, tempKey, first.length);
+        }
+
+        String uploadId = s3.createMultipartUpload(b -> b.bucket(bucket).key(tempKey)).uploadId();
+        try {
+            long size = uploadParts(tempKey, uploadId, first, in);
+            return new S3StagedBlob(area, tempKey, size);
+        } catch (IOException | RuntimeException e) {
+            s3.abortMultipartUpload(b -> b.bucket(bucket).key(tempKey).uploadId(uploadId));
+            throw e;
+        }
+    }
+
+    // 파트를 읽는 대로 동시에 전송 (동시에 전송 중인 파트는 parallelism 개 이하)
+    private long uploadParts(String key, String uploadId, byte[] first, InputStream in) throws IOException {
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        long size = 0;
+        int partNumber = 1;
+        byte[] data = first;
+
+        try {
+            while (data.length > 0) {
+                inFlight.acquire();
+                int number = partNumber++;
+                byte[] partData = data;
+                parts.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        UploadPartResponse response = s3.uploadPart(b -> b.bucket(bucket).key(key)
+                                .uploadId(uploadId).partNumber(number).contentLength((long) partData.length),
+                                RequestBody.fromBytes(partData));
+                        return CompletedPart.builder().partNumber(number).eTag(response.eTag()).build();
+                    } finally {
+                        inFlight.release();
+                    }
+                }, executor));
+                size += data.length;
+
+                // 앞선 파트가 실패했으면 남은 본문을 읽지 않고 중단
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally) || data.length < partSize) {
+                    break;
+                }
+                data = in.readNBytes(partSize);
+            }
+
+            List<CompletedPart> completed = new ArrayList<>(parts.size());
+            for (CompletableFuture<CompletedPart> part : parts) {
+                completed.add(part.join());
+            }
+            completed.sort(Comparator.comparing(CompletedPart::partNumber));
+            s3.completeMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(completed)));
+            return size;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("업로드가 중단되었습니다.");
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IOException(e.getCause());
+        } finally {
+            parts.forEach(part -> part.cancel(false));
+        }
+    }
+
+    @Override
+    public boolean exists(Area area, String key) {
+        try {
+            s3.headObject(b -> b.bucket(bucket).key(objectKey(area, key)));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(Area area, String key) throws IOException {
+        try {
+            return s3.getObject(b -> b.bucket(bucket).key(objectKey(area, key)));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        }
+    }
+
+    @Override
+    public void delete(Area area, String key) {
+        s3.deleteObject(b -> b.bucket(bucket).key(objectKey(area, key)));
+    }
+
+    @Override
+    public List<String> listDirectories(Area area, String prefix) {
+        String areaPrefix = areaPrefix(area);
+        List<String> directories = new ArrayList<>();
+        s3.listObjectsV2Paginator(b -> b.bucket(bucket).prefix(areaPrefix + prefix).delimiter("/"))
+                .commonPrefixes()
+                .stream()
+                .map(CommonPrefix::prefix)
+                .forEach(p -> directories.add(p.substring(areaPrefix.length())));
+        return directories;
+    }
+
+    @Override
+    public List<BlobInfo> listFiles(Area area, String prefix) {
+        String areaPrefix = areaPrefix(area);
+        List<BlobInfo> files = new ArrayList<>();
+        for (S3Object object : s3.listObjectsV2Paginator(
+                b -> b.bucket(bucket).prefix(areaPrefix + prefix).delimiter("/")).contents()) {
+            files.add(new BlobInfo(object.key().substring(areaPrefix.length()), object.size(), object.lastModified()));
+        }
+        return files;
+    }
+
+    // 임시 키는 영역 구분 없이 하나의 접두어를 사용하므로 이미지 영역 정리 때 한 번만 처리
+    @Override
+    public void purgeStaged(Area area, Instant cutoff) {
+        if (area != Area.IMAGE) {
+            return;
+        }
+        for (S3Object object : s3.listObjectsV2Paginator(b -> b.bucket(bucket).prefix(INCOMING_PREFIX)).contents()) {
+            if (object.lastModified().isBefore(cutoff)) {
+                s3.deleteObject(b -> b.bucket(bucket).key(object.key()));
+            }
+        }
+        for (MultipartUpload upload : s3.listMultipartUploadsPaginator(
+                b -> b.bucket(bucket).prefix(INCOMING_PREFIX)).uploads()) {
+            if (upload.initiated().isBefore(cutoff)) {
+                s3.abortMultipartUpload(b -> b.bucket(bucket).key(upload.key()).uploadId(upload.uploadId()));
+            }
+        }
+    }
+
+    @Override
+    public URI downloadUrl(Area area, String key, String contentType, String contentDisposition) {
+        try {
+            return presigner.presignGetObject(request -> request
+                    .signatureDuration(presignTtl)
+                    .getObjectRequest(b -> b.bucket(bucket).key(objectKey(area, key))
+                            .responseContentType(contentType)
+                            .responseContentDisposition(contentDisposition)))
+                    .url()
+                    .toURI();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        presigner.close();
+        s3.close();
+    }
+
+    private static String areaPrefix(Area area) {
+        return area == Area.IMAGE ? "images/" : "attachments/";
+    }
+
+    private static String objectKey(Area area, String key) {
+        return areaPrefix(area) + key;
+    }
+
+    private final class S3StagedBlob implements StagedBlob {
+        private final Area area;
+        private final String tempKey;
+        private final long size;
+        private boolean committed;
+
+        private S3StagedBlob(Area area, String tempKey, long size) {
+            this.area = area;
+            this.tempKey = tempKey;
+            this.size = size;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        // 서버 측 복사 후 임시 키 삭제 (CopyObject 는 5GB 까지 지원)
+        @Override
+        public void commit(String key) {
+            s3.copyObject(b -> b.sourceBucket(bucket).sourceKey(tempKey)
+                    .destinationBucket(bucket).destinationKey(objectKey(area, key)));
+            committed = true;
+            s3.deleteObject(b -> b.bucket(bucket).key(tempKey));
+        }
+
+        @Override
+        public void discard() {
+            if (!committed) {
+                s3.deleteObject(b -> b.bucket(bucket).key(tempKey));
+            }
+        }
+    }
+}
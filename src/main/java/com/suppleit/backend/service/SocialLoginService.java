@@ -13,15 +13,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -29,10 +29,11 @@ import java.util.UUID;
 public class SocialLoginService {
 
     private final MemberMapper memberMapper;
+    private final MemberLookup memberLookup;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberAvailabilityIndex availabilityIndex;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
@@ -46,6 +47,25 @@ public class SocialLoginService {
     @Value("${spring.security.oauth2.client.registration.naver.client-secret}")
     private String naverClientSecret;
 
+    @Value("${oauth.google.redirect-uri:http://localhost:3000/callback/google}")
+    private String googleRedirectUri;
+
+    @Value("${oauth.google.discovery-uri:https://accounts.google.com/.well-known/openid-configuration}")
+    private String googleDiscoveryUri;
+
+    @Value("${oauth.discovery.cache-ttl-ms:86400000}")
+    private long discoveryCacheTtlMillis;
+
+    private static final String GOOGLE_TOKEN_URI = "https://oauth2.googleapis.com/token";
+    private static final String GOOGLE_USERINFO_URI = "https://www.googleapis.com/oauth2/v3/userinfo";
+    private static final String NAVER_TOKEN_URI = "https://nid.naver.com/oauth2.0/token";
+    private static final String NAVER_USERINFO_URI = "https://openapi.naver.com/v1/nid/me";
+
+    // 구글 엔드포인트 (OpenID discovery 문서에서 읽어 캐시, 실패 시 기본값)
+    private record ProviderEndpoints(String tokenUri, String userInfoUri, long loadedAt) {}
+
+    private volatile ProviderEndpoints googleEndpoints;
+
     // 카카오 로그인 - 사용하지 않음
     /*
     public Map<String, Object> getKakaoMember(String accessToken) {
@@ -88,204 +108,205 @@ public class SocialLoginService {
     // 구글 로그인
     public Map<String, Object> getGoogleMember(String code) {
         try {
-            log.info("구글 인증 코드 처리 시작: {}", code);
-            
-            // 1. 인증 코드로 액세스 토큰 요청
-            HttpHeaders tokenHeaders = new HttpHeaders();
-            tokenHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            
+            log.info("구글 인증 코드 처리 시작");
+            ProviderEndpoints endpoints = googleEndpoints();
+
+            // 1. 인증 코드로 토큰 요청
             MultiValueMap<String, String> tokenRequest = new LinkedMultiValueMap<>();
             tokenRequest.add("code", code);
             tokenRequest.add("client_id", googleClientId);
             tokenRequest.add("client_secret", googleClientSecret);
-            tokenRequest.add("redirect_uri", "http://localhost:3000/callback/google");
+            tokenRequest.add("redirect_uri", googleRedirectUri);
             tokenRequest.add("grant_type", "authorization_code");
-            
-            HttpEntity<MultiValueMap<String, String>> tokenEntity = new HttpEntity<>(tokenRequest, tokenHeaders);
-            
-            log.info("구글 토큰 요청: {}", tokenRequest);
-            
-            ResponseEntity<String> tokenResponse = restTemplate.exchange(
-                    "https://oauth2.googleapis.com/token",
-                    HttpMethod.POST,
-                    tokenEntity,
-                    String.class
-            );
-            
-            log.info("구글 토큰 응답: {}", tokenResponse.getBody());
-            
-            // 2. 응답에서 액세스 토큰 추출
-            JsonNode tokenJson = objectMapper.readTree(tokenResponse.getBody());
-            String accessToken = tokenJson.get("access_token").asText();
-            
-            log.info("구글 액세스 토큰 획득: {}", accessToken);
-            
-            // 3. 이후 기존 로직을 사용하여 사용자 정보 요청
-            return getGoogleUserInfo(accessToken);
+
+            JsonNode tokenJson = requestToken(endpoints.tokenUri(), tokenRequest);
+
+            // 2. id_token 이 있으면 그 안의 사용자 정보 사용 (사용자 정보 API 호출 생략)
+            JsonNode idTokenClaims = tokenJson.hasNonNull("id_token")
+                    ? readGoogleIdToken(tokenJson.get("id_token").asText()) : null;
+            if (idTokenClaims != null && idTokenClaims.hasNonNull("email")) {
+                String nickname = idTokenClaims.hasNonNull("name") ? idTokenClaims.get("name").asText() : "구글 사용자";
+                return processSocialLogin(idTokenClaims.get("email").asText(), nickname, SocialType.GOOGLE);
+            }
+
+            // 3. 없으면 액세스 토큰으로 사용자 정보 요청
+            return getGoogleUserInfo(endpoints.userInfoUri(), tokenJson.get("access_token").asText());
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("구글 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("구글 로그인 처리 중 오류 발생: " + e.getMessage(), e);
         }
     }
     
-    // 기존 getGoogleMember 메서드를 getGoogleUserInfo로 이름 변경하고 내부 로직 유지
-    private Map<String, Object> getGoogleUserInfo(String accessToken) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
-
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                    "https://www.googleapis.com/oauth2/v3/userinfo",
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+    private Map<String, Object> getGoogleUserInfo(String userInfoUri, String accessToken) throws Exception {
+        JsonNode jsonNode = requestUserInfo(userInfoUri, accessToken);
 
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            log.info("구글 API 응답: {}", jsonNode.toString());
-
-            String email = jsonNode.has("email") ? jsonNode.get("email").asText() : null;
-            String nickname = jsonNode.has("name") ? jsonNode.get("name").asText() : "구글 사용자";
+        String email = jsonNode.has("email") ? jsonNode.get("email").asText() : null;
+        String nickname = jsonNode.has("name") ? jsonNode.get("name").asText() : "구글 사용자";
 
-            if (email == null || email.isEmpty()) {
-                throw new IllegalArgumentException("구글 계정에서 이메일을 제공하지 않았습니다. 이메일 제공에 동의해주세요.");
-            }
-
-            return processSocialLogin(email, nickname, SocialType.GOOGLE);
-        } catch (Exception e) {
-            log.error("구글 사용자 정보 조회 중 오류: {}", e.getMessage());
-            throw new RuntimeException("구글 사용자 정보 조회 중 오류 발생: " + e.getMessage(), e);
+        if (email == null || email.isEmpty()) {
+            throw new IllegalArgumentException("구글 계정에서 이메일을 제공하지 않았습니다. 이메일 제공에 동의해주세요.");
         }
+
+        return processSocialLogin(email, nickname, SocialType.GOOGLE);
     }
 
     public Map<String, Object> getNaverMember(String code) {
         try {
-            log.info("네이버 인증 코드 처리 시작 - 코드: {}, 상태: {}", code);
+            log.info("네이버 인증 코드 처리 시작");
             
             // 1. 인증 코드로 액세스 토큰 요청
-            HttpHeaders tokenHeaders = new HttpHeaders();
-            tokenHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-            
             MultiValueMap<String, String> tokenRequest = new LinkedMultiValueMap<>();
             tokenRequest.add("grant_type", "authorization_code");
             tokenRequest.add("client_id", naverClientId);
             tokenRequest.add("client_secret", naverClientSecret);
             tokenRequest.add("code", code);
+
+            JsonNode tokenJson = requestToken(NAVER_TOKEN_URI, tokenRequest);
             
-            HttpEntity<MultiValueMap<String, String>> tokenEntity = new HttpEntity<>(tokenRequest, tokenHeaders);
-            
-            log.info("네이버 토큰 요청: {}", tokenRequest);
-            
-            ResponseEntity<String> tokenResponse = restTemplate.exchange(
-                    "https://nid.naver.com/oauth2.0/token",
-                    HttpMethod.POST,
-                    tokenEntity,
-                    String.class
-            );
-            
-            log.info("네이버 토큰 응답: {}", tokenResponse.getBody());
-            
-            // 2. 응답에서 액세스 토큰 추출
-            JsonNode tokenJson = objectMapper.readTree(tokenResponse.getBody());
-            String accessToken = tokenJson.get("access_token").asText();
-            
-            log.info("네이버 액세스 토큰 획득: {}", accessToken);
-            
-            // 3. 이후 기존 로직을 사용하여 사용자 정보 요청
-            return getNaverUserInfo(accessToken);
+            // 2. 액세스 토큰으로 사용자 정보 요청 (네이버는 id_token 미제공)
+            return getNaverUserInfo(tokenJson.get("access_token").asText());
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("네이버 로그인 처리 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("네이버 로그인 처리 중 오류 발생: " + e.getMessage(), e);
         }
     }
     
-    // 기존 getNaverMember 메서드를 getNaverUserInfo로 이름 변경하고 내부 로직 유지
-    private Map<String, Object> getNaverUserInfo(String accessToken) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + accessToken);
+    private Map<String, Object> getNaverUserInfo(String accessToken) throws Exception {
+        JsonNode jsonNode = requestUserInfo(NAVER_USERINFO_URI, accessToken);
 
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                    "https://openapi.naver.com/v1/nid/me",
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+        // 네이버 API는 response 객체 안에 실제 데이터가 있음
+        JsonNode responseData = jsonNode.get("response");
+        
+        String email = responseData.has("email") ? responseData.get("email").asText() : null;
+        String nickname = responseData.has("nickname") ? responseData.get("nickname").asText() : 
+                responseData.has("name") ? responseData.get("name").asText() : "네이버 사용자";
 
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            log.info("네이버 API 응답: {}", jsonNode.toString());
+        if (email == null || email.isEmpty()) {
+            throw new IllegalArgumentException("네이버 계정에서 이메일을 제공하지 않았습니다. 이메일 제공에 동의해주세요.");
+        }
 
-            // 네이버 API는 response 객체 안에 실제 데이터가 있음
-            JsonNode responseData = jsonNode.get("response");
-            
-            String email = responseData.has("email") ? responseData.get("email").asText() : null;
-            String nickname = responseData.has("nickname") ? responseData.get("nickname").asText() : 
-                    responseData.has("name") ? responseData.get("name").asText() : "네이버 사용자";
+        return processSocialLogin(email, nickname, SocialType.NAVER);
+    }
 
-            if (email == null || email.isEmpty()) {
-                throw new IllegalArgumentException("네이버 계정에서 이메일을 제공하지 않았습니다. 이메일 제공에 동의해주세요.");
+    private JsonNode requestToken(String tokenUri, MultiValueMap<String, String> form) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                tokenUri, HttpMethod.POST, new HttpEntity<>(form, headers), String.class);
+        JsonNode tokenJson = objectMapper.readTree(response.getBody());
+        if (!tokenJson.hasNonNull("access_token")) {
+            throw new IllegalArgumentException("소셜 로그인 토큰 발급에 실패했습니다.");
+        }
+        return tokenJson;
+    }
+
+    private JsonNode requestUserInfo(String userInfoUri, String accessToken) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                userInfoUri, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        return objectMapper.readTree(response.getBody());
+    }
+
+    // 구글 id_token 클레임 읽기
+    // 토큰 엔드포인트에서 TLS 로 직접 받은 토큰이므로 서명 대신 발급자/대상/만료만 확인 (OpenID Connect Core 3.1.3.7)
+    private JsonNode readGoogleIdToken(String idToken) {
+        try {
+            String[] parts = idToken.split("\\.");
+            if (parts.length < 2) {
+                return null;
             }
+            JsonNode claims = objectMapper.readTree(
+                    new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+
+            String issuer = claims.path("iss").asText();
+            boolean validIssuer = "https://accounts.google.com".equals(issuer) || "accounts.google.com".equals(issuer);
+            boolean validAudience = googleClientId.equals(claims.path("aud").asText());
+            boolean notExpired = claims.path("exp").asLong() * 1000 > System.currentTimeMillis();
+            boolean emailVerified = claims.path("email_verified").asBoolean(false);
+
+            return validIssuer && validAudience && notExpired && emailVerified ? claims : null;
+        } catch (Exception e) {
+            log.debug("구글 id_token 해석 실패, 사용자 정보 API 로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            return processSocialLogin(email, nickname, SocialType.NAVER);
+    // 구글 discovery 문서 캐시 (TTL 동안 재사용, 조회 실패 시 기본 엔드포인트)
+    private ProviderEndpoints googleEndpoints() {
+        ProviderEndpoints cached = googleEndpoints;
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < discoveryCacheTtlMillis) {
+            return cached;
+        }
+
+        ProviderEndpoints loaded;
+        try {
+            JsonNode discovery = objectMapper.readTree(restTemplate.getForObject(googleDiscoveryUri, String.class));
+            loaded = new ProviderEndpoints(
+                    discovery.path("token_endpoint").asText(GOOGLE_TOKEN_URI),
+                    discovery.path("userinfo_endpoint").asText(GOOGLE_USERINFO_URI),
+                    System.currentTimeMillis());
         } catch (Exception e) {
-            log.error("네이버 사용자 정보 조회 중 오류: {}", e.getMessage());
-            throw new RuntimeException("네이버 사용자 정보 조회 중 오류 발생: " + e.getMessage(), e);
+            log.warn("구글 OpenID discovery 조회 실패, 기본 엔드포인트 사용: {}", e.getMessage());
+            loaded = cached != null
+                    ? new ProviderEndpoints(cached.tokenUri(), cached.userInfoUri(), System.currentTimeMillis())
+                    : new ProviderEndpoints(GOOGLE_TOKEN_URI, GOOGLE_USERINFO_URI, System.currentTimeMillis());
         }
+        googleEndpoints = loaded;
+        return loaded;
     }
 
     // 소셜 로그인 공통 처리 메서드
     private Map<String, Object> processSocialLogin(String email, String nickname, SocialType socialType) {
-        Member existingMember = memberMapper.getMemberByEmail(email);
-        String jwtToken;
-        String refreshToken;
-        MemberDto memberDto;
+        Member member = memberLookup.findByEmail(email);
 
-        if (existingMember != null) {
-            // 이미 등록된 회원인 경우
-            log.info("기존 {} 계정으로 로그인: {}", socialType, email);
-            
-            // 소셜 타입이 다른 경우 오류 발생
-            if (existingMember.getSocialType() != socialType && existingMember.getSocialType() != SocialType.NONE) {
-                throw new IllegalArgumentException("이미 다른 소셜 계정(" + existingMember.getSocialType() + ")으로 가입된 이메일입니다.");
-            }
-            
-            String role = existingMember.getMemberRole().name();
-            jwtToken = jwtTokenProvider.createToken(email, role);
-            refreshToken = jwtTokenProvider.createRefreshToken(email);
-            memberDto = MemberDto.fromEntity(existingMember);
-        } else {
-            // 신규 회원 등록
-            // 소셜 로그인 이용자는 랜덤 패스워드 부여 (로컬 로그인 불가)
-            String randomPassword = UUID.randomUUID().toString();
-            String encodedPassword = passwordEncoder.encode(randomPassword);
-            
+        if (member == null) {
+            // 신규 회원 등록 (소셜 로그인 이용자는 비밀번호 없음 → 로컬 로그인 불가, 해시 계산 불필요)
             Member newMember = Member.builder()
                     .email(email)
-                    .password(encodedPassword) // 암호화된 랜덤 비밀번호
                     .nickname(nickname)
                     .memberRole(MemberRole.USER) // 기본 사용자 권한
                     .socialType(socialType)
                     .build();
 
-            memberMapper.insertMember(newMember);
-            log.info("{} 계정 신규 등록: {}", socialType, email);
-            
-            // 방금 등록한 회원 정보 조회
-            Member savedMember = memberMapper.getMemberByEmail(email);
-            
-            jwtToken = jwtTokenProvider.createToken(email, MemberRole.USER.name());
-            refreshToken = jwtTokenProvider.createRefreshToken(email);
-            memberDto = MemberDto.fromEntity(savedMember);
+            // 영향받은 행 수는 드라이버 설정(useAffectedRows)에 따라 중복이어도 1 이 될 수 있으므로 생성 키로 판단
+            memberMapper.insertSocialMemberIfAbsent(newMember);
+            if (newMember.getMemberId() != null) {
+                memberLookup.put(newMember);  // 생성 키가 채워진 객체를 그대로 사용 (재조회 없음)
+                availabilityIndex.memberAdded(email, nickname);
+                log.info("{} 계정 신규 등록: {}", socialType, email);
+                member = newMember;
+            } else {
+                // 동시에 같은 이메일로 첫 로그인한 경우: 이미 등록된 회원으로 처리
+                memberLookup.evict(email);
+                member = memberLookup.findByEmail(email);
+                if (member == null) {
+                    throw new IllegalStateException("소셜 회원 등록에 실패했습니다: " + email);
+                }
+            }
+        } else {
+            log.info("기존 {} 계정으로 로그인: {}", socialType, email);
         }
 
+        // 소셜 타입이 다른 경우 오류 발생
+        if (member.getSocialType() != socialType && member.getSocialType() != SocialType.NONE) {
+            throw new IllegalArgumentException("이미 다른 소셜 계정(" + member.getSocialType() + ")으로 가입된 이메일입니다.");
+        }
+
+        MemberRole role = member.getMemberRole() != null ? member.getMemberRole() : MemberRole.USER;
+
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
-        response.put("accessToken", jwtToken);
-        response.put("refreshToken", refreshToken);
-        response.put("member", memberDto);
+        response.put("accessToken", jwtTokenProvider.createToken(email, role.name()));
+        response.put("refreshToken", jwtTokenProvider.createRefreshToken(email));
+        response.put("member", MemberDto.fromEntity(member));
 
         return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.service.NoticeUploadPipeline.StoredUploads;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadFileCountLimitException;
+import org.apache.commons.fileupload2.core.FileUploadException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 공지사항 multipart 요청을 스트리밍으로 처리
+// Spring 의 MultipartResolver 를 거치지 않고 요청 본문을 파트 단위로 순서대로 읽어
+// 파일 파트는 메모리/임시 파일 버퍼링 없이 바로 저장소(FileService)로 기록 (해시/크기는 기록하면서 계산)
+// 파트별/전체 크기 제한은 읽는 도중 바로 검사하므로 한도를 넘으면 남은 본문을 읽기 전에 중단
+// 파트 이름은 기존 등록/수정 API 와 같음 (notice, image, attachment, contentImages)
+@Slf4j
+@Service
+public class StreamingUploadService {
+
+    private final FileService fileService;
+    private final NoticeUploadPipeline uploadPipeline;
+    private final ObjectMapper objectMapper;
+    private final long maxPartSize;
+    private final long maxRequestSize;
+    private final int maxNoticeJsonSize;
+    private final int maxParts;
+
+    // 파싱 결과 (공지사항 정보 + 저장된 파일)
+    public record Result(NoticeDto notice, StoredUploads uploads) {}
+
+    public StreamingUploadService(
+            FileService fileService,
+            NoticeUploadPipeline uploadPipeline,
+            ObjectMapper objectMapper,
+            @Value("${app.upload.stream.max-part-size:2GB}") DataSize maxPartSize,
+            @Value("${app.upload.stream.max-request-size:4GB}") DataSize maxRequestSize,
+            @Value("${app.upload.stream.max-notice-json-size:1MB}") DataSize maxNoticeJsonSize,
+            @Value("${app.upload.stream.max-parts:100}") int maxParts) {
+        this.fileService = fileService;
+        this.uploadPipeline = uploadPipeline;
+        this.objectMapper = objectMapper;
+        this.maxPartSize = maxPartSize.toBytes();
+        this.maxRequestSize = maxRequestSize.toBytes();
+        this.maxNoticeJsonSize = (int) maxNoticeJsonSize.toBytes();
+        this.maxParts = maxParts;
+    }
+
+    public static boolean isMultipart(HttpServletRequest request) {
+        return JakartaServletFileUpload.isMultipartContent(request);
+    }
+
+    // 요청 본문을 읽으며 파일을 저장, 실패하면 이미 저장한 파일을 지우고 예외 전달
+    // 크기 제한 초과 시 FileUploadSizeException (FileUploadException 하위 타입)
+    public Result read(HttpServletRequest request) throws IOException {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setFileSizeMax(maxPartSize);  // 파트 하나 (읽는 도중 초과하면 바로 예외)
+        upload.setSizeMax(maxRequestSize);   // 요청 전체 (Content-Length 가 크면 읽기 전에 예외)
+        // 파트 수 제한(setFileCountMax)은 parseRequest 에서만 검사하므로 아래 반복에서 직접 셈
+
+        StoredUploads uploads = new StoredUploads();
+        NoticeDto notice = null;
+        int partCount = 0;
+        try {
+            FileItemInputIterator parts = upload.getItemIterator(request);
+            while (parts.hasNext()) {
+                FileItemInput part = parts.next();
+                if (++partCount > maxParts) {
+                    throw new FileUploadFileCountLimitException("파트 수가 너무 많습니다.", maxParts, partCount);
+                }
+                String name = part.getFieldName();
+                try (InputStream in = part.getInputStream()) {
+                    if ("notice".equals(name)) {
+                        notice = readNotice(in);
+                    } else if (part.isFormField() || part.getName() == null || part.getName().isEmpty()) {
+                        log.debug("알 수 없는 파트 무시: {}", name);
+                    } else if ("image".equals(name)) {
+                        rejectDuplicate(uploads.hasImage(), name);
+                        uploads.setImagePath(fileService.saveImage(in, part.getName(), part.getContentType()));
+                    } else if ("attachment".equals(name)) {
+                        rejectDuplicate(uploads.hasAttachment(), name);
+                        uploads.setAttachment(fileService.saveAttachment(in, part.getName()), part.getName());
+                    } else if ("contentImages".equals(name)) {
+                        uploads.addContentImagePath(fileService.saveImage(in, part.getName(), part.getContentType()));
+                    } else {
+                        log.debug("알 수 없는 파일 파트 무시: {}", name);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            uploadPipeline.discard(uploads);
+            throw e;
+        }
+
+        if (notice == null) {
+            uploadPipeline.discard(uploads);
+            throw new IllegalArgumentException("공지사항 정보(notice 파트)가 필요합니다.");
+        }
+        log.info("스트리밍 업로드 완료 - 이미지: {}, 첨부파일: {}, 본문 이미지: {}개",
+                uploads.getImagePath(), uploads.getAttachmentPath(), uploads.getContentImagePaths().size());
+        return new Result(notice, uploads);
+    }
+
+    // 대표 이미지/첨부파일 파트가 두 번 오면 거부 (앞서 저장한 파일의 참조가 덮어써져 해제되지 않으므로)
+    private static void rejectDuplicate(boolean alreadyStored, String name) {
+        if (alreadyStored) {
+            throw new IllegalArgumentException(name + " 파트는 하나만 보낼 수 있습니다.");
+        }
+    }
+
+    // notice 파트(JSON)는 크기를 제한해 읽음
+    private NoticeDto readNotice(InputStream in) throws IOException {
+        byte[] json = in.readNBytes(maxNoticeJsonSize + 1);
+        if (json.length > maxNoticeJsonSize) {
+            throw new FileUploadException("공지사항 정보가 너무 큽니다.");
+        }
+        return objectMapper.readValue(json, NoticeDto.class);
+    }
+}
@@ -0,0 +1,324 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import com.suppleit.backend.service.BlobStore.Area;
+import com.suppleit.backend.service.BlobStore.BlobInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용하지 않는 업로드 파일 정리 (점진적)
+// 롤백된 등록/수정이나 본문에서 지워진 이미지처럼 어떤 공지사항도 참조하지 않는 파일을 찾아 삭제
+//  - 한 바퀴를 시작할 때 공지사항에서 참조 중인 경로를 한 번 읽어 64비트 해시 정렬 배열로 보관 (경로 문자열 대신)
+//  - 저장소의 yyyy/MM/dd 디렉토리를 순서대로, 주기마다 slice-size 개 파일만 검사 (저장소 I/O 를 주기당 상한으로 제한)
+//  - 한 바퀴 시작 시점 기준 유예 기간보다 오래된 파일만 삭제 (업로드 직후 아직 커밋 전인 파일 보호)
+// 해시 충돌은 삭제하지 않는 쪽으로만 작용하므로 안전
+// 저장소 사용량(바이트/파일 수)과 정리 시간은 Micrometer 지표로 제공
+@Slf4j
+@Component
+public class UploadGarbageCollector {
+
+    private static final String IMAGE = "image";
+    private static final String ATTACHMENT = "attachment";
+
+    private final NoticeMapper noticeMapper;
+    private final FileService fileService;
+    private final BlobStore blobStore;
+    private final boolean enabled;
+    private final int sliceSize;
+    private final Duration gracePeriod;
+
+    private final Timer sliceTimer;
+    private final Timer cycleTimer;
+    private final Counter deletedImages;
+    private final Counter deletedAttachments;
+    private final Counter reclaimedBytes;
+    private final AtomicLong imageBytes = new AtomicLong();
+    private final AtomicLong imageFiles = new AtomicLong();
+    private final AtomicLong attachmentBytes = new AtomicLong();
+    private final AtomicLong attachmentFiles = new AtomicLong();
+
+    // 진행 중인 한 바퀴의 상태 (스케줄러 스레드에서만 접근)
+    private Cycle cycle;
+
+    // 한 바퀴 동안 유지하는 상태
+    private static final class Cycle {
+        private final long startedAt = System.nanoTime();
+        private final Instant cutoff;
+        private final ReferenceSet references;
+        private final Deque<Directory> directories;
+        private List<BlobInfo> files = List.of();
+        private String currentKind;
+        private int position;
+        private long imageBytes;
+        private long imageFiles;
+        private long attachmentBytes;
+        private long attachmentFiles;
+
+        private Cycle(Instant cutoff, ReferenceSet references, Deque<Directory> directories) {
+            this.cutoff = cutoff;
+            this.references = references;
+            this.directories = directories;
+        }
+    }
+
+    // 검사할 날짜 디렉토리
+    private record Directory(String kind, Area area, String prefix) {}
+
+    public UploadGarbageCollector(
+            NoticeMapper noticeMapper,
+            FileService fileService,
+            BlobStore blobStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.gc.enabled:true}") boolean enabled,
+            @Value("${app.upload.gc.slice-size:200}") int sliceSize,
+            @Value("${app.upload.gc.grace-period:24h}") Duration gracePeriod) {
+        this.noticeMapper = noticeMapper;
+        this.fileService = fileService;
+        this.blobStore = blobStore;
+        this.enabled = enabled;
+        this.sliceSize = Math.max(1, sliceSize);
+        this.gracePeriod = gracePeriod;
+
+        this.sliceTimer = meterRegistry.timer("upload.gc.slice");
+        this.cycleTimer = meterRegistry.timer("upload.gc.cycle");
+        this.deletedImages = meterRegistry.counter("upload.gc.deleted", Tags.of("kind", IMAGE));
+        this.deletedAttachments = meterRegistry.counter("upload.gc.deleted", Tags.of("kind", ATTACHMENT));
+        this.reclaimedBytes = meterRegistry.counter("upload.gc.reclaimed.bytes");
+        meterRegistry.gauge("upload.storage.bytes", Tags.of("kind", IMAGE), imageBytes);
+        meterRegistry.gauge("upload.storage.files", Tags.of("kind", IMAGE), imageFiles);
+        meterRegistry.gauge("upload.storage.bytes", Tags.of("kind", ATTACHMENT), attachmentBytes);
+        meterRegistry.gauge("upload.storage.files", Tags.of("kind", ATTACHMENT), attachmentFiles);
+    }
+
+    // 주기마다 파일 slice-size 개 검사 (한 바퀴가 끝나면 다음 주기에 새로 시작)
+    @Scheduled(fixedDelayString = "${app.upload.gc.interval-ms:10000}",
+               initialDelayString = "${app.upload.gc.initial-delay-ms:60000}")
+    public void sweepSlice() {
+        if (!enabled) {
+            return;
+        }
+        sliceTimer.record(() -> {
+            try {
+                if (cycle == null) {
+                    cycle = startCycle();
+                }
+                if (sweep(cycle)) {
+                    finishCycle(cycle);
+                    cycle = null;
+                }
+            } catch (Exception e) {
+                // 다음 주기에 처음부터 다시 시작
+                log.warn("업로드 파일 정리 실패: {}", e.getMessage());
+                cycle = null;
+            }
+        });
+    }
+
+    private Cycle startCycle() throws IOException {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        ReferenceSet references = loadReferences();
+
+        Deque<Directory> directories = new ArrayDeque<>();
+        collectDirectories(IMAGE, Area.IMAGE, directories);
+        collectDirectories(ATTACHMENT, Area.ATTACHMENT, directories);
+
+        // 업로드 도중 중단되어 남은 임시 저장본 삭제
+        blobStore.purgeStaged(Area.IMAGE, cutoff);
+        blobStore.purgeStaged(Area.ATTACHMENT, cutoff);
+
+        log.debug("업로드 파일 정리 시작 - 참조 {}건, 디렉토리 {}개", references.size(), directories.size());
+        return new Cycle(cutoff, references, directories);
+    }
+
+    // 파일 slice-size 개 처리, 한 바퀴가 끝났으면 true
+    private boolean sweep(Cycle cycle) throws IOException {
+        int budget = sliceSize;
+        while (budget > 0) {
+            if (cycle.position >= cycle.files.size()) {
+                Directory next = cycle.directories.poll();
+                if (next == null) {
+                    return true;
+                }
+                cycle.files = blobStore.listFiles(next.area(), next.prefix());
+                cycle.currentKind = next.kind();
+                cycle.position = 0;
+                continue;
+            }
+            inspect(cycle, cycle.files.get(cycle.position++));
+            budget--;
+        }
+        return false;
+    }
+
+    private void inspect(Cycle cycle, BlobInfo file) throws IOException {
+        boolean image = IMAGE.equals(cycle.currentKind);
+        String relativePath = file.key();
+        boolean expired = file.lastModified().isBefore(cycle.cutoff);
+
+        // 축소본은 원본을 기준으로 판단 (원본이 남아 있으면 원본과 함께 정리됨)
+        String originalPath = image ? originalOfVariant(relativePath) : relativePath;
+        if (!originalPath.equals(relativePath)) {
+            if (expired && !cycle.references.contains(IMAGE, originalPath)
+                    && !blobStore.exists(Area.IMAGE, originalPath)) {
+                blobStore.delete(Area.IMAGE, relativePath);
+            } else {
+                count(cycle, image, file.size());
+            }
+            return;
+        }
+
+        if (!expired || cycle.references.contains(cycle.currentKind, relativePath)) {
+            count(cycle, image, file.size());
+            return;
+        }
+
+        boolean deleted = image
+                ? fileService.deleteOrphanImage(relativePath, cycle.cutoff)
+                : fileService.deleteOrphanAttachment(relativePath, cycle.cutoff);
+        if (deleted) {
+            (image ? deletedImages : deletedAttachments).increment();
+            reclaimedBytes.increment(file.size());
+            log.info("사용하지 않는 업로드 파일 삭제: {} ({})", relativePath, cycle.currentKind);
+        } else {
+            count(cycle, image, file.size());
+        }
+    }
+
+    private void count(Cycle cycle, boolean image, long size) {
+        if (image) {
+            cycle.imageBytes += size;
+            cycle.imageFiles++;
+        } else {
+            cycle.attachmentBytes += size;
+            cycle.attachmentFiles++;
+        }
+    }
+
+    private void finishCycle(Cycle cycle) {
+        imageBytes.set(cycle.imageBytes);
+        imageFiles.set(cycle.imageFiles);
+        attachmentBytes.set(cycle.attachmentBytes);
+        attachmentFiles.set(cycle.attachmentFiles);
+        long elapsed = System.nanoTime() - cycle.startedAt;
+        cycleTimer.record(Duration.ofNanos(elapsed));
+        log.info("업로드 파일 정리 완료 - 이미지 {}개 ({} bytes), 첨부파일 {}개 ({} bytes), {}ms",
+                cycle.imageFiles, cycle.imageBytes, cycle.attachmentFiles, cycle.attachmentBytes,
+                Duration.ofNanos(elapsed).toMillis());
+    }
+
+    // 공지사항이 참조하는 파일 경로 (대표 이미지, 첨부파일, 본문 이미지 URL)
+    private ReferenceSet loadReferences() {
+        ReferenceSet.Builder builder = new ReferenceSet.Builder();
+        noticeMapper.scanUploadReferences(context -> {
+            NoticeDto notice = context.getResultObject();
+            if (notice.getImagePath() != null) {
+                builder.add(IMAGE, notice.getImagePath());
+            }
+            if (notice.getAttachmentPath() != null) {
+                builder.add(ATTACHMENT, notice.getAttachmentPath());
+            }
+            NoticeUploadPipeline.forEachContentImage(notice.getContent(), path -> builder.add(IMAGE, path));
+        });
+        return builder.build();
+    }
+
+    // img_xxx_thumb.jpg -> img_xxx.jpg (축소본이 아니면 그대로)
+    static String originalOfVariant(String relativePath) {
+        for (ImageVariantService.Variant variant : ImageVariantService.Variant.values()) {
+            String marker = "_" + variant.suffix();
+            int dot = relativePath.lastIndexOf('.');
+            int end = dot > relativePath.lastIndexOf('/') ? dot : relativePath.length();
+            if (relativePath.startsWith(marker, end - marker.length())) {
+                return relativePath.substring(0, end - marker.length()) + relativePath.substring(end);
+            }
+        }
+        return relativePath;
+    }
+
+    // yyyy/MM/dd 형태의 날짜 디렉토리 (오래된 순)
+    private void collectDirectories(String kind, Area area, Deque<Directory> directories) throws IOException {
+        for (String year : listDateDirectories(area, "")) {
+            for (String month : listDateDirectories(area, year)) {
+                for (String day : listDateDirectories(area, month)) {
+                    directories.add(new Directory(kind, area, day));
+                }
+            }
+        }
+    }
+
+    // 이름이 숫자인 하위 디렉토리만 (임시 저장 디렉토리 등 제외)
+    private List<String> listDateDirectories(Area area, String prefix) throws IOException {
+        List<String> directories = new ArrayList<>();
+        for (String directory : blobStore.listDirectories(area, prefix)) {
+            String name = directory.substring(prefix.length(), directory.length() - 1);
+            if (!name.isEmpty() && name.chars().allMatch(Character::isDigit)) {
+                directories.add(directory);
+            }
+        }
+        directories.sort(null);
+        return directories;
+    }
+
+    // 참조 중인 경로 집합 (종류 + 경로의 64비트 해시를 정렬해 보관, 이진 탐색)
+    static final class ReferenceSet {
+        private final long[] hashes;
+
+        private ReferenceSet(long[] hashes) {
+            this.hashes = hashes;
+        }
+
+        boolean contains(String kind, String relativePath) {
+            return Arrays.binarySearch(hashes, hash(kind, relativePath)) >= 0;
+        }
+
+        int size() {
+            return hashes.length;
+        }
+
+        // FNV-1a 64비트
+        private static long hash(String kind, String relativePath) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : (kind + ":" + relativePath).getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        static final class Builder {
+            private long[] hashes = new long[1024];
+            private int size;
+
+            void add(String kind, String relativePath) {
+                if (size == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, size * 2);
+                }
+                hashes[size++] = hash(kind, relativePath);
+            }
+
+            ReferenceSet build() {
+                long[] sorted = Arrays.copyOf(hashes, size);
+                Arrays.sort(sorted);
+                return new ReferenceSet(sorted);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.suppleit.backend.controller;
+
+import com.suppleit.backend.dto.MemberSearchCondition;
+import com.suppleit.backend.dto.MemberSummaryDto;
+import com.suppleit.backend.service.MemberExportService;
+import com.suppleit.backend.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminMemberControllerTest {
+
+    private final MemberService memberService = mock(MemberService.class);
+    private final AdminMemberController controller =
+            new AdminMemberController(mock(MemberExportService.class), memberService);
+
+    @Test
+    void returnsNextCursorWhenMoreRowsExist() {
+        when(memberService.searchMembers(any(), eq(10L), eq(4))).thenReturn(members(11, 14));
+
+        Map<String, Object> body = body(controller.searchMembers(new MemberSearchCondition(), 10, 3));
+
+        assertThat((List<?>) body.get("members")).hasSize(3);
+        assertThat(body.get("hasNext")).isEqualTo(true);
+        assertThat(body.get("nextCursor")).isEqualTo(13L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(memberService.searchMembers(any(), anyLong(), anyInt())).thenReturn(members(11, 12));
+
+        Map<String, Object> body = body(controller.searchMembers(new MemberSearchCondition(), 10, 3));
+
+        assertThat((List<?>) body.get("members")).hasSize(2);
+        assertThat(body.get("hasNext")).isEqualTo(false);
+        assertThat(body.get("nextCursor")).isNull();
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        when(memberService.searchMembers(any(), anyLong(), anyInt())).thenReturn(List.of());
+
+        controller.searchMembers(new MemberSearchCondition(), 0, 1000);
+        verify(memberService).searchMembers(any(), eq(0L), eq(101));
+
+        controller.searchMembers(new MemberSearchCondition(), 0, 0);
+        verify(memberService).searchMembers(any(), eq(0L), eq(2));
+    }
+
+    @Test
+    void invalidConditionIsBadRequest() {
+        when(memberService.searchMembers(any(), anyLong(), anyInt()))
+                .thenThrow(new IllegalArgumentException("생년월일 검색 범위가 올바르지 않습니다."));
+
+        ResponseEntity<?> response = controller.searchMembers(new MemberSearchCondition(), 0, 20);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(body(response).get("success")).isEqualTo(false);
+    }
+
+    private static List<MemberSummaryDto> members(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> MemberSummaryDto.builder().memberId(id).build())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> body(ResponseEntity<?> response) {
+        return (Map<String, Object>) response.getBody();
+    }
+}
@@ -0,0 +1,122 @@
+package com.suppleit.backend.controller;
+
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.LoginAttemptLimiter;
+import com.suppleit.backend.security.jwt.JwtTokenBlacklistService;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
+import com.suppleit.backend.service.AuthService;
+import com.suppleit.backend.service.MailOutboxService;
+import com.suppleit.backend.service.MemberLookup;
+import com.suppleit.backend.service.PasswordHashingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 토큰 세대(epoch) 증가로 기존 토큰이 무효화되는지 확인
+class AuthControllerTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final MemberLookup memberLookup = mock(MemberLookup.class);
+    private final AtomicInteger storedEpoch = new AtomicInteger();
+    private final PasswordHashingService passwordHashingService =
+            new PasswordHashingService(new BCryptPasswordEncoder(4), 1, 4, 5000);
+    private final TokenEpochService tokenEpochService = new TokenEpochService(memberMapper, null, null, false, 30_000);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            "test-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, tokenEpochService);
+    private final AuthController controller;
+
+    AuthControllerTest() {
+        when(memberMapper.getTokenEpoch(EMAIL)).thenAnswer(invocation -> storedEpoch.get());
+        doAnswer(invocation -> storedEpoch.incrementAndGet()).when(memberMapper).incrementTokenEpoch(EMAIL);
+        when(memberLookup.findByEmail(EMAIL)).thenReturn(Member.builder()
+                .email(EMAIL)
+                .password(passwordHashingService.encode("old-password"))
+                .socialType(SocialType.NONE)
+                .memberRole(MemberRole.USER)
+                .build());
+
+        AuthService authService = new AuthService(memberMapper, memberLookup, passwordHashingService,
+                jwtTokenProvider, tokenEpochService, mock(MailOutboxService.class));
+        controller = new AuthController(authService, mock(JwtTokenBlacklistService.class), mock(LoginAttemptLimiter.class));
+        ReflectionTestUtils.setField(controller, "jwtTokenProvider", jwtTokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void logoutAllRevokesEveryIssuedToken() {
+        String accessToken = jwtTokenProvider.createToken(EMAIL, "USER");
+        String refreshToken = jwtTokenProvider.createRefreshToken(EMAIL);
+
+        ResponseEntity<Map<String, Object>> response = controller.logoutAll(bearer(accessToken));
+
+        assertThat(response.getBody()).containsEntry("success", true);
+        assertThat(jwtTokenProvider.isTokenEpochCurrent(accessToken)).isFalse();
+        assertThat(jwtTokenProvider.isTokenEpochCurrent(refreshToken)).isFalse();
+        assertThat(jwtTokenProvider.isTokenEpochCurrent(jwtTokenProvider.createToken(EMAIL, "USER"))).isTrue();
+    }
+
+    @Test
+    void logoutAllWithoutTokenIsRejected() {
+        ResponseEntity<Map<String, Object>> response = controller.logoutAll(new MockHttpServletRequest());
+
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+        assertThat(storedEpoch.get()).isZero();
+    }
+
+    @Test
+    void passwordChangeRevokesOtherSessionsAndIssuesFreshTokens() {
+        String otherDevice = jwtTokenProvider.createToken(EMAIL, "USER");
+        String currentDevice = jwtTokenProvider.createToken(EMAIL, "USER");
+
+        ResponseEntity<Map<String, Object>> response = controller.changePassword(
+                Map.of("oldPassword", "old-password", "newPassword", "new-password"), bearer(currentDevice));
+
+        assertThat(response.getBody()).containsEntry("success", true);
+        verify(memberMapper).updatePassword(eq(EMAIL), anyString());
+        assertThat(jwtTokenProvider.isTokenEpochCurrent(otherDevice)).isFalse();
+        assertThat(jwtTokenProvider.isTokenEpochCurrent(currentDevice)).isFalse();
+        assertThat(jwtTokenProvider.isTokenEpochCurrent((String) response.getBody().get("accessToken"))).isTrue();
+        assertThat(jwtTokenProvider.isTokenEpochCurrent((String) response.getBody().get("refreshToken"))).isTrue();
+    }
+
+    @Test
+    void failedPasswordChangeKeepsSessions() {
+        String token = jwtTokenProvider.createToken(EMAIL, "USER");
+
+        ResponseEntity<Map<String, Object>> response = controller.changePassword(
+                Map.of("oldPassword", "wrong", "newPassword", "new-password"), bearer(token));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(jwtTokenProvider.isTokenEpochCurrent(token)).isTrue();
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,228 @@
+package com.suppleit.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.config.MyBatisConfig;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.dto.MemberDto;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
+import com.suppleit.backend.service.EmailVerificationService;
+import com.suppleit.backend.service.MemberAvailabilityIndex;
+import com.suppleit.backend.service.MemberLookup;
+import com.suppleit.backend.service.MemberService;
+import com.suppleit.backend.service.PasswordHashingService;
+import com.suppleit.backend.service.SocialLoginService;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+// 엔드포인트 한 번 호출에 실행되는 SQL 문 개수 확인 (실제 MySQL + MyBatis 매퍼, Docker 가 없으면 건너뜀)
+// 요청 단위 회원 조회 캐시(MemberLookup) 덕분에 getMemberByEmail 은 요청마다 한 번만 실행되어야 함
+@Testcontainers(disabledWithoutDocker = true)
+class MemberEndpointQueryCountTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String SOCIAL_EMAIL = "naver-user@example.com";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static DataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+    private static final StatementCounter COUNTER = new StatementCounter();
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            "test-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, mock(TokenEpochService.class));
+    private MemberLookup memberLookup;
+    private MemberController memberController;
+    private SocialLoginService socialLoginService;
+    private MockRestServiceServer providerServer;
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new FileSystemResource("suppleit.sql")).execute(dataSource);
+        sqlSessionFactory = new MyBatisConfig().sqlSessionFactory(dataSource);
+        sqlSessionFactory.getConfiguration().addInterceptor(COUNTER);
+    }
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("DELETE FROM Member");
+        jdbc.update("INSERT INTO Member (email, password, nickname, member_role, social_type) VALUES (?, ?, ?, 'USER', 'NONE')",
+                EMAIL, "{noop}irrelevant", "before");
+
+        MemberMapper memberMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(MemberMapper.class);
+        memberLookup = new MemberLookup(memberMapper);
+        MemberAvailabilityIndex availabilityIndex = new MemberAvailabilityIndex(memberMapper, null, null, false);
+
+        MemberService memberService = new MemberService(memberMapper, memberLookup,
+                new PasswordHashingService(new BCryptPasswordEncoder(4), 1, 4, 5000),
+                availabilityIndex, mock(EmailVerificationService.class));
+        memberController = new MemberController(memberService, mock(EmailVerificationService.class));
+        ReflectionTestUtils.setField(memberController, "jwtTokenProvider", jwtTokenProvider);
+
+        RestTemplate restTemplate = new RestTemplate();
+        providerServer = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        socialLoginService = new SocialLoginService(memberMapper, memberLookup, restTemplate,
+                new ObjectMapper(), jwtTokenProvider, availabilityIndex);
+        ReflectionTestUtils.setField(socialLoginService, "naverClientId", "naver-client");
+        ReflectionTestUtils.setField(socialLoginService, "naverClientSecret", "naver-secret");
+
+        COUNTER.statements.clear();
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void deleteSelectsMemberOnce() {
+        List<String> statements = inRequest(() -> memberController.deleteMember(authorized()));
+
+        assertThat(statements).containsExactly("getMemberByEmail", "deleteMemberByEmail");
+    }
+
+    @Test
+    void accountTypeSelectsMemberOnce() {
+        List<String> statements = inRequest(() -> memberController.getAccountType(authorized()));
+
+        assertThat(statements).containsExactly("getMemberByEmail");
+    }
+
+    @Test
+    void updateSelectsMemberOnce() {
+        MemberDto update = new MemberDto();
+        update.setNickname("after");
+
+        List<String> statements = inRequest(() -> memberController.updateMemberInfo(update, authorized()));
+
+        assertThat(statements).containsExactly("getMemberByEmail", "checkNickname", "updateMemberInfo");
+    }
+
+    @Test
+    void socialLoginDoesNotReselectAfterInsert() {
+        expectNaverLogin();
+        List<String> firstLogin = inRequest(() -> socialLoginService.getNaverMember("code"));
+        assertThat(firstLogin).containsExactly("getMemberByEmail", "insertSocialMemberIfAbsent");
+
+        providerServer.reset();
+        expectNaverLogin();
+        List<String> secondLogin = inRequest(() -> socialLoginService.getNaverMember("code"));
+        assertThat(secondLogin).containsExactly("getMemberByEmail");
+    }
+
+    @Test
+    void concurrentFirstSocialLoginFallsBackToExistingRow() {
+        expectNaverLogin();
+        List<String> statements = inRequest(() -> {
+            // 이 요청이 회원 없음으로 조회한 직후 다른 요청이 같은 이메일로 먼저 등록한 상황
+            assertThat(memberLookup.findByEmail(SOCIAL_EMAIL)).isNull();
+            new JdbcTemplate(dataSource).update(
+                    "INSERT INTO Member (email, nickname, member_role, social_type) VALUES (?, 'other', 'USER', 'NAVER')",
+                    SOCIAL_EMAIL);
+
+            Map<String, Object> result = socialLoginService.getNaverMember("code");
+            assertThat(((MemberDto) result.get("member")).getNickname()).isEqualTo("other");
+            return result;
+        });
+
+        // 중복 INSERT 는 예외 없이 지나가고 생성 키가 없으므로 기존 행을 다시 읽음
+        assertThat(statements).containsExactly("getMemberByEmail", "insertSocialMemberIfAbsent", "getMemberByEmail");
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM Member WHERE email = ?", Integer.class, SOCIAL_EMAIL)).isEqualTo(1);
+    }
+
+    // 요청 하나를 흉내 내어 실행하고, 그동안 실행된 SQL 문 id 목록 반환
+    private List<String> inRequest(Supplier<?> endpoint) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        COUNTER.statements.clear();
+        try {
+            Object result = endpoint.get();
+            if (result instanceof ResponseEntity<?> response) {
+                assertThat(response.getStatusCode().is2xxSuccessful()).as("%s", response.getBody()).isTrue();
+            }
+            return List.copyOf(COUNTER.statements);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private MockHttpServletRequest authorized() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtTokenProvider.createToken(EMAIL, MemberRole.USER.name()));
+        return request;
+    }
+
+    private void expectNaverLogin() {
+        providerServer.expect(requestTo("https://nid.naver.com/oauth2.0/token"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"access_token\":\"naver-token\"}", MediaType.APPLICATION_JSON));
+        providerServer.expect(requestTo("https://openapi.naver.com/v1/nid/me"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"response\":{\"email\":\"" + SOCIAL_EMAIL + "\",\"nickname\":\"naver\"}}",
+                        MediaType.APPLICATION_JSON));
+    }
+
+    // MyBatis 가 실행하는 매핑 문(SELECT/INSERT/UPDATE/DELETE)을 순서대로 기록
+    @Intercepts({
+            @Signature(type = Executor.class, method = "query",
+                    args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+            @Signature(type = Executor.class, method = "update",
+                    args = {MappedStatement.class, Object.class})
+    })
+    static class StatementCounter implements Interceptor {
+
+        final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            String id = ((MappedStatement) invocation.getArgs()[0]).getId();
+            statements.add(id.substring(id.lastIndexOf('.') + 1));
+            return invocation.proceed();
+        }
+    }
+}
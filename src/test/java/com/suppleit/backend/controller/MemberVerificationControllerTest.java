@@ -0,0 +1,93 @@
+package com.suppleit.backend.controller;
+
+import com.suppleit.backend.service.EmailVerificationService;
+import com.suppleit.backend.service.MailSendBusyException;
+import com.suppleit.backend.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 이메일 인증 코드 발송/확인 엔드포인트의 응답 코드
+class MemberVerificationControllerTest {
+
+    private final MemberService memberService = mock(MemberService.class);
+    private final EmailVerificationService emailVerificationService = mock(EmailVerificationService.class);
+    private final MemberController controller = new MemberController(memberService, emailVerificationService);
+
+    @Test
+    void sendsCodeForAvailableEmail() {
+        when(memberService.checkEmail("user@example.com")).thenReturn(true);
+
+        ResponseEntity<Map<String, Object>> response = controller.sendVerificationCode(Map.of("email", "user@example.com"));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).containsEntry("success", true);
+        verify(emailVerificationService).issue("user@example.com");
+    }
+
+    @Test
+    void rejectsMalformedOrTakenEmailWithoutIssuing() {
+        when(memberService.checkEmail("taken@example.com")).thenReturn(false);
+
+        assertThat(controller.sendVerificationCode(Map.of("email", "not-an-email")).getStatusCode().value())
+                .isEqualTo(400);
+        assertThat(controller.sendVerificationCode(Map.of("email", "taken@example.com")).getStatusCode().value())
+                .isEqualTo(400);
+        verify(emailVerificationService, never()).issue(anyString());
+    }
+
+    @Test
+    void throttledIssueReturns429WithRetryAfter() {
+        when(memberService.checkEmail("user@example.com")).thenReturn(true);
+        when(emailVerificationService.issue("user@example.com")).thenReturn(120L);
+
+        ResponseEntity<Map<String, Object>> response = controller.sendVerificationCode(Map.of("email", "user@example.com"));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(429);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("120");
+    }
+
+    @Test
+    void busyMailPoolReturns503() {
+        when(memberService.checkEmail("user@example.com")).thenReturn(true);
+        when(emailVerificationService.issue("user@example.com")).thenThrow(new MailSendBusyException("busy"));
+
+        ResponseEntity<Map<String, Object>> response = controller.sendVerificationCode(Map.of("email", "user@example.com"));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void verifyMapsEachResultToStatus() {
+        assertThat(verifyStatus(EmailVerificationService.Result.VERIFIED)).isEqualTo(200);
+        assertThat(verifyStatus(EmailVerificationService.Result.MISMATCH)).isEqualTo(400);
+        assertThat(verifyStatus(EmailVerificationService.Result.EXPIRED)).isEqualTo(400);
+        assertThat(verifyStatus(EmailVerificationService.Result.TOO_MANY_ATTEMPTS)).isEqualTo(429);
+    }
+
+    @Test
+    void verifyWithoutEmailIsBadRequest() {
+        when(emailVerificationService.verify(null, "123456"))
+                .thenThrow(new IllegalArgumentException("이메일을 입력해주세요."));
+
+        ResponseEntity<Map<String, Object>> response = controller.verifyEmail(Map.of("code", "123456"));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody()).containsEntry("message", "이메일을 입력해주세요.");
+    }
+
+    private int verifyStatus(EmailVerificationService.Result result) {
+        when(emailVerificationService.verify("user@example.com", "123456")).thenReturn(result);
+        return controller.verifyEmail(Map.of("email", "user@example.com", "code", "123456")).getStatusCode().value();
+    }
+}
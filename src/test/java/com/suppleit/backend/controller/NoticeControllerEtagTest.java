@@ -0,0 +1,93 @@
+package com.suppleit.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.NoticeSummaryDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import com.suppleit.backend.service.NoticeListCache;
+import com.suppleit.backend.service.NoticeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 공지사항 목록 ETag / 304 응답
+class NoticeControllerEtagTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final NoticeService noticeService = mock(NoticeService.class);
+    private final NoticeMapper noticeMapper = mock(NoticeMapper.class);
+
+    NoticeControllerEtagTest() {
+        when(noticeMapper.getListVersion()).thenReturn(3L);
+        when(noticeService.getNoticePage(isNull(), eq(4))).thenReturn(List.of(
+                NoticeSummaryDto.builder().noticeId(100L).title("공지 100").build()));
+    }
+
+    private NoticeController newNode() {
+        NoticeListCache noticeListCache = new NoticeListCache(objectMapper, noticeMapper, null, null, false, 16);
+        noticeListCache.init();
+        NoticeController controller = new NoticeController(noticeService, noticeListCache, null, null, null);
+        ReflectionTestUtils.setField(controller, "defaultPageSize", 3);
+        ReflectionTestUtils.setField(controller, "maxPageSize", 5);
+        return controller;
+    }
+
+    @Test
+    void matchingEtagSkipsQuery() {
+        NoticeController controller = newNode();
+        String etag = controller.getAllNotices(null, null, false, webRequest(null)).getHeaders().getETag();
+
+        ServletWebRequest conditional = webRequest(etag);
+        ResponseEntity<byte[]> response = controller.getAllNotices(null, null, false, conditional);
+
+        assertThat(response).isNull();
+        assertThat(conditional.getResponse().getStatus()).isEqualTo(304);
+        verify(noticeService, times(1)).getNoticePage(null, 4);
+    }
+
+    @Test
+    void etagFromOneNodeIsHonouredByAnother() {
+        String etag = newNode().getAllNotices(null, null, false, webRequest(null)).getHeaders().getETag();
+        NoticeController otherNode = newNode();
+
+        ServletWebRequest conditional = webRequest(etag);
+        ResponseEntity<byte[]> response = otherNode.getAllNotices(null, null, false, conditional);
+
+        assertThat(response).isNull();
+        assertThat(conditional.getResponse().getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void staleEtagGetsFullResponse() {
+        NoticeController controller = newNode();
+
+        ServletWebRequest conditional = webRequest("\"v2.p-3\"");
+        ResponseEntity<byte[]> response = controller.getAllNotices(null, null, false, conditional);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v3.p-3\"");
+        verify(noticeService, times(1)).getNoticePage(null, 4);
+        verify(noticeService, never()).getAllNotices();
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notice");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
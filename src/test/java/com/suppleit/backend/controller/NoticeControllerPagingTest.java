@@ -0,0 +1,91 @@
+package com.suppleit.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.NoticeSummaryDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import com.suppleit.backend.service.NoticeListCache;
+import com.suppleit.backend.service.NoticeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeControllerPagingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final NoticeService noticeService = mock(NoticeService.class);
+    private NoticeController controller;
+
+    @BeforeEach
+    void setUp() {
+        NoticeListCache noticeListCache = new NoticeListCache(objectMapper, mock(NoticeMapper.class), null, null, false, 16);
+        controller = new NoticeController(noticeService, noticeListCache, null, null, null);
+        ReflectionTestUtils.setField(controller, "defaultPageSize", 3);
+        ReflectionTestUtils.setField(controller, "maxPageSize", 5);
+    }
+
+    @Test
+    void firstPageReturnsCursorOfLastNotice() throws Exception {
+        when(noticeService.getNoticePage(isNull(), eq(4))).thenReturn(notices(100, 97));
+
+        JsonNode body = read(controller.getAllNotices(null, null, false, webRequest(null)));
+
+        assertThat(body.get("notices")).hasSize(3);
+        assertThat(body.get("hasNext").asBoolean()).isTrue();
+        assertThat(body.get("nextCursor").asLong()).isEqualTo(98L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() throws Exception {
+        when(noticeService.getNoticePage(eq(98L), eq(4))).thenReturn(notices(97, 96));
+
+        JsonNode body = read(controller.getAllNotices(98L, null, false, webRequest(null)));
+
+        assertThat(body.get("notices")).hasSize(2);
+        assertThat(body.get("hasNext").asBoolean()).isFalse();
+        assertThat(body.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    void pageSizeIsClampedToMax() {
+        when(noticeService.getNoticePage(isNull(), anyInt())).thenReturn(List.of());
+
+        controller.getAllNotices(null, 1000, false, webRequest(null));
+
+        verify(noticeService).getNoticePage(null, 6);
+    }
+
+    private JsonNode read(ResponseEntity<byte[]> response) throws Exception {
+        return objectMapper.readTree(response.getBody());
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notice");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    // fromId 부터 toId 까지 최신순 공지사항 목록
+    private static List<NoticeSummaryDto> notices(long fromId, long toId) {
+        return LongStream.iterate(fromId, id -> id >= toId, id -> id - 1)
+                .mapToObj(id -> NoticeSummaryDto.builder().noticeId(id).title("공지 " + id).build())
+                .toList();
+    }
+}
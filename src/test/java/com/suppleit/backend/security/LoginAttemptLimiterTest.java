@@ -0,0 +1,61 @@
+package com.suppleit.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptLimiterTest {
+
+    // Redis 없이 메모리 모드로 생성 (이메일 3회, IP 5회 제한)
+    private LoginAttemptLimiter newLimiter(long windowMillis) {
+        return new LoginAttemptLimiter(null, false, windowMillis, 3, 5, 1024);
+    }
+
+    @Test
+    void blocksEmailAfterMaxFailures() {
+        LoginAttemptLimiter limiter = newLimiter(3_600_000);
+
+        for (int i = 0; i < 2; i++) {
+            limiter.recordFailure("user@test.com", "10.0.0." + i);
+        }
+        assertThat(limiter.isBlocked("user@test.com", "10.0.0.9")).isFalse();
+
+        limiter.recordFailure(" USER@test.com ", "10.0.0.2");
+        assertThat(limiter.isBlocked("user@test.com", "10.0.0.9")).isTrue();
+        assertThat(limiter.isBlocked("other@test.com", "10.0.0.9")).isFalse();
+    }
+
+    @Test
+    void blocksIpAcrossDifferentEmails() {
+        LoginAttemptLimiter limiter = newLimiter(3_600_000);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("user" + i + "@test.com", "10.0.0.1");
+        }
+
+        assertThat(limiter.isBlocked("new@test.com", "10.0.0.1")).isTrue();
+        assertThat(limiter.isBlocked("new@test.com", "10.0.0.2")).isFalse();
+    }
+
+    @Test
+    void failuresDecayAfterTwoWindows() throws InterruptedException {
+        LoginAttemptLimiter limiter = newLimiter(100);
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("user@test.com", "10.0.0.1");
+        }
+
+        Thread.sleep(250);
+
+        assertThat(limiter.isBlocked("user@test.com", "10.0.0.1")).isFalse();
+    }
+
+    @Test
+    void hashDependsOnSeed() {
+        assertThat(LoginAttemptLimiter.hash("e:user@test.com", 1L))
+                .isEqualTo(LoginAttemptLimiter.hash("e:user@test.com", 1L))
+                .isNotEqualTo(LoginAttemptLimiter.hash("e:user@test.com", 2L));
+        // String.hashCode 가 같은 키도 다른 해시를 가져야 함
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(LoginAttemptLimiter.hash("Aa", 1L)).isNotEqualTo(LoginAttemptLimiter.hash("BB", 1L));
+    }
+}
@@ -0,0 +1,86 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.security.SecurityRoute;
+import com.suppleit.backend.security.SecurityRoute.RouteClass;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 경로 분류별 JwtFilter 처리 시간 (./gradlew benchmark 로 실행, 일반 test 에서는 제외)
+// 보호 경로의 회원 조회는 DB 왕복을 흉내 내 200us 대기 (MEMBER_LOOKUP_MICROS 로 조정)
+@Tag("benchmark")
+class JwtFilterBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final long MEMBER_LOOKUP_MICROS = 200;
+
+    @Test
+    void filterOverheadPerRouteClass() throws Exception {
+        MemberMapper memberMapper = mock(MemberMapper.class);
+        when(memberMapper.getTokenEpoch(EMAIL)).thenReturn(0);
+        TokenEpochService epochs = new TokenEpochService(memberMapper, null, null, false, 30_000);
+        JwtTokenProvider provider = new JwtTokenProvider(
+                "benchmark-secret-key-that-is-long-enough-for-hs256", 3_600_000, 3_600_000, epochs);
+        UserDetailsService userDetailsService = username -> {
+            LockSupport.parkNanos(MEMBER_LOOKUP_MICROS * 1000);
+            return User.withUsername(username).password("").authorities("ROLE_USER").build();
+        };
+        JwtFilter filter = new JwtFilter(provider, userDetailsService,
+                new JwtTokenBlacklistService(null, null, false, 60_000, 50000, 1_000_000, 0.01),
+                new JwtRouteClassifier(List.of(
+                        SecurityRoute.permitAll(null, "/api/notice/image/**", RouteClass.PUBLIC_STATIC),
+                        SecurityRoute.permitAll(HttpMethod.GET, "/api/notice/**", RouteClass.PUBLIC_READ),
+                        SecurityRoute.authenticated(null, "/api/member/**"))));
+        String token = provider.createToken(EMAIL, "USER");
+
+        report("PUBLIC_STATIC", filter, "/api/notice/image/2025/01/01/a.png", token, ITERATIONS);
+        report("PUBLIC_READ", filter, "/api/notice/1", token, ITERATIONS);
+        report("PROTECTED", filter, "/api/member/info", token, ITERATIONS / 20);
+        report("PROTECTED (no token)", filter, "/api/member/info", null, ITERATIONS);
+    }
+
+    private static void report(String label, JwtFilter filter, String uri, String token, int iterations)
+            throws Exception {
+        int[] passed = new int[1];
+        FilterChain chain = (request, response) -> passed[0]++;
+
+        for (int i = 0; i < Math.min(WARMUP, iterations); i++) {
+            runOnce(filter, uri, token, chain);
+        }
+        passed[0] = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runOnce(filter, uri, token, chain);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("[jwt-filter] %-22s %8.2f us/request (%d requests)%n",
+                label, elapsed / 1000.0 / iterations, iterations);
+        assertThat(passed[0]).isEqualTo(iterations);
+    }
+
+    private static void runOnce(JwtFilter filter, String uri, String token, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,160 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.security.SecurityRoute;
+import com.suppleit.backend.security.SecurityRoute.RouteClass;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtFilterTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final AtomicInteger storedEpoch = new AtomicInteger();
+    private final TokenEpochService tokenEpochService = new TokenEpochService(memberMapper, null, null, false, 30_000);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            "test-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, tokenEpochService);
+    private final JwtTokenBlacklistService blacklist =
+            new JwtTokenBlacklistService(null, null, false, 60_000, 50000, 1000, 0.01);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final JwtFilter filter = new JwtFilter(jwtTokenProvider, userDetailsService, blacklist,
+            new JwtRouteClassifier(List.of(
+                    SecurityRoute.permitAll(null, "/api/notice/image/**", RouteClass.PUBLIC_STATIC),
+                    SecurityRoute.permitAll(HttpMethod.GET, "/api/notice/**", RouteClass.PUBLIC_READ),
+                    SecurityRoute.authenticated(null, "/api/member/**"))));
+
+    JwtFilterTest() {
+        when(memberMapper.getTokenEpoch(EMAIL)).thenAnswer(invocation -> storedEpoch.get());
+        doAnswer(invocation -> storedEpoch.incrementAndGet()).when(memberMapper).incrementTokenEpoch(EMAIL);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(
+                User.withUsername(EMAIL).password("").authorities("ROLE_USER").build());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void publicReadAuthenticatesFromClaimsWithoutMemberLookup() throws Exception {
+        Result result = run("GET", "/api/notice/1", jwtTokenProvider.createToken(EMAIL, "ADMIN"));
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.authentication().getName()).isEqualTo(EMAIL);
+        assertThat(result.authentication().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void publicReadIgnoresBlacklistedToken() throws Exception {
+        String token = jwtTokenProvider.createToken(EMAIL, "ADMIN");
+        blacklist.addToBlacklist(token, System.currentTimeMillis() + 60_000);
+
+        Result result = run("GET", "/api/notice/1", token);
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.authentication()).isNull();
+    }
+
+    @Test
+    void publicReadIgnoresTokenFromBeforeLogoutAll() throws Exception {
+        String token = jwtTokenProvider.createToken(EMAIL, "ADMIN");
+        tokenEpochService.revokeAll(EMAIL);
+
+        Result result = run("GET", "/api/notice/1", token);
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.authentication()).isNull();
+    }
+
+    @Test
+    void publicReadIgnoresInvalidToken() throws Exception {
+        Result result = run("GET", "/api/notice/1", "not.a.jwt-token");
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.authentication()).isNull();
+    }
+
+    @Test
+    void protectedRouteLoadsMemberForValidToken() throws Exception {
+        Result result = run("GET", "/api/member/info", jwtTokenProvider.createToken(EMAIL, "USER"));
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.authentication().getName()).isEqualTo(EMAIL);
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void protectedRouteRejectsRevokedAndBlacklistedTokens() throws Exception {
+        String revoked = jwtTokenProvider.createToken(EMAIL, "USER");
+        tokenEpochService.revokeAll(EMAIL);
+        String blacklisted = jwtTokenProvider.createToken(EMAIL, "USER");
+        blacklist.addToBlacklist(blacklisted, System.currentTimeMillis() + 60_000);
+
+        Result revokedResult = run("GET", "/api/member/info", revoked);
+        Result blacklistedResult = run("GET", "/api/member/info", blacklisted);
+
+        assertThat(revokedResult.passed()).isFalse();
+        assertThat(revokedResult.response().getStatus()).isEqualTo(401);
+        assertThat(blacklistedResult.passed()).isFalse();
+        assertThat(blacklistedResult.response().getStatus()).isEqualTo(401);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void publicStaticSkipsTokenHandling() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notice/image/2025/01/01/a.png");
+        request.addHeader("Authorization", "Basic not-a-bearer-token");  // 형식 오류도 검사하지 않음
+
+        Result result = run(request);
+
+        assertThat(result.passed()).isTrue();
+        assertThat(result.authentication()).isNull();
+    }
+
+    private Result run(String method, String uri, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return run(request);
+    }
+
+    private Result run(MockHttpServletRequest request) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        AtomicInteger passed = new AtomicInteger();
+        FilterChain chain = (req, res) -> {
+            passed.incrementAndGet();
+            authentication.set(SecurityContextHolder.getContext().getAuthentication());
+        };
+
+        filter.doFilter(request, response, chain);
+        return new Result(passed.get() == 1, authentication.get(), response);
+    }
+
+    private record Result(boolean passed, Authentication authentication, MockHttpServletResponse response) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.security.SecurityRoute;
+import com.suppleit.backend.security.SecurityRoute.RouteClass;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtRouteClassifierTest {
+
+    private final JwtRouteClassifier classifier = new JwtRouteClassifier(List.of(
+            SecurityRoute.permitAll(null, "/api/notice/image/**", RouteClass.PUBLIC_STATIC),
+            SecurityRoute.permitAll(HttpMethod.GET, "/api/notice/**", RouteClass.PUBLIC_READ),
+            SecurityRoute.hasAnyAuthority(HttpMethod.PUT, "/api/notice/**", "ROLE_ADMIN"),
+            SecurityRoute.permitAll(null, "/api/auth/login", RouteClass.PROTECTED)));
+
+    @Test
+    void firstMatchingRouteWins() {
+        assertThat(classify("GET", "/api/notice/image/a.png")).isEqualTo(RouteClass.PUBLIC_STATIC);
+        assertThat(classify("GET", "/api/notice/1")).isEqualTo(RouteClass.PUBLIC_READ);
+    }
+
+    @Test
+    void methodMustMatchWhenSpecified() {
+        assertThat(classify("PUT", "/api/notice/1")).isEqualTo(RouteClass.PROTECTED);
+        assertThat(classify("POST", "/api/notice/image/a.png")).isEqualTo(RouteClass.PUBLIC_STATIC);
+    }
+
+    @Test
+    void unmatchedPathIsProtected() {
+        assertThat(classify("GET", "/api/member/info")).isEqualTo(RouteClass.PROTECTED);
+    }
+
+    @Test
+    void contextPathIsStrippedBeforeMatching() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/notice/image/a.png");
+        request.setContextPath("/app");
+
+        assertThat(classifier.classify(request)).isEqualTo(RouteClass.PUBLIC_STATIC);
+    }
+
+    private RouteClass classify(String method, String uri) {
+        return classifier.classify(new MockHttpServletRequest(method, uri));
+    }
+}
@@ -0,0 +1,145 @@
+package com.suppleit.backend.security.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Redis 컨테이너로 여러 노드의 블랙리스트 동기화 확인 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class JwtTokenBlacklistRedisTest {
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : listenerContainers) {
+            container.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void revocationOnOneNodeReachesOtherNodeByPubSub() throws InterruptedException {
+        JwtTokenBlacklistService nodeA = newNode(true);
+        JwtTokenBlacklistService nodeB = newNode(true);
+
+        nodeA.addToBlacklist("token-a", System.currentTimeMillis() + 60_000);
+
+        assertThat(eventually(() -> nodeB.size() == 1)).isTrue();
+        assertThat(nodeB.isBlacklisted("token-a")).isTrue();
+    }
+
+    @Test
+    void revocationMissedByPubSubIsRecoveredByResync() {
+        JwtTokenBlacklistService node = newNode(false);
+
+        // 다른 노드가 기록했지만 이 노드는 메시지를 받지 못함
+        long expiry = System.currentTimeMillis() + 60_000;
+        redisTemplate.opsForValue().set("blacklist:" + TokenDigest.of("token-a").toHex(),
+                String.valueOf(expiry), 60, TimeUnit.SECONDS);
+        assertThat(node.isBlacklisted("token-a")).isFalse();
+
+        node.resyncFromRedis();
+
+        assertThat(node.isBlacklisted("token-a")).isTrue();
+        assertThat(node.isBlacklisted("token-b")).isFalse();
+    }
+
+    @Test
+    void newNodeLoadsExistingBlacklistAtStartup() {
+        newNode(false).addToBlacklist("token-a", System.currentTimeMillis() + 60_000);
+
+        JwtTokenBlacklistService restarted = newNode(false);
+
+        assertThat(restarted.isBlacklisted("token-a")).isTrue();
+    }
+
+    @Test
+    void redisEntryExpiresWithToken() {
+        newNode(false).addToBlacklist("token-a", System.currentTimeMillis() + 60_000);
+
+        Long ttl = redisTemplate.getExpire("blacklist:" + TokenDigest.of("token-a").toHex(), TimeUnit.SECONDS);
+
+        assertThat(ttl).isBetween(1L, 60L);
+    }
+
+    // subscribe 가 true 면 pub/sub 구독까지 하는 노드
+    private JwtTokenBlacklistService newNode(boolean subscribe) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (subscribe) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+            listenerContainers.add(container);
+            beans = new StaticListableBeanFactory(Map.of("listenerContainer", container));
+        }
+        JwtTokenBlacklistService service = new JwtTokenBlacklistService(redisTemplate,
+                beans.getBeanProvider(RedisMessageListenerContainer.class), true, 60_000, 50000, 1000, 0.01);
+        service.init();
+        if (subscribe) {
+            // 구독이 실제로 등록될 때까지 대기 (형식이 맞지 않는 메시지는 수신 측에서 무시)
+            int subscribers = listenerContainers.size();
+            eventually(() -> {
+                Long receivers = redisTemplate.convertAndSend("jwt:blacklist", "ready");
+                return receivers != null && receivers >= subscribers;
+            });
+        }
+        return service;
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
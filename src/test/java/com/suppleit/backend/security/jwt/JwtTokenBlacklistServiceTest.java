@@ -0,0 +1,67 @@
+package com.suppleit.backend.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenBlacklistServiceTest {
+
+    // Redis 없이 메모리 모드로 생성 (버킷 폭 10ms)
+    private JwtTokenBlacklistService newService() {
+        return new JwtTokenBlacklistService(null, null, false, 10, 50000, 1000, 0.01);
+    }
+
+    @Test
+    void blacklistedTokenIsRejectedUntilItExpires() {
+        JwtTokenBlacklistService service = newService();
+        service.addToBlacklist("token-a", System.currentTimeMillis() + 60_000);
+
+        assertThat(service.isBlacklisted("token-a")).isTrue();
+        assertThat(service.isBlacklisted("token-b")).isFalse();
+        assertThat(service.size()).isEqualTo(1);
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        JwtTokenBlacklistService service = newService();
+        service.addToBlacklist("token-a", System.currentTimeMillis() - 1);
+        service.addToBlacklist("token-b", null);
+
+        assertThat(service.size()).isZero();
+        assertThat(service.isBlacklisted("token-a")).isFalse();
+    }
+
+    @Test
+    void sweepRemovesOnlyExpiredBuckets() throws InterruptedException {
+        JwtTokenBlacklistService service = newService();
+        service.addToBlacklist("short-lived", System.currentTimeMillis() + 30);
+        service.addToBlacklist("long-lived", System.currentTimeMillis() + 60_000);
+
+        Thread.sleep(100);
+        service.sweepExpiredTokens();
+
+        assertThat(service.size()).isEqualTo(1);
+        assertThat(service.isBlacklisted("short-lived")).isFalse();
+        assertThat(service.isBlacklisted("long-lived")).isTrue();
+    }
+
+    @Test
+    void digestIsStableAndRoundTripsThroughHex() {
+        TokenDigest digest = TokenDigest.of("header.payload.signature");
+
+        assertThat(TokenDigest.of("header.payload.signature")).isEqualTo(digest);
+        assertThat(TokenDigest.of("header.payload.signaturf")).isNotEqualTo(digest);
+        assertThat(digest.toHex()).hasSize(32);
+        assertThat(TokenDigest.fromHex(digest.toHex())).isEqualTo(digest);
+        assertThat(TokenDigest.fromHex(digest.toHex()).hashCode()).isEqualTo(digest.hashCode());
+    }
+
+    @Test
+    void invalidHexIsRejected() {
+        assertThatThrownBy(() -> TokenDigest.fromHex("abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TokenDigest.fromHex(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
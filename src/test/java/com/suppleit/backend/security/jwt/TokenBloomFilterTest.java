@@ -0,0 +1,46 @@
+package com.suppleit.backend.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBloomFilterTest {
+
+    @Test
+    void insertedDigestsAreAlwaysReported() {
+        TokenBloomFilter filter = new TokenBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.of("token-" + i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(TokenDigest.of("token-" + i))).isTrue();
+        }
+        assertThat(filter.getInsertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRate() {
+        TokenBloomFilter filter = new TokenBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.of("token-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(TokenDigest.of("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        // 설정값 1% 의 두 배 이내
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        TokenBloomFilter filter = new TokenBloomFilter(1_000, 0.01);
+
+        assertThat(filter.mightContain(TokenDigest.of("token"))).isFalse();
+        assertThat(filter.getInsertions()).isZero();
+    }
+}
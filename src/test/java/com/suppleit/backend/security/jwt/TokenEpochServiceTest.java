@@ -0,0 +1,76 @@
+package com.suppleit.backend.security.jwt;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenEpochServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final AtomicInteger storedEpoch = new AtomicInteger();
+    private final TokenEpochService service = new TokenEpochService(memberMapper, null, null, false, 30_000);
+
+    TokenEpochServiceTest() {
+        when(memberMapper.getTokenEpoch(EMAIL)).thenAnswer(invocation -> storedEpoch.get());
+        doAnswer(invocation -> storedEpoch.incrementAndGet()).when(memberMapper).incrementTokenEpoch(EMAIL);
+    }
+
+    @Test
+    void epochIsCachedUntilRevoked() {
+        assertThat(service.currentEpoch(EMAIL)).isZero();
+        assertThat(service.currentEpoch(EMAIL)).isZero();
+        verify(memberMapper, times(1)).getTokenEpoch(EMAIL);
+
+        service.revokeAll(EMAIL);
+
+        assertThat(service.isCurrent(EMAIL, 0)).isFalse();
+        assertThat(service.isCurrent(EMAIL, 1)).isTrue();
+    }
+
+    @Test
+    void loadRacingWithRevocationDoesNotCacheStaleEpoch() {
+        // 세대 0 을 읽은 직후 (캐시에 넣기 전) 다른 요청이 전체 로그아웃
+        when(memberMapper.getTokenEpoch(EMAIL)).thenAnswer(invocation -> {
+            int epoch = storedEpoch.get();
+            if (epoch == 0) {
+                service.revokeAll(EMAIL);
+            }
+            return epoch;
+        });
+
+        assertThat(service.currentEpoch(EMAIL)).isZero();  // 진행 중이던 조회는 읽은 값을 반환
+
+        assertThat(service.currentEpoch(EMAIL)).isEqualTo(1);
+        assertThat(service.isCurrent(EMAIL, 0)).isFalse();
+    }
+
+    @Test
+    void revocationInsideTransactionIsAppliedAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.revokeAll(EMAIL);
+            // 커밋 전: 다른 요청이 아직 커밋되지 않은 옛 세대를 읽어 캐시
+            storedEpoch.set(0);
+            assertThat(service.currentEpoch(EMAIL)).isZero();
+
+            storedEpoch.set(1);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+
+            assertThat(service.currentEpoch(EMAIL)).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final MemberLookup memberLookup = mock(MemberLookup.class);
+    // 현재 설정 cost 5, 저장된 해시는 cost 4
+    private final PasswordHashingService passwordHashingService =
+            new PasswordHashingService(new BCryptPasswordEncoder(5), 1, 4, 5000);
+    private final String storedHash = new BCryptPasswordEncoder(4).encode("secret");
+    private final AuthService authService;
+
+    AuthServiceTest() {
+        TokenEpochService tokenEpochService = new TokenEpochService(memberMapper, null, null, false, 30_000);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                "test-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, tokenEpochService);
+        authService = new AuthService(memberMapper, memberLookup, passwordHashingService,
+                jwtTokenProvider, tokenEpochService, mock(MailOutboxService.class));
+        when(memberLookup.findByEmail(EMAIL)).thenReturn(Member.builder()
+                .email(EMAIL)
+                .password(storedHash)
+                .socialType(SocialType.NONE)
+                .memberRole(MemberRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void weakHashIsUpgradedOnlyIfStillStored() {
+        when(memberMapper.upgradePassword(eq(EMAIL), eq(storedHash), anyString())).thenReturn(1);
+
+        assertThat(authService.authenticate(EMAIL, "secret")).isNotBlank();
+
+        ArgumentCaptor<String> upgraded = ArgumentCaptor.forClass(String.class);
+        verify(memberMapper, timeout(5000)).upgradePassword(eq(EMAIL), eq(storedHash), upgraded.capture());
+        assertThat(passwordHashingService.needsUpgrade(upgraded.getValue())).isFalse();
+        assertThat(new BCryptPasswordEncoder().matches("secret", upgraded.getValue())).isTrue();
+        verify(memberLookup, timeout(5000)).evict(EMAIL);
+        verify(memberMapper, never()).updatePassword(anyString(), anyString());
+    }
+
+    @Test
+    void upgradeLosingToConcurrentPasswordChangeKeepsCache() {
+        // 그 사이 비밀번호가 바뀌어 조건부 갱신이 0건
+        when(memberMapper.upgradePassword(eq(EMAIL), eq(storedHash), anyString())).thenReturn(0);
+
+        authService.authenticate(EMAIL, "secret");
+
+        verify(memberMapper, timeout(5000)).upgradePassword(eq(EMAIL), eq(storedHash), anyString());
+        verify(memberLookup, after(200).never()).evict(EMAIL);
+        verify(memberMapper, never()).updatePassword(anyString(), anyString());
+    }
+}
@@ -0,0 +1,121 @@
+package com.suppleit.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// Redis 컨테이너로 Lua 스크립트 기반 발급/확인과 노드 간 제한 공유 확인 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class EmailVerificationRedisTest {
+
+    private static final Pattern CODE = Pattern.compile("인증 코드: (\\d{6})");
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private final MailDispatcher mailDispatcher = mock(MailDispatcher.class);
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    // 코드 10분, 최대 3회 시도, 1시간에 2회 발급, 인증 완료 30분 유지
+    private EmailVerificationService newNode() {
+        return new EmailVerificationService(redisTemplate, mailDispatcher, true, "test-secret",
+                600_000, 3, 3_600_000, 2, 1_800_000);
+    }
+
+    @Test
+    void codeIssuedOnOneNodeVerifiesOnAnotherAndIsConsumedOnce() {
+        EmailVerificationService nodeA = newNode();
+        EmailVerificationService nodeB = newNode();
+
+        assertThat(nodeA.issue("user@example.com")).isZero();
+        String code = lastCode();
+        // 코드는 HMAC 해시로만 저장
+        Object stored = redisTemplate.opsForHash().get("email-verify:{user@example.com}:code", "code");
+        assertThat(stored).asString().hasSize(64).isNotEqualTo(code);
+
+        assertThat(nodeB.verify("USER@example.com", code)).isEqualTo(EmailVerificationService.Result.VERIFIED);
+        assertThat(nodeA.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.EXPIRED);
+        assertThat(nodeA.consumeVerified("user@example.com")).isTrue();
+        assertThat(nodeB.consumeVerified("user@example.com")).isFalse();
+    }
+
+    @Test
+    void attemptsAreCountedAcrossNodes() {
+        EmailVerificationService nodeA = newNode();
+        EmailVerificationService nodeB = newNode();
+        nodeA.issue("user@example.com");
+        String code = lastCode();
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        assertThat(nodeA.verify("user@example.com", wrong)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        assertThat(nodeB.verify("user@example.com", wrong)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        assertThat(nodeA.verify("user@example.com", wrong)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        assertThat(nodeB.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.TOO_MANY_ATTEMPTS);
+        assertThat(nodeA.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.EXPIRED);
+    }
+
+    @Test
+    void issueThrottleIsSharedAcrossNodes() {
+        EmailVerificationService nodeA = newNode();
+        EmailVerificationService nodeB = newNode();
+
+        assertThat(nodeA.issue("user@example.com")).isZero();
+        assertThat(nodeB.issue("user@example.com")).isZero();
+        assertThat(nodeA.issue("user@example.com")).isBetween(1L, 3600L);
+
+        verify(mailDispatcher, times(2)).sendAsync(eq("user@example.com"), anyString(), anyString());
+        assertThat(redisTemplate.getExpire("email-verify:{user@example.com}:issued")).isPositive();
+    }
+
+    private String lastCode() {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(mailDispatcher, atLeastOnce()).sendAsync(anyString(), anyString(), body.capture());
+        Matcher matcher = CODE.matcher(body.getValue());
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.suppleit.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// Redis 미사용(메모리 모드) 인증 코드 발급/확인 규칙
+class EmailVerificationServiceTest {
+
+    private static final Pattern CODE = Pattern.compile("인증 코드: (\\d{6})");
+
+    private final MailDispatcher mailDispatcher = mock(MailDispatcher.class);
+
+    // 코드 10분, 최대 3회 시도, 1시간에 2회 발급, 인증 완료 30분 유지
+    private EmailVerificationService newService(long codeTtlMillis) {
+        return new EmailVerificationService(null, mailDispatcher, false, "test-secret",
+                codeTtlMillis, 3, 3_600_000, 2, 1_800_000);
+    }
+
+    @Test
+    void issuesCodeByMailAndVerifiesOnce() {
+        EmailVerificationService service = newService(600_000);
+
+        assertThat(service.issue("User@Example.com")).isZero();
+        String code = sentCode("User@Example.com");
+
+        // 이메일은 대소문자/공백을 무시하고 같은 사람으로 취급
+        assertThat(service.verify(" user@example.com ", code)).isEqualTo(EmailVerificationService.Result.VERIFIED);
+        assertThat(service.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.EXPIRED);
+
+        assertThat(service.consumeVerified("user@example.com")).isTrue();
+        assertThat(service.consumeVerified("user@example.com")).isFalse();
+    }
+
+    @Test
+    void wrongCodeIsMismatchUntilAttemptsRunOut() {
+        EmailVerificationService service = newService(600_000);
+        service.issue("user@example.com");
+        String code = sentCode("user@example.com");
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        assertThat(service.verify("user@example.com", wrong)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        assertThat(service.verify("user@example.com", wrong)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        assertThat(service.verify("user@example.com", wrong)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        // 최대 시도 수를 넘으면 올바른 코드도 거절되고 코드는 폐기
+        assertThat(service.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.TOO_MANY_ATTEMPTS);
+        assertThat(service.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.EXPIRED);
+        assertThat(service.consumeVerified("user@example.com")).isFalse();
+    }
+
+    @Test
+    void expiredCodeIsRejected() throws InterruptedException {
+        EmailVerificationService service = newService(50);
+        service.issue("user@example.com");
+        String code = sentCode("user@example.com");
+
+        Thread.sleep(100);
+
+        assertThat(service.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.EXPIRED);
+    }
+
+    @Test
+    void throttlesIssuesPerWindowWithoutSendingMail() {
+        EmailVerificationService service = newService(600_000);
+
+        assertThat(service.issue("user@example.com")).isZero();
+        assertThat(service.issue("user@example.com")).isZero();
+        long retryAfterSeconds = service.issue("user@example.com");
+
+        assertThat(retryAfterSeconds).isBetween(1L, 3600L);
+        verify(mailDispatcher, times(2)).sendAsync(eq("user@example.com"), anyString(), anyString());
+    }
+
+    @Test
+    void reissuedCodeReplacesPreviousOne() {
+        EmailVerificationService service = newService(600_000);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+
+        service.issue("user@example.com");
+        service.issue("user@example.com");
+        verify(mailDispatcher, times(2)).sendAsync(eq("user@example.com"), anyString(), body.capture());
+        String first = code(body.getAllValues().get(0));
+        String second = code(body.getAllValues().get(1));
+
+        if (!first.equals(second)) {
+            assertThat(service.verify("user@example.com", first)).isEqualTo(EmailVerificationService.Result.MISMATCH);
+        }
+        assertThat(service.verify("user@example.com", second)).isEqualTo(EmailVerificationService.Result.VERIFIED);
+    }
+
+    @Test
+    void busyMailPoolIsReportedToCaller() {
+        EmailVerificationService service = newService(600_000);
+        doThrow(new MailSendBusyException("busy")).when(mailDispatcher).sendAsync(anyString(), anyString(), anyString());
+
+        assertThatThrownBy(() -> service.issue("user@example.com")).isInstanceOf(MailSendBusyException.class);
+    }
+
+    @Test
+    void sweepRemovesOnlyExpiredState() throws InterruptedException {
+        EmailVerificationService service = new EmailVerificationService(null, mailDispatcher, false, "test-secret",
+                50, 3, 50, 2, 50);
+        service.issue("user@example.com");
+        String code = sentCode("user@example.com");
+        Thread.sleep(100);
+
+        service.sweepExpired();
+
+        assertThat(service.verify("user@example.com", code)).isEqualTo(EmailVerificationService.Result.EXPIRED);
+        assertThat(service.issue("user@example.com")).isZero();
+    }
+
+    private String sentCode(String recipient) {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(mailDispatcher).sendAsync(eq(recipient), anyString(), body.capture());
+        return code(body.getValue());
+    }
+
+    private static String code(String body) {
+        Matcher matcher = CODE.matcher(body);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,184 @@
+package com.suppleit.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileDownloadServiceTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final Instant MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    private final BlobStore blobStore = mock(BlobStore.class);
+    private final FileDownloadService service = new FileDownloadService(blobStore);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = dir.resolve("a.txt");
+        Files.writeString(file, CONTENT, StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(file, FileTime.from(MODIFIED));
+        when(blobStore.localPath(BlobStore.Area.ATTACHMENT, "a.txt")).thenReturn(file);
+        when(blobStore.localPath(BlobStore.Area.ATTACHMENT, "missing.txt")).thenReturn(dir.resolve("missing.txt"));
+    }
+
+    @Test
+    void sendsWholeFileWithValidators() throws IOException {
+        MockHttpServletResponse response = send(request());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("ETag")).isNotNull();
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+    }
+
+    @Test
+    void matchingEtagReturnsNotModified() throws IOException {
+        String etag = send(request()).getHeader("ETag");
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", etag);
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void servesSingleByteRanges() throws IOException {
+        assertPartial("bytes=2-5", "2345", "bytes 2-5/20");
+        assertPartial("bytes=15-", "fghij", "bytes 15-19/20");
+        assertPartial("bytes=-3", "hij", "bytes 17-19/20");
+        assertPartial("bytes=18-100", "ij", "bytes 18-19/20");
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=20-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+    }
+
+    @Test
+    void multipleOrMalformedRangesReturnWholeFile() throws IOException {
+        for (String range : new String[]{"bytes=0-1,5-6", "bytes=x-y", "items=0-1", "bytes=0-19"}) {
+            MockHttpServletRequest request = request();
+            request.addHeader("Range", range);
+
+            MockHttpServletResponse response = send(request);
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getContentAsString()).as(range).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void ifRangeAppliesRangeOnlyWhenValidatorMatches() throws IOException {
+        String etag = send(request()).getHeader("ETag");
+
+        MockHttpServletRequest matching = request();
+        matching.addHeader("Range", "bytes=0-3");
+        matching.addHeader("If-Range", etag);
+        assertThat(send(matching).getStatus()).isEqualTo(206);
+
+        MockHttpServletRequest stale = request();
+        stale.addHeader("Range", "bytes=0-3");
+        stale.addHeader("If-Range", "\"other\"");
+        MockHttpServletResponse response = send(stale);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+
+        MockHttpServletRequest byDate = request();
+        byDate.addHeader("Range", "bytes=0-3");
+        byDate.addHeader("If-Range", "Wed, 01 Jan 2025 00:00:00 GMT");
+        assertThat(send(byDate).getStatus()).isEqualTo(206);
+    }
+
+    @Test
+    void sendfileHandsRangeToContainer() throws IOException {
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+    }
+
+    @Test
+    void missingLocalFileReturnsFalse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean sent = service.send(BlobStore.Area.ATTACHMENT, "missing.txt", MediaType.TEXT_PLAIN, null,
+                CacheControl.noCache(), request(), response);
+
+        assertThat(sent).isFalse();
+    }
+
+    @Test
+    void remoteStoreRedirectsToDownloadUrl() throws IOException {
+        when(blobStore.exists(BlobStore.Area.IMAGE, "b.png")).thenReturn(true);
+        when(blobStore.downloadUrl(eq(BlobStore.Area.IMAGE), eq("b.png"), anyString(), any()))
+                .thenReturn(URI.create("https://bucket.test/b.png?sig=1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean sent = service.send(BlobStore.Area.IMAGE, "b.png", MediaType.IMAGE_PNG, null,
+                CacheControl.noCache(), request(), response);
+
+        assertThat(sent).isTrue();
+        assertThat(response.getRedirectedUrl()).isEqualTo("https://bucket.test/b.png?sig=1");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+    }
+
+    private void assertPartial(String range, String body, String contentRange) throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", range);
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).as(range).isEqualTo(206);
+        assertThat(response.getContentAsString()).as(range).isEqualTo(body);
+        assertThat(response.getHeader("Content-Range")).as(range).isEqualTo(contentRange);
+        assertThat(response.getContentLengthLong()).as(range).isEqualTo(body.length());
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(service.send(BlobStore.Area.ATTACHMENT, "a.txt", MediaType.TEXT_PLAIN, null,
+                CacheControl.noCache(), request, response)).isTrue();
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/notice/attachment/a.txt");
+    }
+}
@@ -0,0 +1,172 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.UploadBlobMapper;
+import com.suppleit.backend.model.UploadBlob;
+import com.suppleit.backend.service.BlobStore.Area;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final InMemoryUploadBlobMapper mapper = new InMemoryUploadBlobMapper();
+    private final LocalBlobStore blobStore = new LocalBlobStore();
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(blobStore, "imageUploadDir", dir.resolve("images") + "/");
+        ReflectionTestUtils.setField(blobStore, "attachmentUploadDir", dir.resolve("attachments") + "/");
+        blobStore.init();
+        fileService = new FileService(mapper, blobStore, transactionManager);
+    }
+
+    @Test
+    void sameContentIsStoredOnceAndReferenceCounted() throws IOException {
+        String first = fileService.saveAttachment(content("same"), "a.pdf");
+        String second = fileService.saveAttachment(content("same"), "b.pdf");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(mapper.refCount(Area.ATTACHMENT, first)).isEqualTo(2);
+        assertThat(blobStore.exists(Area.ATTACHMENT, first)).isTrue();
+    }
+
+    @Test
+    void fileIsDeletedOnlyWhenLastReferenceIsReleased() throws IOException {
+        String path = fileService.saveImage(content("png"), "a.png", "image/png");
+        fileService.saveImage(content("png"), "a.png", "image/png");
+
+        fileService.deleteImage(path);
+        assertThat(mapper.refCount(Area.IMAGE, path)).isEqualTo(1);
+        assertThat(blobStore.exists(Area.IMAGE, path)).isTrue();
+
+        fileService.deleteImage(path);
+        assertThat(mapper.refCount(Area.IMAGE, path)).isNull();
+        assertThat(blobStore.exists(Area.IMAGE, path)).isFalse();
+    }
+
+    @Test
+    void unregisteredFileIsLeftForGarbageCollector() throws IOException {
+        String path = "2020/01/01/legacy.pdf";
+        blobStore.stage(Area.ATTACHMENT, content("legacy")).commit(path);
+
+        fileService.deleteAttachment(path);
+
+        assertThat(blobStore.exists(Area.ATTACHMENT, path)).isTrue();
+    }
+
+    @Test
+    void releasingAlreadyUnreferencedRowDoesNotDeleteFile() throws IOException {
+        String path = fileService.saveAttachment(content("zero"), "z.pdf");
+        mapper.rows.get(InMemoryUploadBlobMapper.key(Area.ATTACHMENT.name(), path)).setRefCount(0);
+
+        fileService.deleteAttachment(path);
+
+        assertThat(blobStore.exists(Area.ATTACHMENT, path)).isTrue();
+        assertThat(mapper.refCount(Area.ATTACHMENT, path)).isZero();
+    }
+
+    @Test
+    void releasedBlobCanBeStoredAgain() throws IOException {
+        String path = fileService.saveAttachment(content("again"), "a.pdf");
+        fileService.deleteAttachment(path);
+
+        String stored = fileService.saveAttachment(content("again"), "a.pdf");
+
+        assertThat(stored).isEqualTo(path);
+        assertThat(blobStore.exists(Area.ATTACHMENT, stored)).isTrue();
+        assertThat(mapper.refCount(Area.ATTACHMENT, stored)).isEqualTo(1);
+    }
+
+    @Test
+    void orphanReacquiredAfterCutoffIsKept() throws IOException {
+        String path = fileService.saveAttachment(content("orphan"), "o.pdf");
+
+        assertThat(fileService.deleteOrphanAttachment(path, Instant.now().minusSeconds(60))).isFalse();
+        assertThat(fileService.deleteOrphanAttachment(path, Instant.now().plusSeconds(60))).isTrue();
+        assertThat(blobStore.exists(Area.ATTACHMENT, path)).isFalse();
+        assertThat(mapper.refCount(Area.ATTACHMENT, path)).isNull();
+    }
+
+    private static InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Upload_Blob 테이블 대신 쓰는 메모리 구현 (행 잠금 조회는 트랜잭션 안에서만 허용)
+    static class InMemoryUploadBlobMapper implements UploadBlobMapper {
+        final Map<String, UploadBlob> rows = new HashMap<>();
+
+        static String key(String kind, String relativePath) {
+            return kind + ":" + relativePath;
+        }
+
+        Integer refCount(Area area, String relativePath) {
+            UploadBlob blob = rows.get(key(area.name(), relativePath));
+            return blob != null ? blob.getRefCount() : null;
+        }
+
+        @Override
+        public void acquire(UploadBlob blob) {
+            for (UploadBlob row : rows.values()) {
+                if (row.getKind().equals(blob.getKind()) && row.getDigest().equals(blob.getDigest())) {
+                    row.setRefCount(row.getRefCount() + 1);
+                    row.setUpdatedAt(LocalDateTime.now());
+                    return;
+                }
+            }
+            blob.setRefCount(1);
+            blob.setUpdatedAt(LocalDateTime.now());
+            rows.put(key(blob.getKind(), blob.getRelativePath()), blob);
+        }
+
+        @Override
+        public String getPathByDigest(String kind, String digest) {
+            return rows.values().stream()
+                    .filter(row -> row.getKind().equals(kind) && row.getDigest().equals(digest))
+                    .map(UploadBlob::getRelativePath)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public int release(String kind, String relativePath) {
+            UploadBlob blob = rows.get(key(kind, relativePath));
+            if (blob == null || blob.getRefCount() <= 0) {
+                return 0;
+            }
+            blob.setRefCount(blob.getRefCount() - 1);
+            return 1;
+        }
+
+        @Override
+        public UploadBlob lockByPath(String kind, String relativePath) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException("FOR UPDATE outside of a transaction");
+            }
+            return rows.get(key(kind, relativePath));
+        }
+
+        @Override
+        public int deleteByPath(String kind, String relativePath) {
+            return rows.remove(key(kind, relativePath)) != null ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.service.BlobStore.Area;
+import com.suppleit.backend.service.ImageVariantService.Variant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final LocalBlobStore blobStore = new LocalBlobStore();
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(blobStore, "imageUploadDir", dir.resolve("images") + "/");
+        ReflectionTestUtils.setField(blobStore, "attachmentUploadDir", dir.resolve("attachments") + "/");
+        blobStore.init();
+        service = new ImageVariantService(blobStore, 100, 200, 1, 10);
+    }
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void generatesMediumAndThumbKeepingAspectRatio() throws IOException {
+        store("2025/01/01/img_a.png", encode(image(800, 400), "png"));
+
+        service.generate("2025/01/01/img_a.png");
+
+        BufferedImage medium = read("2025/01/01/img_a_medium.png");
+        BufferedImage thumb = read("2025/01/01/img_a_thumb.png");
+        assertThat(medium.getWidth()).isEqualTo(200);
+        assertThat(medium.getHeight()).isEqualTo(100);
+        assertThat(thumb.getWidth()).isEqualTo(100);
+        assertThat(thumb.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void rotatesByExifOrientationBeforeScaling() throws IOException {
+        // 센서 기준 가로 사진(왼쪽 빨강, 오른쪽 파랑)을 시계 방향 90도로 보여야 하는 사진 (Orientation = 6)
+        store("2025/01/01/img_b.jpg", withExifOrientation(encode(image(800, 400), "jpg"), 6));
+
+        service.generate("2025/01/01/img_b.jpg");
+
+        BufferedImage thumb = read("2025/01/01/img_b_thumb.jpg");
+        assertThat(thumb.getWidth()).isEqualTo(50);
+        assertThat(thumb.getHeight()).isEqualTo(100);
+        assertThat(isRed(thumb.getRGB(25, 10))).isTrue();   // 왼쪽이 위로
+        assertThat(isRed(thumb.getRGB(25, 90))).isFalse();
+        assertThat(read("2025/01/01/img_b_medium.jpg").getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    void readsOrientationInEitherByteOrder() {
+        assertThat(ImageVariantService.exifOrientation(exifSegment(8, ByteOrder.LITTLE_ENDIAN))).isEqualTo(8);
+        assertThat(ImageVariantService.exifOrientation(exifSegment(3, ByteOrder.BIG_ENDIAN))).isEqualTo(3);
+        assertThat(ImageVariantService.exifOrientation(exifSegment(9, ByteOrder.BIG_ENDIAN))).isEqualTo(1);
+        assertThat(ImageVariantService.exifOrientation("http://ns.adobe.com/xap/1.0/".getBytes(StandardCharsets.ISO_8859_1)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void smallImageIsServedAsOriginal() throws IOException {
+        store("2025/01/01/img_c.png", encode(image(80, 60), "png"));
+
+        service.generate("2025/01/01/img_c.png");
+
+        assertThat(blobStore.exists(Area.IMAGE, "2025/01/01/img_c_thumb.png")).isFalse();
+        assertThat(service.resolve("2025/01/01/img_c.png", Variant.THUMB)).isEqualTo("2025/01/01/img_c.png");
+    }
+
+    @Test
+    void resolveFallsBackToOriginalUntilVariantExists() throws IOException {
+        store("2025/01/01/img_d.png", encode(image(150, 150), "png"));
+
+        assertThat(service.resolve("2025/01/01/img_d.png", null)).isEqualTo("2025/01/01/img_d.png");
+        assertThat(service.resolve("2025/01/01/img_d.png", Variant.THUMB)).isEqualTo("2025/01/01/img_d.png");
+
+        service.generate("2025/01/01/img_d.png");
+
+        assertThat(service.resolve("2025/01/01/img_d.png", Variant.THUMB)).isEqualTo("2025/01/01/img_d_thumb.png");
+        // 원본이 중간 크기 이하이므로 중간 크기는 원본
+        assertThat(service.resolve("2025/01/01/img_d.png", Variant.MEDIUM)).isEqualTo("2025/01/01/img_d.png");
+    }
+
+    private void store(String key, byte[] bytes) throws IOException {
+        BlobStore.StagedBlob staged = blobStore.stage(Area.IMAGE, new ByteArrayInputStream(bytes));
+        staged.commit(key);
+    }
+
+    private BufferedImage read(String key) throws IOException {
+        try (InputStream in = blobStore.open(Area.IMAGE, key)) {
+            return ImageIO.read(in);
+        }
+    }
+
+    // 왼쪽 절반 빨강, 오른쪽 절반 파랑
+    private static BufferedImage image(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        return image;
+    }
+
+    private static boolean isRed(int rgb) {
+        return ((rgb >> 16) & 0xFF) > 200 && (rgb & 0xFF) < 50;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // JFIF(APP0) 바로 뒤에 EXIF(APP1) 세그먼트 삽입
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] segment = exifSegment(orientation, ByteOrder.BIG_ENDIAN);
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, app0End);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((segment.length + 2) >> 8);
+        out.write((segment.length + 2) & 0xFF);
+        out.write(segment, 0, segment.length);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + Orientation 항목 하나인 IFD0
+    private static byte[] exifSegment(int orientation, ByteOrder order) {
+        ByteBuffer tiff = ByteBuffer.allocate(26).order(order);
+        byte mark = (byte) (order == ByteOrder.LITTLE_ENDIAN ? 'I' : 'M');
+        tiff.put(mark).put(mark).putShort((short) 42).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0);
+        ByteBuffer segment = ByteBuffer.allocate(6 + tiff.capacity());
+        segment.put("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1)).put(tiff.array());
+        return segment.array();
+    }
+}
@@ -0,0 +1,121 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.service.BlobStore.Area;
+import com.suppleit.backend.service.BlobStore.BlobInfo;
+import com.suppleit.backend.service.BlobStore.StagedBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final LocalBlobStore store = new LocalBlobStore();
+
+    // 설정값처럼 업로드 디렉토리는 '/' 로 끝남
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "imageUploadDir", dir.resolve("images") + "/");
+        ReflectionTestUtils.setField(store, "attachmentUploadDir", dir.resolve("attachments") + "/");
+        store.init();
+    }
+
+    @Test
+    void stagedBlobIsVisibleOnlyAfterCommit() throws IOException {
+        StagedBlob staged = store.stage(Area.IMAGE, content("hello"));
+        assertThat(staged.size()).isEqualTo(5);
+        assertThat(store.exists(Area.IMAGE, "2025/01/01/a.png")).isFalse();
+
+        staged.commit("2025/01/01/a.png");
+        staged.discard();  // commit 이후에는 아무 일도 하지 않음
+
+        assertThat(store.exists(Area.IMAGE, "2025/01/01/a.png")).isTrue();
+        assertThat(store.exists(Area.ATTACHMENT, "2025/01/01/a.png")).isFalse();
+        try (InputStream in = store.open(Area.IMAGE, "2025/01/01/a.png")) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        }
+        assertThat(store.localPath(Area.IMAGE, "2025/01/01/a.png"))
+                .isEqualTo(dir.resolve("images/2025/01/01/a.png").toAbsolutePath().normalize());
+    }
+
+    @Test
+    void discardRemovesStagedFile() throws IOException {
+        StagedBlob staged = store.stage(Area.ATTACHMENT, content("data"));
+
+        staged.discard();
+
+        try (var files = Files.list(dir.resolve("attachments/.incoming"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void listsDirectoriesAndFilesUnderPrefix() throws IOException {
+        store.stage(Area.IMAGE, content("a")).commit("2025/01/01/a.png");
+        store.stage(Area.IMAGE, content("bb")).commit("2025/01/02/b.png");
+
+        assertThat(store.listDirectories(Area.IMAGE, "")).containsExactlyInAnyOrder("2025/", ".incoming/");
+        assertThat(store.listDirectories(Area.IMAGE, "2025/01/")).containsExactlyInAnyOrder("2025/01/01/", "2025/01/02/");
+        assertThat(store.listFiles(Area.IMAGE, "2025/01/02/"))
+                .extracting(BlobInfo::key, BlobInfo::size)
+                .containsExactly(tuple("2025/01/02/b.png", 2L));
+        assertThat(store.listFiles(Area.IMAGE, "2030/")).isEmpty();
+    }
+
+    @Test
+    void deleteIsIdempotent() throws IOException {
+        store.stage(Area.IMAGE, content("a")).commit("2025/01/01/a.png");
+
+        store.delete(Area.IMAGE, "2025/01/01/a.png");
+        store.delete(Area.IMAGE, "2025/01/01/a.png");
+
+        assertThat(store.exists(Area.IMAGE, "2025/01/01/a.png")).isFalse();
+    }
+
+    @Test
+    void purgeStagedRemovesOnlyOldPartialUploads() throws IOException {
+        store.stage(Area.IMAGE, content("old"));
+
+        store.purgeStaged(Area.IMAGE, Instant.now().minusSeconds(3600));
+        try (var files = Files.list(dir.resolve("images/.incoming"))) {
+            assertThat(files).hasSize(1);
+        }
+
+        store.purgeStaged(Area.IMAGE, Instant.now().plusSeconds(60));
+        try (var files = Files.list(dir.resolve("images/.incoming"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void keysOutsideUploadDirectoryAreRejected() throws IOException {
+        Files.writeString(dir.resolve("secret.txt"), "secret");
+
+        assertThatThrownBy(() -> store.open(Area.IMAGE, "../secret.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.delete(Area.ATTACHMENT, "2025/../../secret.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.stage(Area.IMAGE, content("x")).commit("../images2/x.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Files.exists(dir.resolve("secret.txt"))).isTrue();
+    }
+
+    private static InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.BCryptCostCalibrator;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로그인 처리량 측정 (./gradlew benchmark 로 실행, 일반 test 에서는 제외)
+// 요청 스레드(Tomcat 워커 역할) 64개가 쉬지 않고 로그인할 때
+// - 초당 로그인 성공 수
+// - 해시 풀이 가득 차 바로 503 으로 돌려보낸 수
+// - 요청 스레드가 한 번의 로그인에 묶여 있던 시간 (p50/p99)
+@Tag("benchmark")
+class LoginThroughputBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+    private static final int REQUEST_THREADS = 64;
+    private static final long DURATION_MILLIS = 10_000;
+
+    @Test
+    void loginThroughputWithBoundedHashingPool() throws InterruptedException {
+        // 운영과 같은 방식으로 cost 결정 (목표 100ms, 10~14)
+        int cost = BCryptCostCalibrator.calibrate(100, 10, 14);
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        PasswordHashingService hashing = new PasswordHashingService(encoder, 0, 64, 5000);
+
+        MemberMapper memberMapper = mock(MemberMapper.class);
+        MemberLookup memberLookup = mock(MemberLookup.class);
+        when(memberLookup.findByEmail(EMAIL)).thenReturn(Member.builder()
+                .email(EMAIL)
+                .password(encoder.encode("secret"))
+                .socialType(SocialType.NONE)
+                .memberRole(MemberRole.USER)
+                .build());
+        TokenEpochService epochs = new TokenEpochService(memberMapper, null, null, false, 30_000);
+        AuthService authService = new AuthService(memberMapper, memberLookup, hashing,
+                new JwtTokenProvider("benchmark-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, epochs),
+                epochs, mock(MailOutboxService.class));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        CountDownLatch done = new CountDownLatch(REQUEST_THREADS);
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        try {
+            for (int i = 0; i < REQUEST_THREADS; i++) {
+                requestThreads.execute(() -> {
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            try {
+                                authService.authenticate(EMAIL, "secret");
+                                succeeded.incrementAndGet();
+                            } catch (PasswordHashingBusyException e) {
+                                rejected.incrementAndGet();
+                                Thread.sleep(50);  // 클라이언트의 Retry-After 대기 흉내
+                            }
+                            latencies.add(System.nanoTime() - start);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(DURATION_MILLIS + 30_000, TimeUnit.MILLISECONDS)).isTrue();
+        } finally {
+            requestThreads.shutdownNow();
+            hashing.shutdown();
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("[login] cost=%d cpus=%d requestThreads=%d: %.1f logins/s, %d rejected (503), "
+                        + "request-thread time p50=%.1fms p99=%.1fms%n",
+                cost, Runtime.getRuntime().availableProcessors(), REQUEST_THREADS,
+                succeeded.get() * 1000.0 / DURATION_MILLIS, rejected.get(),
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6);
+        assertThat(succeeded.get()).isPositive();
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        return sorted.isEmpty() ? 0 : sorted.get((int) Math.min(sorted.size() - 1, Math.floor(sorted.size() * p)));
+    }
+}
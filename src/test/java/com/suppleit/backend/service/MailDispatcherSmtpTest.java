@@ -0,0 +1,151 @@
+package com.suppleit.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.mapper.MailOutboxMapper;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.MailOutbox;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 프로세스 안에 띄운 SMTP 서버(GreenMail)로 실제 발송까지 확인
+class MailDispatcherSmtpTest {
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailOutboxMapper mailOutboxMapper = mock(MailOutboxMapper.class);
+    private MailDispatcher dispatcher;
+
+    private MailDispatcher newDispatcher() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(GREEN_MAIL.getSmtp().getPort());
+        dispatcher = new MailDispatcher(mailOutboxMapper, mailSender, new SimpleMeterRegistry(),
+                "noreply@suppleit.com", 1, 10, 3, 1000, 10, 600000, 1, 10);
+        return dispatcher;
+    }
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void deliversClaimedBatchOverSmtp() throws Exception {
+        newDispatcher();
+        List<MailOutbox> mails = List.of(mail(1L, "a@test.com", "첫 번째"), mail(2L, "b@other.com", "두 번째"));
+        when(mailOutboxMapper.claimBatch(anyString(), anyInt())).thenReturn(mails.size(), 0);
+        when(mailOutboxMapper.getClaimedMails(anyString())).thenReturn(mails);
+
+        dispatcher.wakeUp();
+
+        assertThat(GREEN_MAIL.waitForIncomingEmail(5000, 2)).isTrue();
+        verify(mailOutboxMapper, timeout(2000)).markSent(argThat(ids -> ids.containsAll(List.of(1L, 2L))));
+        verify(mailOutboxMapper, never()).scheduleRetry(any(), anyInt(), any(), any());
+
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        assertThat(received).extracting(message -> message.getAllRecipients()[0].toString())
+                .containsExactlyInAnyOrder("a@test.com", "b@other.com");
+        assertThat(received[0].getFrom()[0].toString()).isEqualTo("noreply@suppleit.com");
+        assertThat(received).extracting(MailDispatcherSmtpTest::text)
+                .containsExactlyInAnyOrder("첫 번째", "두 번째");
+    }
+
+    @Test
+    void sendAsyncDeliversWithoutOutbox() {
+        newDispatcher();
+
+        dispatcher.sendAsync("user@test.com", "[SuppleIT] 이메일 인증 코드", "인증 코드: 123456");
+
+        assertThat(GREEN_MAIL.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage received = GREEN_MAIL.getReceivedMessages()[0];
+        assertThat(text(received)).contains("123456");
+        verify(mailOutboxMapper, never()).insertMail(any());
+    }
+
+    @Test
+    void tempPasswordMailIsQueuedThenDeliveredOverSmtp() throws Exception {
+        newDispatcher();
+        List<MailOutbox> queued = new ArrayList<>();
+        doAnswer(invocation -> {
+            MailOutbox mail = invocation.getArgument(0);
+            mail.setMailId((long) queued.size() + 1);
+            queued.add(mail);
+            return null;
+        }).when(mailOutboxMapper).insertMail(any());
+        when(mailOutboxMapper.claimBatch(anyString(), anyInt())).thenAnswer(invocation -> queued.size()).thenReturn(0);
+        when(mailOutboxMapper.getClaimedMails(anyString())).thenAnswer(invocation -> List.copyOf(queued));
+
+        MemberMapper memberMapper = mock(MemberMapper.class);
+        MemberLookup memberLookup = mock(MemberLookup.class);
+        when(memberLookup.findByEmail("user@test.com")).thenReturn(Member.builder()
+                .email("user@test.com")
+                .socialType(SocialType.NONE)
+                .memberRole(MemberRole.USER)
+                .build());
+        TokenEpochService epochs = new TokenEpochService(memberMapper, null, null, false, 30_000);
+        PasswordHashingService hashing = new PasswordHashingService(new BCryptPasswordEncoder(4), 1, 4, 5000);
+        AuthService authService = new AuthService(memberMapper, memberLookup, hashing,
+                new JwtTokenProvider("test-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, epochs),
+                epochs, new MailOutboxService(mailOutboxMapper, dispatcher));
+        try {
+            String tempPassword = authService.generateTempPassword("user@test.com");
+
+            assertThat(GREEN_MAIL.waitForIncomingEmail(5000, 1)).isTrue();
+            MimeMessage received = GREEN_MAIL.getReceivedMessages()[0];
+            assertThat(received.getAllRecipients()[0].toString()).isEqualTo("user@test.com");
+            assertThat(text(received)).contains(tempPassword);
+            // 발송 완료 처리 시 대기열 본문(임시 비밀번호)은 비워짐 (MailOutboxMapper.xml markSent)
+            verify(mailOutboxMapper, timeout(2000)).markSent(List.of(1L));
+        } finally {
+            hashing.shutdown();
+        }
+    }
+
+    // 전송 인코딩(base64 등)을 풀어낸 본문
+    private static String text(MimeMessage message) {
+        try {
+            return message.getContent().toString().trim();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MailOutbox mail(Long mailId, String recipient, String body) {
+        return MailOutbox.builder()
+                .mailId(mailId)
+                .recipient(recipient)
+                .subject("제목")
+                .body(body)
+                .attempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MailOutboxMapper;
+import com.suppleit.backend.model.MailOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailDispatcherTest {
+
+    private final MailOutboxMapper mailOutboxMapper = mock(MailOutboxMapper.class);
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private MailDispatcher dispatcher;
+
+    // 워커 1개, 배치 10건, 최대 3회 시도, 도메인당 초당 2건, 단발성 발송 스레드 1개 + 큐 1칸
+    private MailDispatcher newDispatcher() {
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        dispatcher = new MailDispatcher(mailOutboxMapper, mailSender, new SimpleMeterRegistry(),
+                "noreply@test.com", 1, 10, 3, 1000, 2, 600000, 1, 1);
+        return dispatcher;
+    }
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void sendsClaimedBatchAndMarksSent() {
+        newDispatcher();
+        claim(mail(1L, "a@test.com", 0), mail(2L, "b@other.com", 0));
+
+        dispatcher.wakeUp();
+
+        verify(mailOutboxMapper, timeout(2000)).markSent(ids(1L, 2L));
+        verify(mailOutboxMapper, never()).scheduleRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void retriesOnlyFailedMessagesOfBatch() {
+        newDispatcher();
+        claim(mail(1L, "a@test.com", 0), mail(2L, "b@other.com", 0));
+        doAnswer(invocation -> {
+            MimeMessage[] messages = invocation.getArgument(0);
+            MimeMessage failed = messages[0].getAllRecipients()[0].toString().equals("b@other.com")
+                    ? messages[0] : messages[1];
+            throw new MailSendException(Map.of(failed, new RuntimeException("rejected")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        dispatcher.wakeUp();
+
+        verify(mailOutboxMapper, timeout(2000)).scheduleRetry(eq(2L), eq(1), any(), eq("rejected"));
+        verify(mailOutboxMapper, timeout(2000)).markSent(ids(1L));
+    }
+
+    @Test
+    void marksFailedAfterMaxAttempts() {
+        newDispatcher();
+        claim(mail(1L, "a@test.com", 2));
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        dispatcher.wakeUp();
+
+        verify(mailOutboxMapper, timeout(2000)).markFailed(1L, 3, "connection refused");
+        verify(mailOutboxMapper, never()).markSent(any());
+    }
+
+    @Test
+    void defersMailsOverDomainRate() {
+        newDispatcher();
+        claim(mail(1L, "a@test.com", 0), mail(2L, "b@test.com", 0), mail(3L, "c@test.com", 1));
+
+        dispatcher.wakeUp();
+
+        // 초당 2건을 넘는 3번째 메일은 시도 횟수를 늘리지 않고 미룸
+        verify(mailOutboxMapper, timeout(2000)).scheduleRetry(eq(3L), eq(1), any(), eq("rate limited"));
+        verify(mailOutboxMapper, timeout(2000)).markSent(ids(1L, 2L));
+    }
+
+    @Test
+    void sendAsyncRunsOnItsOwnPoolAndRejectsWhenFull() throws Exception {
+        newDispatcher();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> senderThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            senderThread.compareAndSet(null, Thread.currentThread().getName());
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(mailSender).send(any(MimeMessage.class));
+        try {
+            dispatcher.sendAsync("a@test.com", "제목", "본문");  // 스레드에서 발송 중
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            dispatcher.sendAsync("b@test.com", "제목", "본문");  // 큐에서 대기
+
+            assertThatThrownBy(() -> dispatcher.sendAsync("c@test.com", "제목", "본문"))
+                    .isInstanceOf(MailSendBusyException.class);
+            assertThat(senderThread.get()).startsWith("mail-async-");
+
+            // 단발성 발송이 밀려 있어도 대기열 워커는 따로 동작
+            claim(mail(1L, "d@test.com", 0));
+            dispatcher.wakeUp();
+            verify(mailOutboxMapper, timeout(2000)).markSent(ids(1L));
+        } finally {
+            release.countDown();
+        }
+        verify(mailSender, timeout(2000).times(2)).send(any(MimeMessage.class));
+    }
+
+    private void claim(MailOutbox... mails) {
+        when(mailOutboxMapper.claimBatch(anyString(), anyInt())).thenReturn(mails.length, 0);
+        when(mailOutboxMapper.getClaimedMails(anyString())).thenReturn(List.of(mails));
+    }
+
+    // 발송 완료 ID 목록은 순서와 무관하게 비교
+    private static List<Long> ids(Long... mailIds) {
+        return argThat(ids -> ids.size() == mailIds.length && ids.containsAll(List.of(mailIds)));
+    }
+
+    private static MailOutbox mail(Long mailId, String recipient, int attempts) {
+        return MailOutbox.builder()
+                .mailId(mailId)
+                .recipient(recipient)
+                .subject("제목")
+                .body("본문")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberAvailabilityIndexTest {
+
+    private final List<Member> members = new ArrayList<>();
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final MemberAvailabilityIndex index = new MemberAvailabilityIndex(memberMapper, null, null, false);
+
+    // 스캔 도중 실행할 작업 (동시 가입/탈퇴 흉내)
+    private Runnable duringScan = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            ResultHandler<Member> handler = invocation.getArgument(0);
+            DefaultResultContext<Member> context = new DefaultResultContext<>();
+            List<Member> snapshot = new ArrayList<>(members);  // 스캔 시작 시점의 행
+            duringScan.run();
+            for (Member member : snapshot) {
+                context.nextResultObject(member);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(memberMapper).scanMemberKeys(any());
+        when(memberMapper.checkEmail(anyString())).thenAnswer(invocation -> (int) members.stream()
+                .filter(member -> member.getEmail().equalsIgnoreCase(invocation.getArgument(0)))
+                .count());
+        when(memberMapper.checkNickname(anyString())).thenAnswer(invocation -> (int) members.stream()
+                .filter(member -> member.getNickname() != null
+                        && member.getNickname().equalsIgnoreCase(invocation.getArgument(0)))
+                .count());
+    }
+
+    @Test
+    void reloadLoadsNormalizedKeys() {
+        members.add(member("User@Example.com", "Nick"));
+        index.reload();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.isEmailTaken(" user@example.COM ")).isTrue();
+        assertThat(index.isNicknameTaken("nick")).isTrue();
+        assertThat(index.isEmailTaken("other@example.com")).isFalse();
+    }
+
+    @Test
+    void memberAddedDuringScanIsKeptAfterSwap() {
+        members.add(member("old@example.com", "old"));
+        index.reload();
+        duringScan = () -> {
+            members.add(member("new@example.com", "newbie"));
+            index.memberAdded("new@example.com", "newbie");  // 스캔 스냅샷에는 없음
+        };
+
+        index.reload();
+
+        assertThat(index.isEmailTaken("new@example.com")).isTrue();
+        assertThat(index.isNicknameTaken("newbie")).isTrue();
+        assertThat(index.isEmailTaken("old@example.com")).isTrue();
+    }
+
+    @Test
+    void memberRemovedDuringScanIsDroppedAfterSwap() {
+        members.add(member("gone@example.com", "gone"));
+        index.reload();
+        duringScan = () -> {
+            members.removeIf(member -> member.getEmail().equals("gone@example.com"));
+            index.memberRemoved("gone@example.com", "gone");  // 스캔 스냅샷에는 남아 있음
+        };
+
+        index.reload();
+
+        assertThat(index.isEmailTaken("gone@example.com")).isFalse();
+        assertThat(index.isNicknameTaken("gone")).isFalse();
+    }
+
+    @Test
+    void nicknameRenamedDuringScanIsRechecked() {
+        members.add(member("a@example.com", "before"));
+        index.reload();
+        duringScan = () -> {
+            members.set(0, member("a@example.com", "after"));
+            index.nicknameChanged("before", "after");
+        };
+
+        index.reload();
+
+        assertThat(index.isNicknameTaken("before")).isFalse();
+        assertThat(index.isNicknameTaken("after")).isTrue();
+    }
+
+    @Test
+    void sharedNicknameStaysTakenUntilLastMemberLeaves() {
+        members.add(member("a@example.com", "same"));
+        members.add(member("b@example.com", "Same"));
+        index.reload();
+
+        index.memberRemoved("a@example.com", "same");
+        assertThat(index.isNicknameTaken("same")).isTrue();
+
+        index.memberRemoved("b@example.com", "Same");
+        assertThat(index.isNicknameTaken("same")).isFalse();
+    }
+
+    @Test
+    void failedReloadKeepsPreviousIndex() {
+        members.add(member("a@example.com", "a"));
+        index.reload();
+        doThrow(new IllegalStateException("db down")).when(memberMapper).scanMemberKeys(any());
+
+        index.reload();
+
+        assertThat(index.isEmailTaken("a@example.com")).isTrue();
+        index.memberAdded("b@example.com", "b");  // 실패 후에는 재적재 중 기록 없이 바로 반영
+        assertThat(index.isEmailTaken("b@example.com")).isTrue();
+    }
+
+    private static Member member(String email, String nickname) {
+        return Member.builder().email(email).nickname(nickname).build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.constants.Gender;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberExportServiceTest {
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+
+    @Test
+    void streamsInKeysetChunksAndFlushesEachChunk() throws Exception {
+        List<Member> members = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> member(id, "user" + id + "@example.com", "nick" + id))
+                .toList();
+        List<Long> requestedAfterIds = new ArrayList<>();
+        when(memberMapper.scanMembersAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            requestedAfterIds.add(afterId);
+            return new ListCursor(members.stream().filter(m -> m.getMemberId() > afterId).limit(limit).toList());
+        });
+        FlushCountingStream out = new FlushCountingStream();
+
+        long total = service(2).export(out, MemberExportService.Format.CSV);
+
+        assertThat(total).isEqualTo(5);
+        // 2건씩 읽고 마지막 구간(1건)에서 종료, 구간마다 트랜잭션 하나
+        assertThat(requestedAfterIds).containsExactly(0L, 2L, 4L);
+        assertThat(transactionManager.commits).isEqualTo(3);
+        assertThat(out.flushes).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(6)
+                .first().isEqualTo("member_id,email,nickname,gender,birth,member_role,social_type");
+    }
+
+    @Test
+    void writesNdjsonRows() throws Exception {
+        when(memberMapper.scanMembersAfter(anyLong(), anyInt()))
+                .thenAnswer(invocation -> new ListCursor(List.of(member(1, "user@example.com", "nick"))),
+                        invocation -> new ListCursor(List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service(10).export(out, MemberExportService.Format.NDJSON);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .startsWith("{")
+                .contains("\"email\":\"user@example.com\"")
+                .endsWith("}\n");
+    }
+
+    @Test
+    void escapesDelimitersAndQuotes() {
+        assertThat(MemberExportService.csv(null)).isEmpty();
+        assertThat(MemberExportService.csv("plain")).isEqualTo("plain");
+        assertThat(MemberExportService.csv("a,b")).isEqualTo("\"a,b\"");
+        assertThat(MemberExportService.csv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(MemberExportService.csv("line\nbreak")).isEqualTo("\"line\nbreak\"");
+    }
+
+    @Test
+    void neutralizesFormulaPrefixes() {
+        assertThat(MemberExportService.csv("=HYPERLINK(\"http://evil\")")).isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\")\"");
+        assertThat(MemberExportService.csv("+1+1")).isEqualTo("'+1+1");
+        assertThat(MemberExportService.csv("-2")).isEqualTo("'-2");
+        assertThat(MemberExportService.csv("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(MemberExportService.csv("\tcmd")).isEqualTo("'\tcmd");
+        assertThat(MemberExportService.csv("user@example.com")).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void neutralizesFormulaInExportedRow() throws Exception {
+        when(memberMapper.scanMembersAfter(anyLong(), anyInt()))
+                .thenAnswer(invocation -> new ListCursor(List.of(member(1, "user@example.com", "=1+2"))),
+                        invocation -> new ListCursor(List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service(10).export(out, MemberExportService.Format.CSV);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines().skip(1))
+                .containsExactly("1,user@example.com,'=1+2,MALE,1990-01-01,USER,NONE");
+    }
+
+    private MemberExportService service(int chunkSize) {
+        return new MemberExportService(memberMapper, new ObjectMapper().findAndRegisterModules(),
+                transactionManager, chunkSize);
+    }
+
+    private static Member member(long id, String email, String nickname) {
+        return Member.builder()
+                .memberId(id)
+                .email(email)
+                .nickname(nickname)
+                .gender(Gender.MALE)
+                .birth(LocalDate.of(1990, 1, 1))
+                .memberRole(MemberRole.USER)
+                .socialType(SocialType.NONE)
+                .build();
+    }
+
+    private static class ListCursor implements Cursor<Member> {
+
+        private final List<Member> rows;
+        private boolean open = true;
+
+        ListCursor(List<Member> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return !open;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public Iterator<Member> iterator() {
+            return rows.iterator();
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    private static class FlushCountingStream extends ByteArrayOutputStream {
+
+        int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberLookupTest {
+
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    private final MemberLookup memberLookup = new MemberLookup(memberMapper);
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void memoizesLookupsWithinRequest() {
+        startRequest();
+        Member member = Member.builder().email("user@test.com").build();
+        when(memberMapper.getMemberByEmail("user@test.com")).thenReturn(member);
+
+        assertThat(memberLookup.findByEmail("user@test.com")).isSameAs(member);
+        assertThat(memberLookup.findByEmail("user@test.com")).isSameAs(member);
+
+        verify(memberMapper, times(1)).getMemberByEmail("user@test.com");
+    }
+
+    @Test
+    void memoizesMissingMember() {
+        startRequest();
+
+        assertThat(memberLookup.findByEmail("none@test.com")).isNull();
+        assertThat(memberLookup.findByEmail("none@test.com")).isNull();
+
+        verify(memberMapper, times(1)).getMemberByEmail("none@test.com");
+    }
+
+    @Test
+    void putAndEvictUpdateCache() {
+        startRequest();
+        Member saved = Member.builder().email("user@test.com").nickname("new").build();
+
+        memberLookup.put(saved);
+        assertThat(memberLookup.findByEmail("user@test.com")).isSameAs(saved);
+        verify(memberMapper, times(0)).getMemberByEmail("user@test.com");
+
+        memberLookup.evict("user@test.com");
+        memberLookup.findByEmail("user@test.com");
+        verify(memberMapper, times(1)).getMemberByEmail("user@test.com");
+    }
+
+    @Test
+    void queriesEveryTimeOutsideRequest() {
+        memberLookup.findByEmail("user@test.com");
+        memberLookup.findByEmail("user@test.com");
+
+        verify(memberMapper, times(2)).getMemberByEmail("user@test.com");
+    }
+
+    @Test
+    void newRequestStartsWithEmptyCache() {
+        startRequest();
+        memberLookup.findByEmail("user@test.com");
+        startRequest();
+        memberLookup.findByEmail("user@test.com");
+
+        verify(memberMapper, times(2)).getMemberByEmail("user@test.com");
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -0,0 +1,167 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.config.MyBatisConfig;
+import com.suppleit.backend.constants.Gender;
+import com.suppleit.backend.constants.MemberRole;
+import com.suppleit.backend.constants.SocialType;
+import com.suppleit.backend.dto.MemberSearchCondition;
+import com.suppleit.backend.mapper.MemberMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리자 회원 검색: OFFSET 페이지네이션과 키셋 페이지네이션 비교 (./gradlew benchmark 로 실행, Docker 필요)
+// 회원 20만 명을 넣고 검색 조건별로 앞/중간/끝 페이지 한 번 조회에 걸리는 시간(중앙값)을 출력
+// 일치 조건만 쓰는 검색은 실행 계획에 filesort 가 없어야 함 (인덱스 순서 그대로 커서부터 읽음)
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class MemberSearchBenchmark {
+
+    private static final int MEMBERS = 200_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int REPEAT = 15;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static JdbcTemplate jdbc;
+    private static MemberMapper memberMapper;
+
+    @BeforeAll
+    static void seed() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new FileSystemResource("suppleit.sql")).execute(dataSource);
+        memberMapper = new SqlSessionTemplate(new MyBatisConfig().sqlSessionFactory(dataSource)).getMapper(MemberMapper.class);
+        jdbc = new JdbcTemplate(dataSource);
+
+        Random random = new Random(42);
+        SocialType[] socialTypes = SocialType.values();
+        List<Object[]> rows = new ArrayList<>(10_000);
+        for (int i = 0; i < MEMBERS; i++) {
+            rows.add(new Object[] {
+                    "member" + i + "@example.com",
+                    "nick" + i,
+                    random.nextInt(10) == 0 ? null : Gender.values()[random.nextInt(2)].name(),
+                    Date.valueOf(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(365 * 55))),
+                    random.nextInt(100) == 0 ? MemberRole.ADMIN.name() : MemberRole.USER.name(),
+                    socialTypes[random.nextInt(socialTypes.length)].name()
+            });
+            if (rows.size() == 10_000) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+        jdbc.execute("ANALYZE TABLE Member");
+    }
+
+    @Test
+    void offsetVersusKeyset() {
+        List<Scenario> scenarios = List.of(
+                new Scenario("조건 없음", "", new MemberSearchCondition(), false),
+                new Scenario("social_type", "social_type = 'KAKAO'", condition(SocialType.KAKAO, null, null, null), false),
+                new Scenario("member_role", "member_role = 'USER'", condition(null, MemberRole.USER, null, null), false),
+                new Scenario("gender", "gender = 'FEMALE'", condition(null, null, Gender.FEMALE, null), false),
+                new Scenario("social_type+member_role", "social_type = 'NAVER' AND member_role = 'USER'",
+                        condition(SocialType.NAVER, MemberRole.USER, null, null), false),
+                new Scenario("gender+social_type", "gender = 'MALE' AND social_type = 'GOOGLE'",
+                        condition(SocialType.GOOGLE, null, Gender.MALE, null), false),
+                new Scenario("birth 범위", "birth >= '1980-01-01' AND birth <= '1989-12-31'",
+                        condition(null, null, null, LocalDate.of(1980, 1, 1)), true));
+
+        System.out.printf("[member-search] 회원 %d명, 페이지 크기 %d, 반복 %d회 중앙값(ms)%n", MEMBERS, PAGE_SIZE, REPEAT);
+        for (Scenario scenario : scenarios) {
+            long matching = jdbc.queryForObject("SELECT COUNT(*) FROM Member" + where(scenario.where()), Long.class);
+            String extra = explainExtra(scenario.where());
+            System.out.printf("[member-search] %s: 조건에 맞는 회원 %d명, 키셋 실행 계획 Extra=%s%n",
+                    scenario.label(), matching, extra);
+            if (!scenario.rangeOnly()) {
+                assertThat(extra).doesNotContain("Using filesort");
+            }
+
+            for (double position : new double[] {0, 0.5, 0.99}) {
+                long offset = Math.max(0, (long) (matching * position) - PAGE_SIZE);
+                long afterId = offset == 0 ? 0 : jdbc.queryForObject(
+                        "SELECT member_id FROM Member" + where(scenario.where())
+                                + " ORDER BY member_id LIMIT 1 OFFSET " + (offset - 1), Long.class);
+
+                double offsetMillis = median(() -> jdbc.queryForList(
+                        "SELECT member_id, email, nickname, gender, birth, member_role, social_type FROM Member"
+                                + where(scenario.where()) + " ORDER BY member_id LIMIT " + PAGE_SIZE
+                                + " OFFSET " + offset).size());
+                double keysetMillis = median(() -> memberMapper.searchMembers(scenario.condition(), afterId, PAGE_SIZE).size());
+
+                System.out.printf("[member-search] %s offset=%d: OFFSET %.2fms, 키셋 %.2fms%n",
+                        scenario.label(), offset, offsetMillis, keysetMillis);
+            }
+        }
+    }
+
+    private static String where(String filter) {
+        return filter.isEmpty() ? "" : " WHERE " + filter;
+    }
+
+    // 키셋 쿼리(member_id > ? + 조건, member_id 순)의 실행 계획 Extra 열
+    private static String explainExtra(String filter) {
+        List<Map<String, Object>> plan = jdbc.queryForList(
+                "EXPLAIN SELECT member_id, email, nickname, gender, birth, member_role, social_type FROM Member"
+                        + " WHERE member_id > 1000" + (filter.isEmpty() ? "" : " AND " + filter)
+                        + " ORDER BY member_id LIMIT " + PAGE_SIZE);
+        Object extra = plan.get(0).get("Extra");
+        return extra != null ? extra.toString() : "";
+    }
+
+    private static double median(Supplier<Integer> query) {
+        query.get();  // 워밍업
+        double[] millis = new double[REPEAT];
+        for (int i = 0; i < REPEAT; i++) {
+            long start = System.nanoTime();
+            query.get();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis[REPEAT / 2];
+    }
+
+    private static MemberSearchCondition condition(SocialType socialType, MemberRole memberRole, Gender gender,
+                                                   LocalDate birthDecadeFrom) {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setSocialType(socialType);
+        condition.setMemberRole(memberRole);
+        condition.setGender(gender);
+        if (birthDecadeFrom != null) {
+            condition.setBirthFrom(birthDecadeFrom);
+            condition.setBirthTo(birthDecadeFrom.plusYears(10).minusDays(1));
+        }
+        return condition;
+    }
+
+    private static void insert(List<Object[]> rows) {
+        jdbc.batchUpdate("INSERT INTO Member (email, password, nickname, gender, birth, member_role, social_type)"
+                + " VALUES (?, 'x', ?, ?, ?, ?, ?)", rows);
+    }
+
+    private record Scenario(String label, String where, MemberSearchCondition condition, boolean rangeOnly) {
+    }
+}
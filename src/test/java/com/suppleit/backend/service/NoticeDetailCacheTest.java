@@ -0,0 +1,107 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.service.NoticeDetailCache.Encoding;
+import com.suppleit.backend.service.NoticeDetailCache.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoticeDetailCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private NoticeDetailCache newCache(int maxEntries) {
+        return new NoticeDetailCache(objectMapper, null, null, false, maxEntries);
+    }
+
+    @Test
+    void renderedEncodingsDecodeToSameJson() throws IOException {
+        NoticeDetailCache cache = newCache(10);
+        Entry entry = cache.put(notice(1L, "공지사항 본문 ".repeat(200)), cache.generation(1L));
+
+        byte[] identity = entry.render(Encoding.IDENTITY, 42);
+        JsonNode json = objectMapper.readTree(identity);
+        assertThat(json.get("noticeId").asLong()).isEqualTo(1L);
+        assertThat(json.get("views").asLong()).isEqualTo(42);
+
+        assertThat(gunzip(entry.render(Encoding.GZIP, 42))).isEqualTo(identity);
+        assertThat(inflate(entry.render(Encoding.DEFLATE, 42))).isEqualTo(identity);
+        assertThat(entry.compressedSize()).isLessThan(identity.length);
+    }
+
+    @Test
+    void incompressibleContentLargerThanBufferRoundTrips() throws IOException {
+        NoticeDetailCache cache = newCache(10);
+        StringBuilder content = new StringBuilder();
+        Random random = new Random(1);
+        for (int i = 0; i < 20_000; i++) {
+            content.append((char) ('가' + random.nextInt(11172)));
+        }
+        Entry entry = cache.put(notice(1L, content.toString()), cache.generation(1L));
+
+        byte[] identity = entry.render(Encoding.IDENTITY, Long.MAX_VALUE);
+        assertThat(gunzip(entry.render(Encoding.GZIP, Long.MAX_VALUE))).isEqualTo(identity);
+        assertThat(inflate(entry.render(Encoding.DEFLATE, Long.MAX_VALUE))).isEqualTo(identity);
+    }
+
+    @Test
+    void putAfterInvalidationIsNotStored() {
+        NoticeDetailCache cache = newCache(10);
+        long generation = cache.generation(1L);
+
+        // DB 조회 후 저장 전에 수정이 커밋된 경우
+        cache.evict(1L);
+        Entry stale = cache.put(notice(1L, "이전 내용"), generation);
+
+        assertThat(stale).isNotNull();
+        assertThat(cache.get(1L)).isNull();
+
+        cache.put(notice(1L, "새 내용"), cache.generation(1L));
+        assertThat(cache.get(1L)).isNotNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        NoticeDetailCache cache = newCache(2);
+        cache.put(notice(1L, "1"), cache.generation(1L));
+        cache.put(notice(2L, "2"), cache.generation(2L));
+
+        cache.get(1L);
+        cache.put(notice(3L, "3"), cache.generation(3L));
+
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+
+    private static NoticeDto notice(Long noticeId, String content) {
+        return NoticeDto.builder()
+                .noticeId(noticeId)
+                .title("제목 " + noticeId)
+                .content(content)
+                .views(7)
+                .build();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 공지사항 상세 조회 한 번에 드는 CPU 시간 비교 (./gradlew benchmark 로 실행, 일반 test 에서는 제외)
+// - 이전 방식: 요청마다 NoticeDto 를 Jackson 으로 직렬화하고 gzip 압축 (응답 압축 필터와 같은 작업)
+// - 현재 방식: NoticeService.renderNoticeDetail (미리 압축한 본문 + 조회수 꼬리만 덧붙임)
+// 두 방식 모두 DB 조회는 제외하고 요청 스레드의 CPU 시간(ThreadMXBean)만 측정
+@Tag("benchmark")
+class NoticeDetailCpuBenchmark {
+
+    private static final int REQUESTS = 20_000;
+    private static final int WARMUP = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void cpuPerDetailRequest() throws IOException {
+        assertThat(threads.isCurrentThreadCpuTimeSupported()).isTrue();
+        System.out.printf("[notice-detail] 요청 %d회 평균 CPU 시간 (gzip 응답)%n", REQUESTS);
+
+        for (int contentLength : new int[] {500, 4_000, 16_000}) {
+            NoticeDto notice = notice(contentLength);
+            NoticeService noticeService = noticeService(notice);
+
+            double before = cpuMicrosPerRequest(() -> gzip(objectMapper.writeValueAsBytes(notice)));
+            double after = cpuMicrosPerRequest(() -> noticeService.renderNoticeDetail(1L, NoticeDetailCache.Encoding.GZIP));
+
+            System.out.printf("[notice-detail] 본문 %d자: 이전 %.1fµs, 현재 %.1fµs (%.1f배)%n",
+                    contentLength, before, after, before / after);
+        }
+    }
+
+    private NoticeService noticeService(NoticeDto notice) {
+        NoticeMapper noticeMapper = mock(NoticeMapper.class);
+        when(noticeMapper.getNoticeById(anyLong())).thenReturn(notice);
+        return new NoticeService(noticeMapper, mock(MemberLookup.class), mock(FileService.class),
+                mock(NoticeListCache.class), new NoticeViewCounter(noticeMapper, 500), mock(NoticeSearchIndex.class),
+                new NoticeDetailCache(objectMapper, null, null, false, 1000), mock(NoticeUploadPipeline.class),
+                mock(ImageVariantService.class), new TransactionTemplate(new TestTransactionManager()));
+    }
+
+    private double cpuMicrosPerRequest(Request request) throws IOException {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += request.run().length;
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            sink += request.run().length;
+        }
+        long cpuNanos = threads.getCurrentThreadCpuTime() - start;
+        assertThat(sink).isPositive();
+        return cpuNanos / 1000.0 / REQUESTS;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static NoticeDto notice(int contentLength) {
+        StringBuilder content = new StringBuilder("<p>");
+        while (content.length() < contentLength) {
+            content.append("서버 점검으로 인해 일부 서비스 이용이 제한됩니다. ");
+        }
+        return NoticeDto.builder()
+                .noticeId(1L)
+                .title("정기 서버 점검 안내")
+                .content(content.append("</p>").toString())
+                .memberId(1L)
+                .authorName("관리자")
+                .views(100)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        byte[] run() throws IOException;
+    }
+}
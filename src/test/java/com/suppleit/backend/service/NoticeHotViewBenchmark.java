@@ -0,0 +1,127 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.config.MyBatisConfig;
+import com.suppleit.backend.mapper.NoticeMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기 공지사항 하나에 조회가 몰릴 때 조회수 처리 비교 (./gradlew benchmark 로 실행, Docker 필요)
+// 요청 스레드 64개가 같은 공지사항을 쉬지 않고 조회
+// - 이전 방식: 조회마다 UPDATE views = views + 1 (같은 행 잠금을 두고 경합)
+// - 현재 방식: NoticeViewCounter 에 메모리로 증가, 주기적으로 addViews 한 번으로 반영
+// 초당 조회 수, 조회 한 번의 지연 시간(p50/p99), 끝난 뒤 DB 조회수가 조회 횟수와 같은지 확인
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class NoticeHotViewBenchmark {
+
+    private static final long NOTICE_ID = 1L;
+    private static final int REQUEST_THREADS = 64;
+    private static final long DURATION_MILLIS = 10_000;
+    private static final long FLUSH_INTERVAL_MILLIS = 1_000;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbc;
+    private static NoticeMapper noticeMapper;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        noticeMapper = new SqlSessionTemplate(new MyBatisConfig().sqlSessionFactory(dataSource)).getMapper(NoticeMapper.class);
+        jdbc = new JdbcTemplate(dataSource);
+        // 조회수 반영에 필요한 컬럼만 둔 공지사항 테이블
+        jdbc.execute("CREATE TABLE Notice (notice_id BIGINT NOT NULL PRIMARY KEY, views INT NOT NULL DEFAULT 0)");
+    }
+
+    @Test
+    void hotNoticeViews() throws InterruptedException {
+        System.out.printf("[hot-notice] 요청 스레드 %d개, %dms, 반영 주기 %dms%n",
+                REQUEST_THREADS, DURATION_MILLIS, FLUSH_INTERVAL_MILLIS);
+
+        resetViews();
+        long updated = run("조회마다 UPDATE", () -> jdbc.update(
+                "UPDATE Notice SET views = views + 1 WHERE notice_id = ?", NOTICE_ID));
+        assertThat(views()).isEqualTo(updated);
+
+        resetViews();
+        NoticeViewCounter counter = new NoticeViewCounter(noticeMapper, 500);
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(counter::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        long counted;
+        try {
+            counted = run("지연 반영", () -> counter.increment(NOTICE_ID));
+        } finally {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        counter.flushOnShutdown();
+        assertThat(views()).isEqualTo(counted);
+    }
+
+    private static long run(String label, Runnable view) throws InterruptedException {
+        AtomicLong completed = new AtomicLong();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        CountDownLatch done = new CountDownLatch(REQUEST_THREADS);
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        try {
+            for (int i = 0; i < REQUEST_THREADS; i++) {
+                requestThreads.execute(() -> {
+                    try {
+                        List<Long> local = new ArrayList<>();
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            view.run();
+                            local.add(System.nanoTime() - start);
+                            completed.incrementAndGet();
+                        }
+                        latencies.addAll(local);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            requestThreads.shutdown();
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("[hot-notice] %s: 초당 %.0f건 (총 %d건), p50 %.3fms, p99 %.3fms%n", label,
+                completed.get() * 1000.0 / DURATION_MILLIS, completed.get(),
+                sorted.get(sorted.size() / 2) / 1e6,
+                sorted.get((int) (sorted.size() * 0.99) - 1) / 1e6);
+        return completed.get();
+    }
+
+    private static void resetViews() {
+        jdbc.update("DELETE FROM Notice");
+        jdbc.update("INSERT INTO Notice (notice_id, views) VALUES (?, 0)", NOTICE_ID);
+    }
+
+    private static long views() {
+        return jdbc.queryForObject("SELECT views FROM Notice WHERE notice_id = ?", Long.class, NOTICE_ID);
+    }
+}
@@ -0,0 +1,110 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.mapper.NoticeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoticeListCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NoticeMapper noticeMapper = mock(NoticeMapper.class);
+    private final AtomicLong storedVersion = new AtomicLong(7);  // Notice_Version.version
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+
+    @BeforeEach
+    void setUp() {
+        when(noticeMapper.getListVersion()).thenAnswer(invocation -> storedVersion.get());
+        doAnswer(invocation -> storedVersion.incrementAndGet()).when(noticeMapper).incrementListVersion();
+    }
+
+    private NoticeListCache newNode() {
+        NoticeListCache cache = new NoticeListCache(objectMapper, noticeMapper, null, null, false, 16);
+        cache.init();
+        return cache;
+    }
+
+    @Test
+    void etagComesFromStoredVersionSoNodesAndRestartsAgree() {
+        NoticeListCache nodeA = newNode();
+        NoticeListCache nodeB = newNode();
+
+        assertThat(nodeA.etag("p-10")).isEqualTo(nodeB.etag("p-10"));
+        assertThat(nodeA.etag("p-10")).isNotEqualTo(nodeA.etag("p-20"));
+
+        // 재시작해도 목록이 그대로면 같은 ETag
+        assertThat(newNode().etag("p-10")).isEqualTo(nodeA.etag("p-10"));
+    }
+
+    @Test
+    void servesCachedBodyUntilVersionChanges() {
+        NoticeListCache cache = newNode();
+        AtomicInteger loads = new AtomicInteger();
+
+        NoticeListCache.Entry first = cache.get("p-10", () -> List.of("공지 " + loads.incrementAndGet()));
+        NoticeListCache.Entry second = cache.get("p-10", () -> List.of("공지 " + loads.incrementAndGet()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).isEqualTo(cache.etag("p-10"));
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).isEqualTo("[\"공지 1\"]");
+
+        cache.invalidate();
+
+        NoticeListCache.Entry reloaded = cache.get("p-10", () -> List.of("공지 " + loads.incrementAndGet()));
+        assertThat(reloaded.etag()).isNotEqualTo(first.etag());
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void versionAdvancesOnlyAfterCommit() {
+        NoticeListCache cache = newNode();
+        String before = cache.etag("all");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cache.invalidate();
+            assertThat(cache.etag("all")).isEqualTo(before);
+        });
+
+        assertThat(cache.etag("all")).isNotEqualTo(before);
+        assertThat(storedVersion.get()).isEqualTo(8);
+    }
+
+    @Test
+    void rolledBackChangeKeepsCache() {
+        NoticeListCache cache = newNode();
+        NoticeListCache.Entry cached = cache.get("all", () -> List.of("공지"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cache.invalidate();
+            storedVersion.decrementAndGet();  // 실제 DB 에서는 롤백으로 버전 증가도 취소됨
+            status.setRollbackOnly();
+        });
+
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+        assertThat(cache.get("all", () -> List.of("다시 조회"))).isSameAs(cached);
+    }
+
+    @Test
+    void resyncPicksUpChangeCommittedByAnotherNode() {
+        NoticeListCache nodeA = newNode();
+        NoticeListCache nodeB = newNode();
+
+        nodeA.invalidate();
+        assertThat(nodeB.etag("all")).isNotEqualTo(nodeA.etag("all"));
+
+        nodeB.resync();
+
+        assertThat(nodeB.etag("all")).isEqualTo(nodeA.etag("all"));
+    }
+}
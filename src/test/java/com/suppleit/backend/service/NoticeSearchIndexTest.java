@@ -0,0 +1,172 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoticeSearchIndexTest {
+
+    private final Map<Long, NoticeDto> notices = new TreeMap<>();
+    private final NoticeMapper noticeMapper = mock(NoticeMapper.class);
+    private final NoticeSearchIndex index = new NoticeSearchIndex(noticeMapper, null, null, false);
+
+    // 트랜잭션 밖에서 noticeChanged 를 호출하면 바로 DB(목) 상태로 재색인
+    @BeforeEach
+    void setUp() {
+        when(noticeMapper.getNoticeById(anyLong())).thenAnswer(invocation -> notices.get(invocation.<Long>getArgument(0)));
+        doAnswer(invocation -> {
+            ResultHandler<NoticeDto> handler = invocation.getArgument(0);
+            DefaultResultContext<NoticeDto> context = new DefaultResultContext<>();
+            for (NoticeDto notice : notices.values()) {
+                context.nextResultObject(notice);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(noticeMapper).scanNoticesForSearch(any());
+    }
+
+    @Test
+    void tokenizesHangulIntoBigramsAndWordsIntoTokens() {
+        assertThat(tokens("공지사항 <b>안내</b> Spring3 &amp; 점")).containsExactly("공지", "지사", "사항", "안내", "spring3", "점");
+        assertThat(indexTokens("공지사항")).containsExactly("공지", "지사", "사항", "공", "지", "사", "항");
+    }
+
+    @Test
+    void titleMatchesRankAboveContentMatches() {
+        save(1L, "일반 안내", "서버 점검 예정입니다");
+        save(2L, "서버 점검 안내", "자세한 내용은 본문 참고");
+        index.reload();
+
+        assertThat(index.search("서버 점검", 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void singleHangulCharacterMatchesInsideWords() {
+        save(1L, "공지사항", "내용");
+        save(2L, "이벤트", "내용");
+        index.reload();
+
+        assertThat(index.search("공", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void editAndDeleteAreReflectedWithoutReload() {
+        save(1L, "서버 점검", "내용");
+        save(2L, "이벤트", "내용");
+        index.reload();
+
+        save(1L, "이벤트 당첨자", "내용");
+        index.noticeChanged(1L);
+        assertThat(index.search("점검", 10)).isEmpty();
+        assertThat(index.search("이벤트", 10)).containsExactlyInAnyOrder(1L, 2L);
+
+        notices.remove(2L);
+        index.noticeChanged(2L);
+        assertThat(index.search("이벤트", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void overlappingRefreshesOfSameNoticeApplyInReadOrder() throws Exception {
+        save(1L, "서버 점검", "내용");
+        index.reload();
+
+        // 첫 번째 갱신은 수정 전 상태를 읽은 채로 멈춰 있고, 그 사이 수정이 커밋되어 두 번째 갱신이 시작됨
+        NoticeDto beforeEdit = notices.get(1L);
+        CountDownLatch firstRead = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(noticeMapper.getNoticeById(1L))
+                .thenAnswer(invocation -> {
+                    firstRead.countDown();
+                    releaseFirst.await();
+                    return beforeEdit;
+                })
+                .thenAnswer(invocation -> notices.get(1L));
+
+        Thread first = new Thread(() -> index.noticeChanged(1L));
+        first.start();
+        assertThat(firstRead.await(5, TimeUnit.SECONDS)).isTrue();
+
+        save(1L, "이벤트 안내", "내용");
+        Thread second = new Thread(() -> index.noticeChanged(1L));
+        second.start();
+        // 두 번째 갱신은 첫 번째가 끝날 때까지 대기해야 함 (먼저 끝나면 늦게 반영되는 이전 상태가 덮어씀)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (second.getState() != Thread.State.BLOCKED && second.isAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        releaseFirst.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertThat(index.search("점검", 10)).isEmpty();
+        assertThat(index.search("이벤트", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void idfUsesOnlyLiveDocumentsAfterEdits() {
+        save(1L, "제목", "alpha gamma");
+        save(2L, "제목", "beta gamma");
+        for (long id = 3; id <= 6; id++) {
+            save(id, "제목", "alpha delta");
+        }
+        index.reload();
+        // alpha 가 흔하므로 beta 문서가 먼저
+        assertThat(index.search("alpha beta", 2)).containsExactly(2L, 1L);
+
+        // 수정으로 alpha 가 드물어지면 순서가 바뀌어야 함 (삭제 표시된 문서가 IDF 에 남으면 바뀌지 않음)
+        for (long id = 3; id <= 6; id++) {
+            save(id, "제목", "beta delta");
+            index.noticeChanged(id);
+        }
+        assertThat(index.search("alpha beta", 2)).containsExactly(1L, 2L);
+
+        index.reload();
+        assertThat(index.search("alpha beta", 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void limitKeepsHighestScores() {
+        for (long id = 1; id <= 20; id++) {
+            save(id, id == 7 ? "점검 점검" : "안내", "점검");
+        }
+        index.reload();
+
+        List<Long> result = index.search("점검", 3);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).isEqualTo(7L);
+    }
+
+    private void save(Long noticeId, String title, String content) {
+        notices.put(noticeId, NoticeDto.builder().noticeId(noticeId).title(title).content(content).build());
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        NoticeSearchIndex.tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    private static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        NoticeSearchIndex.tokenizeForIndex(text, tokens::add);
+        return tokens;
+    }
+}
@@ -0,0 +1,123 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import com.suppleit.backend.service.NoticeUploadPipeline.StoredUploads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeServiceTest {
+
+    private static final String URL = "http://localhost:8000/api/notice/image/";
+
+    private final NoticeMapper noticeMapper = mock(NoticeMapper.class);
+    private final FileService fileService = mock(FileService.class);
+    private final NoticeUploadPipeline uploadPipeline = mock(NoticeUploadPipeline.class);
+    private final NoticeViewCounter noticeViewCounter = mock(NoticeViewCounter.class);
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+    private NoticeService noticeService;
+
+    @BeforeEach
+    void setUp() {
+        noticeService = new NoticeService(noticeMapper, mock(MemberLookup.class), fileService,
+                mock(NoticeListCache.class), noticeViewCounter, mock(NoticeSearchIndex.class),
+                mock(NoticeDetailCache.class), uploadPipeline, mock(ImageVariantService.class),
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(noticeService, "maxContentLength", 16000);
+        when(uploadPipeline.substitutePlaceholders(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void deleteReleasesOnlyAcquiredImagesOncePerAcquire() throws IOException {
+        // 같은 이미지를 두 번 올렸고, 다른 공지사항의 이미지 URL 을 본문에 복사해 둠
+        when(noticeMapper.getNoticeById(1L)).thenReturn(notice(
+                "<img src=\"" + URL + "a.png\"><img src=\"" + URL + "a.png\"><img src=\"" + URL + "copied.png\">"));
+        when(noticeMapper.getContentImagePaths(1L)).thenReturn(List.of("a.png", "a.png"));
+
+        noticeService.deleteNotice(1L);
+
+        verify(fileService, times(2)).deleteImage("a.png");
+        verify(fileService, never()).deleteImage("copied.png");
+    }
+
+    @Test
+    void deleteDropsPendingViewsOnlyAfterCommit() {
+        when(noticeMapper.getNoticeById(1L)).thenReturn(notice(""));
+        when(noticeMapper.getContentImagePaths(1L)).thenReturn(List.of());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            deleteNotice(1L);
+            verify(noticeViewCounter, never()).remove(1L);
+            status.setRollbackOnly();
+        });
+        verify(noticeViewCounter, never()).remove(1L);
+
+        transaction.executeWithoutResult(status -> deleteNotice(1L));
+        verify(noticeViewCounter).remove(1L);
+    }
+
+    @Test
+    void createRecordsEveryAcquiredContentImage() {
+        StoredUploads uploads = new StoredUploads();
+        uploads.addContentImagePath("a.png");
+        uploads.addContentImagePath("a.png");
+
+        noticeService.createNotice(notice("본문"), uploads);
+
+        verify(noticeMapper).insertContentImages(any(), eq(List.of("a.png", "a.png")));
+    }
+
+    @Test
+    void updateReleasesOnlyAcquiredImagesRemovedFromContent() throws IOException {
+        when(noticeMapper.getNoticeById(1L)).thenReturn(notice(""));
+        when(noticeMapper.getContentImagePaths(1L)).thenReturn(List.of("kept.png", "dup.png", "dup.png", "gone.png"));
+        StoredUploads uploads = new StoredUploads();
+        uploads.addContentImagePath("new.png");
+
+        // 중복 이미지는 한 번만 남기고, 다른 공지사항에서 복사한 이미지를 새로 넣음
+        noticeService.updateNotice(1L, notice(
+                "<img src=\"" + URL + "kept.png\"><img src=\"" + URL + "dup.png\">"
+                        + "<img src=\"" + URL + "new.png\"><img src=\"" + URL + "copied.png\">"), uploads);
+
+        verify(fileService).deleteImage("gone.png");
+        verify(fileService).deleteImage("dup.png");
+        verify(fileService, never()).deleteImage("kept.png");
+        verify(fileService, never()).deleteImage("copied.png");
+        verify(fileService, never()).deleteImage("new.png");
+        verify(fileService, never()).deleteImage((String) null);
+        verify(noticeMapper).deleteContentImages(1L);
+        verify(noticeMapper).insertContentImages(1L, List.of("new.png", "kept.png", "dup.png"));
+        verify(fileService, never()).deleteAttachment(anyString());
+    }
+
+    private void deleteNotice(Long noticeId) {
+        try {
+            noticeService.deleteNotice(noticeId);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static NoticeDto notice(String content) {
+        NoticeDto notice = new NoticeDto();
+        notice.setTitle("제목");
+        notice.setContent(content);
+        notice.setMemberId(1L);
+        return notice;
+    }
+}
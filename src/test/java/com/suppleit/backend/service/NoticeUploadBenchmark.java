@@ -0,0 +1,138 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.UploadBlobMapper;
+import com.suppleit.backend.model.UploadBlob;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 본문 이미지 30개짜리 공지사항 업로드 처리 시간 비교 (./gradlew benchmark 로 실행, 일반 test 에서는 제외)
+// 실제 FileService + LocalBlobStore(임시 디렉토리)에 저장하고 반복 중앙값 출력
+// - 이전 방식: 이미지를 하나씩 저장하고 이미지마다 content.replace 로 본문 전체를 다시 만듦
+// - 현재 방식: NoticeUploadPipeline 으로 동시에 저장하고 본문은 한 번만 훑어 치환
+@Tag("benchmark")
+class NoticeUploadBenchmark {
+
+    private static final int IMAGES = 30;
+    private static final int IMAGE_BYTES = 300 * 1024;
+    private static final int REPEAT = 9;
+    private static final String BASE_URL = "http://localhost:8000";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void thirtyImageNotice() throws IOException {
+        LocalBlobStore blobStore = new LocalBlobStore();
+        ReflectionTestUtils.setField(blobStore, "imageUploadDir", dir.resolve("images") + "/");
+        ReflectionTestUtils.setField(blobStore, "attachmentUploadDir", dir.resolve("attachments") + "/");
+        blobStore.init();
+        FileService fileService = new FileService(new ConcurrentUploadBlobMapper(), blobStore, new TestTransactionManager());
+        NoticeUploadPipeline pipeline = new NoticeUploadPipeline(fileService, BASE_URL, 4);
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < IMAGES; i++) {
+            text.append("<p>").append("점검 일정과 변경 사항을 안내드립니다. ".repeat(40)).append("</p>")
+                    .append("<img src=\"{{IMAGE_PLACEHOLDER_").append(i).append("}}\">");
+        }
+        String content = text.toString();
+        Random random = new Random(7);
+
+        try {
+            System.out.printf("[notice-upload] 본문 이미지 %d개 (각 %dKB), 본문 %d자, 반복 %d회 중앙값%n",
+                    IMAGES, IMAGE_BYTES / 1024, content.length(), REPEAT);
+
+            double sequential = median(random, images -> {
+                String result = content;
+                for (int i = 0; i < images.size(); i++) {
+                    String path = fileService.saveImage(images.get(i));
+                    result = result.replace("{{IMAGE_PLACEHOLDER_" + i + "}}", BASE_URL + "/api/notice/image/" + path);
+                }
+                return result;
+            });
+            double parallel = median(random, images -> {
+                NoticeUploadPipeline.StoredUploads uploads = pipeline.store(null, null, images);
+                return pipeline.substitutePlaceholders(content, uploads.getContentImagePaths());
+            });
+
+            System.out.printf("[notice-upload] 순차 저장 + 이미지별 replace: %.1fms%n", sequential);
+            System.out.printf("[notice-upload] 동시 저장 + 한 번에 치환: %.1fms%n", parallel);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    // 매번 다른 내용의 이미지 (내용 해시 중복 제거로 저장이 생략되지 않도록)
+    private static List<MultipartFile> images(Random random) {
+        List<MultipartFile> images = new ArrayList<>(IMAGES);
+        for (int i = 0; i < IMAGES; i++) {
+            byte[] bytes = new byte[IMAGE_BYTES];
+            random.nextBytes(bytes);
+            images.add(new MockMultipartFile("contentImages", "c" + i + ".png", "image/png", bytes));
+        }
+        return images;
+    }
+
+    private static double median(Random random, Upload upload) throws IOException {
+        upload.run(images(random));  // 워밍업
+        double[] millis = new double[REPEAT];
+        for (int i = 0; i < REPEAT; i++) {
+            List<MultipartFile> images = images(random);
+            long start = System.nanoTime();
+            String content = upload.run(images);
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+            assertThat(content).doesNotContain("{{IMAGE_PLACEHOLDER_");
+        }
+        Arrays.sort(millis);
+        return millis[REPEAT / 2];
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        String run(List<MultipartFile> images) throws IOException;
+    }
+
+    // 동시 저장을 받을 수 있는 Upload_Blob 메모리 구현 (등록과 경로 조회만 사용)
+    private static class ConcurrentUploadBlobMapper implements UploadBlobMapper {
+        private final Map<String, String> pathsByDigest = new ConcurrentHashMap<>();
+
+        @Override
+        public void acquire(UploadBlob blob) {
+            pathsByDigest.putIfAbsent(blob.getKind() + ":" + blob.getDigest(), blob.getRelativePath());
+        }
+
+        @Override
+        public String getPathByDigest(String kind, String digest) {
+            return pathsByDigest.get(kind + ":" + digest);
+        }
+
+        @Override
+        public int release(String kind, String relativePath) {
+            return 0;
+        }
+
+        @Override
+        public UploadBlob lockByPath(String kind, String relativePath) {
+            return null;
+        }
+
+        @Override
+        public int deleteByPath(String kind, String relativePath) {
+            return 0;
+        }
+    }
+}
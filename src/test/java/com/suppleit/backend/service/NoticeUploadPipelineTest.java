@@ -0,0 +1,124 @@
+package com.suppleit.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeUploadPipelineTest {
+
+    private final FileService fileService = mock(FileService.class);
+    private final NoticeUploadPipeline pipeline = new NoticeUploadPipeline(fileService, "https://test.com/", 2);
+
+    @AfterEach
+    void shutdown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void substitutesPlaceholdersWithImageUrls() {
+        String content = "<p>{{IMAGE_PLACEHOLDER_1}}</p><img src=\"{{IMAGE_PLACEHOLDER_0}}\">{{IMAGE_PLACEHOLDER_0}}";
+
+        String result = pipeline.substitutePlaceholders(content, List.of("2025/01/01/a.png", "2025/01/01/b.png"));
+
+        assertThat(result).isEqualTo("<p>https://test.com/api/notice/image/2025/01/01/b.png</p>"
+                + "<img src=\"https://test.com/api/notice/image/2025/01/01/a.png\">"
+                + "https://test.com/api/notice/image/2025/01/01/a.png");
+    }
+
+    @Test
+    void leavesMalformedOrMissingPlaceholdersUntouched() {
+        String content = "{{IMAGE_PLACEHOLDER_5}} {{IMAGE_PLACEHOLDER_}} {{IMAGE_PLACEHOLDER_0 "
+                + "{{IMAGE_PLACEHOLDER_99999999999}} {{IMAGE_PLACEHOLDER_{{IMAGE_PLACEHOLDER_0}}";
+
+        String result = pipeline.substitutePlaceholders(content, List.of("a.png"));
+
+        assertThat(result).isEqualTo("{{IMAGE_PLACEHOLDER_5}} {{IMAGE_PLACEHOLDER_}} {{IMAGE_PLACEHOLDER_0 "
+                + "{{IMAGE_PLACEHOLDER_99999999999}} {{IMAGE_PLACEHOLDER_https://test.com/api/notice/image/a.png");
+        assertThat(pipeline.substitutePlaceholders("본문", List.of())).isEqualTo("본문");
+        assertThat(pipeline.substitutePlaceholders(null, List.of("a.png"))).isNull();
+    }
+
+    @Test
+    void extractsContentImagePathsFromUrls() {
+        String content = "<img src=\"https://test.com/api/notice/image/2025/01/01/a_1.png\">"
+                + "<img src='/api/notice/image/2025/01/02/b-2.jpg?x=1'>/api/notice/image/\"";
+        List<String> paths = new ArrayList<>();
+
+        NoticeUploadPipeline.forEachContentImage(content, paths::add);
+
+        assertThat(paths).containsExactly("2025/01/01/a_1.png", "2025/01/02/b-2.jpg");
+    }
+
+    @Test
+    void storesAllUploadsInOrder() throws IOException {
+        when(fileService.saveImage(any(MultipartFile.class)))
+                .thenAnswer(invocation -> "img/" + invocation.<MultipartFile>getArgument(0).getOriginalFilename());
+        when(fileService.saveAttachment(any(MultipartFile.class))).thenReturn("files/doc.pdf");
+
+        NoticeUploadPipeline.StoredUploads uploads = pipeline.store(
+                file("image", "main.png"), file("attachment", "doc.pdf"),
+                List.of(file("contentImages", "c0.png"), file("contentImages", "c1.png")));
+
+        assertThat(uploads.getImagePath()).isEqualTo("img/main.png");
+        assertThat(uploads.getAttachmentPath()).isEqualTo("files/doc.pdf");
+        assertThat(uploads.getAttachmentName()).isEqualTo("doc.pdf");
+        assertThat(uploads.getContentImagePaths()).containsExactly("img/c0.png", "img/c1.png");
+    }
+
+    @Test
+    void failedUploadDiscardsSavedFiles() throws IOException {
+        when(fileService.saveImage(any(MultipartFile.class))).thenReturn("img/main.png");
+        when(fileService.saveAttachment(any(MultipartFile.class))).thenThrow(new IOException("disk full"));
+
+        assertThatThrownBy(() -> pipeline.store(file("image", "main.png"), file("attachment", "doc.pdf"), List.of()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("disk full");
+
+        verify(fileService).deleteImage("img/main.png");
+    }
+
+    @Test
+    void discardRunsOnlyOnce() throws IOException {
+        when(fileService.saveImage(any(MultipartFile.class))).thenReturn("img/main.png");
+        NoticeUploadPipeline.StoredUploads uploads = pipeline.store(file("image", "main.png"), null, null);
+
+        pipeline.discard(uploads);
+        pipeline.discard(uploads);
+
+        verify(fileService, times(1)).deleteImage("img/main.png");
+    }
+
+    @Test
+    void discardKeepsDeletingAfterOneFailure() throws IOException {
+        when(fileService.saveImage(any(MultipartFile.class)))
+                .thenAnswer(invocation -> "img/" + invocation.<MultipartFile>getArgument(0).getOriginalFilename());
+        when(fileService.saveAttachment(any(MultipartFile.class))).thenReturn("file/doc.pdf");
+        NoticeUploadPipeline.StoredUploads uploads = pipeline.store(file("image", "main.png"), file("attachment", "doc.pdf"),
+                List.of(file("content", "a.png"), file("content", "b.png")));
+        doThrow(new IOException("permission denied")).when(fileService).deleteImage("img/main.png");
+        doThrow(new IllegalStateException("lock timeout")).when(fileService).deleteAttachment("file/doc.pdf");
+
+        pipeline.discard(uploads);
+
+        verify(fileService).deleteImage("img/a.png");
+        verify(fileService).deleteImage("img/b.png");
+    }
+
+    private static MockMultipartFile file(String name, String originalFilename) {
+        return new MockMultipartFile(name, originalFilename, "application/octet-stream", new byte[]{1, 2, 3});
+    }
+}
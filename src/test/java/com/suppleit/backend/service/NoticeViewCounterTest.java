@@ -0,0 +1,103 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.NoticeMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NoticeViewCounterTest {
+
+    private final NoticeMapper noticeMapper = mock(NoticeMapper.class);
+    private final NoticeViewCounter counter = new NoticeViewCounter(noticeMapper, 500);
+
+    @Test
+    void addsPendingViewsToObservedCount() {
+        counter.increment(1L);
+        counter.increment(1L);
+
+        assertThat(counter.observe(1L, 10, counter.generation(1L))).isEqualTo(12);
+        assertThat(counter.currentViews(1L)).isEqualTo(12);
+        assertThat(counter.currentViews(2L)).isEqualTo(-1);
+    }
+
+    @Test
+    void flushWritesDeltasOnceAndKeepsCurrentViews() {
+        counter.observe(1L, 10, counter.generation(1L));
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        counter.flush();
+        verify(noticeMapper).addViews(Map.of(1L, 2L, 2L, 1L));
+        assertThat(counter.currentViews(1L)).isEqualTo(12);
+
+        counter.flush();
+        verify(noticeMapper, times(1)).addViews(anyMap());
+    }
+
+    @Test
+    void staleReadFromBeforeFlushDoesNotResetBaseline() {
+        counter.observe(1L, 10, counter.generation(1L));
+        counter.increment(1L);
+        counter.increment(1L);
+
+        // DB 조회 시작 후 반영이 끝나면 읽은 값에 증가분이 포함됐는지 알 수 없음
+        long generation = counter.generation(1L);
+        counter.flush();
+        counter.observe(1L, 10, generation);
+
+        assertThat(counter.currentViews(1L)).isEqualTo(12);
+
+        // 반영 이후 새로 읽은 값은 기준값으로 사용
+        counter.observe(1L, 15, counter.generation(1L));
+        assertThat(counter.currentViews(1L)).isEqualTo(15);
+    }
+
+    @Test
+    void failedFlushKeepsDeltaForNextRun() {
+        counter.observe(1L, 10, counter.generation(1L));
+        counter.increment(1L);
+        doThrow(new RuntimeException("db down")).when(noticeMapper).addViews(anyMap());
+
+        counter.flush();
+        assertThat(counter.currentViews(1L)).isEqualTo(11);
+
+        reset(noticeMapper);
+        counter.flush();
+        verify(noticeMapper).addViews(Map.of(1L, 1L));
+        assertThat(counter.currentViews(1L)).isEqualTo(11);
+    }
+
+    @Test
+    void flushSplitsLargeBatches() {
+        NoticeViewCounter smallBatches = new NoticeViewCounter(noticeMapper, 2);
+        for (long id = 1; id <= 5; id++) {
+            smallBatches.increment(id);
+        }
+
+        smallBatches.flush();
+
+        verify(noticeMapper, times(3)).addViews(any());
+    }
+
+    @Test
+    void removedNoticeIsNotFlushed() {
+        counter.increment(1L);
+        counter.remove(1L);
+
+        counter.flush();
+
+        verify(noticeMapper, never()).addViews(anyMap());
+        assertThat(counter.generation(1L)).isZero();
+    }
+}
@@ -0,0 +1,120 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.security.BCryptCostCalibrator;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    @Test
+    void encodesAndMatchesOnThePool() {
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), 2, 4, 5000);
+        try {
+            String encoded = service.encode("secret");
+
+            assertThat(service.matches("secret", encoded)).isTrue();
+            assertThat(service.matches("wrong", encoded)).isFalse();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void hashWithLowerCostNeedsUpgrade() {
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), 1, 1, 5000);
+        try {
+            assertThat(service.needsUpgrade(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+            assertThat(service.needsUpgrade(service.encode("secret"))).isFalse();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = new PasswordHashingService(blockingEncoder(started, release), 1, 1, 5000);
+        try {
+            // 스레드 1개는 작업 중, 큐 1칸은 대기 중
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+            waitUntilQueued(service, queued);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> service.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void timesOutWhenHashingTakesTooLong() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService service = new PasswordHashingService(
+                blockingEncoder(new CountDownLatch(1), release), 1, 1, 100);
+        try {
+            assertThatThrownBy(() -> service.encode("a")).isInstanceOf(PasswordHashingBusyException.class);
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void calibratedCostStaysWithinBounds() {
+        assertThat(BCryptCostCalibrator.calibrate(1, 4, 12)).isBetween(4, 12);
+        assertThat(BCryptCostCalibrator.calibrate(60_000, 4, 5)).isEqualTo(5);
+    }
+
+    // 두 번째 요청이 큐에 들어갈 때까지 대기 (다른 스레드에서 제출되므로)
+    private static void waitUntilQueued(PasswordHashingService service, CompletableFuture<?> queued)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!isQueueFull(service) && !queued.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean isQueueFull(PasswordHashingService service) {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(service, "executor");
+        return executor.getQueue().remainingCapacity() == 0;
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
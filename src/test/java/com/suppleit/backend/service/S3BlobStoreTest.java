@@ -0,0 +1,217 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.service.BlobStore.Area;
+import com.suppleit.backend.service.BlobStore.StagedBlob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// MinIO 컨테이너를 S3 대신 사용 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class S3BlobStoreTest {
+
+    private static final String BUCKET = "suppleit-test";
+    private static final int PART_SIZE = (int) DataSize.ofMegabytes(5).toBytes();
+
+    @Container
+    static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private static S3Client client;
+    private S3BlobStore store;
+
+    @BeforeAll
+    static void createBucket() {
+        client = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .forcePathStyle(true)
+                .build();
+        client.createBucket(b -> b.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new S3BlobStore(BUCKET, minio.getS3URL(), "us-east-1", minio.getUserName(), minio.getPassword(),
+                true, DataSize.ofMegabytes(5), 2, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+        for (S3Object object : client.listObjectsV2Paginator(b -> b.bucket(BUCKET)).contents()) {
+            client.deleteObject(b -> b.bucket(BUCKET).key(object.key()));
+        }
+        client.listMultipartUploadsPaginator(b -> b.bucket(BUCKET)).uploads().forEach(upload ->
+                client.abortMultipartUpload(b -> b.bucket(BUCKET).key(upload.key()).uploadId(upload.uploadId())));
+    }
+
+    @Test
+    void smallFileIsStagedWithSinglePutAndCommittedByCopy() throws IOException {
+        StagedBlob staged = store.stage(Area.IMAGE, text("hello"));
+        assertThat(staged.size()).isEqualTo(5);
+        assertThat(incomingKeys()).hasSize(1);
+
+        staged.commit("2025/01/01/a.png");
+        staged.discard();  // commit 이후에는 아무 일도 하지 않음
+
+        assertThat(store.exists(Area.IMAGE, "2025/01/01/a.png")).isTrue();
+        assertThat(store.exists(Area.ATTACHMENT, "2025/01/01/a.png")).isFalse();
+        try (InputStream in = store.open(Area.IMAGE, "2025/01/01/a.png")) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        }
+        assertThat(incomingKeys()).isEmpty();
+    }
+
+    @Test
+    void largeFileIsUploadedInParallelParts() throws IOException {
+        // 5MB 파트 3개 (마지막 파트는 작음), 동시 전송 2개
+        byte[] data = randomBytes(PART_SIZE * 2 + 1234);
+
+        StagedBlob staged = store.stage(Area.ATTACHMENT, new ByteArrayInputStream(data));
+        assertThat(staged.size()).isEqualTo(data.length);
+        staged.commit("2025/01/01/big.bin");
+
+        try (InputStream in = store.open(Area.ATTACHMENT, "2025/01/01/big.bin")) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        assertThat(incomingKeys()).isEmpty();
+        assertThat(openUploads()).isEmpty();
+    }
+
+    @Test
+    void multipartUploadIsAbortedWhenBodyFails() {
+        // 두 번째 파트를 읽는 중에 요청 본문이 끊김
+        InputStream failing = new FilterInputStream(new ByteArrayInputStream(randomBytes(PART_SIZE * 3))) {
+            private long read;
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (read > PART_SIZE + 1024) {
+                    throw new IOException("connection reset");
+                }
+                int n = super.read(b, off, len);
+                read += Math.max(n, 0);
+                return n;
+            }
+        };
+
+        assertThatThrownBy(() -> store.stage(Area.IMAGE, failing)).isInstanceOf(IOException.class);
+
+        assertThat(openUploads()).isEmpty();
+        assertThat(incomingKeys()).isEmpty();
+    }
+
+    @Test
+    void discardDeletesTemporaryObject() throws IOException {
+        StagedBlob staged = store.stage(Area.IMAGE, text("temp"));
+
+        staged.discard();
+
+        assertThat(incomingKeys()).isEmpty();
+    }
+
+    @Test
+    void purgeStagedRemovesStaleTemporaryObjectsAndUploads() throws IOException {
+        store.stage(Area.IMAGE, text("left over"));
+        client.createMultipartUpload(b -> b.bucket(BUCKET).key("incoming/abandoned"));
+        client.putObject(b -> b.bucket(BUCKET).key("images/2025/01/01/kept.png"), RequestBody.fromString("kept"));
+
+        // 영역별로 호출되지만 임시 키는 이미지 영역에서만 정리
+        store.purgeStaged(Area.ATTACHMENT, Instant.now().plusSeconds(60));
+        assertThat(incomingKeys()).hasSize(1);
+
+        // cutoff 이전에 만든 것만 정리
+        store.purgeStaged(Area.IMAGE, Instant.now().minusSeconds(3600));
+        assertThat(incomingKeys()).hasSize(1);
+        assertThat(openUploads()).hasSize(1);
+
+        store.purgeStaged(Area.IMAGE, Instant.now().plusSeconds(60));
+        assertThat(incomingKeys()).isEmpty();
+        assertThat(openUploads()).isEmpty();
+        assertThat(store.exists(Area.IMAGE, "2025/01/01/kept.png")).isTrue();
+    }
+
+    @Test
+    void downloadUrlIsPresignedWithResponseHeaders() throws Exception {
+        store.stage(Area.ATTACHMENT, text("report")).commit("2025/01/01/report.pdf");
+
+        URI url = store.downloadUrl(Area.ATTACHMENT, "2025/01/01/report.pdf",
+                "application/pdf", "attachment; filename=\"report.pdf\"");
+
+        HttpResponse<String> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(url).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("report");
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/pdf");
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValue("attachment; filename=\"report.pdf\"");
+    }
+
+    @Test
+    void listsDirectoriesAndFilesPerArea() throws IOException {
+        store.stage(Area.IMAGE, text("a")).commit("2025/01/01/a.png");
+        store.stage(Area.IMAGE, text("bb")).commit("2025/01/02/b.png");
+
+        assertThat(store.listDirectories(Area.IMAGE, "2025/")).containsExactlyInAnyOrder("2025/01/");
+        assertThat(store.listDirectories(Area.IMAGE, "2025/01/")).containsExactlyInAnyOrder("2025/01/01/", "2025/01/02/");
+        assertThat(store.listFiles(Area.IMAGE, "2025/01/02/"))
+                .extracting(BlobStore.BlobInfo::key, BlobStore.BlobInfo::size)
+                .containsExactly(tuple("2025/01/02/b.png", 2L));
+
+        store.delete(Area.IMAGE, "2025/01/01/a.png");
+        assertThat(store.exists(Area.IMAGE, "2025/01/01/a.png")).isFalse();
+    }
+
+    private static List<String> incomingKeys() {
+        return client.listObjectsV2Paginator(b -> b.bucket(BUCKET).prefix("incoming/")).contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    private static List<String> openUploads() {
+        return client.listMultipartUploadsPaginator(b -> b.bucket(BUCKET)).uploads().stream()
+                .map(MultipartUpload::key)
+                .toList();
+    }
+
+    private static InputStream text(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,198 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.config.AppConfig;
+import com.suppleit.backend.mapper.MemberMapper;
+import com.suppleit.backend.model.Member;
+import com.suppleit.backend.security.BCryptCostCalibrator;
+import com.suppleit.backend.security.jwt.JwtTokenProvider;
+import com.suppleit.backend.security.jwt.TokenEpochService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 소셜 로그인 지연 시간 p50/p99 (./gradlew benchmark 로 실행, 일반 test 에서는 제외)
+// 로컬 HTTP 서버로 구글 OAuth(token/userinfo)를 흉내 내고, 호출마다 제공자 왕복 시간(PROVIDER_DELAY_MILLIS)을 더함
+// - 이전 방식: 설정 없는 RestTemplate, 토큰 + 사용자 정보 2회 호출, 신규 회원은 버려질 UUID 비밀번호 BCrypt + 등록 후 재조회
+// - 현재 방식: 타임아웃/연결 재사용 RestTemplate(AppConfig), id_token 으로 1회 호출, 해시 없음, 재조회 없음
+@Tag("benchmark")
+class SocialLoginLatencyBenchmark {
+
+    private static final String CLIENT_ID = "bench-client";
+    private static final long PROVIDER_DELAY_MILLIS = 20;
+    private static final int LOGINS = 300;
+
+    private static HttpServer providerStub;
+    private static String baseUri;
+
+    private final Map<String, Member> members = new ConcurrentHashMap<>();
+    private final AtomicLong memberIds = new AtomicLong();
+
+    @BeforeAll
+    static void startProviderStub() throws IOException {
+        providerStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        providerStub.setExecutor(Executors.newFixedThreadPool(8));
+        baseUri = "http://127.0.0.1:" + providerStub.getAddress().getPort();
+
+        // code 값을 사용자 이름으로 사용, 쿼리(?id_token)가 있으면 id_token 도 함께 발급
+        providerStub.createContext("/token", exchange -> {
+            String code = formValue(exchange, "code");
+            String idToken = exchange.getRequestURI().getQuery() != null ? ",\"id_token\":\"" + idToken(code) + "\"" : "";
+            respond(exchange, "{\"access_token\":\"" + code + "\"" + idToken + "}");
+        });
+        providerStub.createContext("/userinfo", exchange -> {
+            String code = exchange.getRequestHeaders().getFirst("Authorization").substring("Bearer ".length());
+            respond(exchange, "{\"email\":\"" + code + "@example.com\",\"name\":\"" + code + "\"}");
+        });
+        providerStub.start();
+    }
+
+    @AfterAll
+    static void stopProviderStub() {
+        providerStub.stop(0);
+    }
+
+    @Test
+    void socialLoginLatency() throws Exception {
+        int cost = BCryptCostCalibrator.calibrate(100, 10, 14);
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        MemberMapper memberMapper = inMemoryMemberMapper();
+
+        SocialLoginService before = service(memberMapper, new RestTemplate(), "/token");
+        SocialLoginService after = service(memberMapper, new AppConfig().restTemplate(3000, 10000), "/token?id_token");
+
+        System.out.printf("[social-login] 제공자 왕복 %dms, 로그인 %d회, BCrypt cost %d%n",
+                PROVIDER_DELAY_MILLIS, LOGINS, cost);
+        report("이전 방식, 신규 회원", measure(i -> {
+            String email = "old-new-" + i;
+            before.getGoogleMember(email);
+            // 이전 흐름에만 있던 작업: 버려질 비밀번호 해시 + 등록 직후 재조회
+            encoder.encode(UUID.randomUUID().toString());
+            memberMapper.getMemberByEmail(email + "@example.com");
+        }));
+        report("이전 방식, 기존 회원", measure(i -> before.getGoogleMember("old-new-" + i)));
+        report("현재 방식, 신규 회원", measure(i -> after.getGoogleMember("new-new-" + i)));
+        report("현재 방식, 기존 회원", measure(i -> after.getGoogleMember("new-new-" + i)));
+    }
+
+    private SocialLoginService service(MemberMapper memberMapper, RestTemplate restTemplate, String tokenPath) {
+        TokenEpochService epochs = new TokenEpochService(memberMapper, null, null, false, 30_000);
+        SocialLoginService service = new SocialLoginService(memberMapper, new MemberLookup(memberMapper), restTemplate,
+                new ObjectMapper(),
+                new JwtTokenProvider("benchmark-secret-key-that-is-long-enough-for-hs256", 60_000, 600_000, epochs),
+                new MemberAvailabilityIndex(memberMapper, null, null, false));
+        ReflectionTestUtils.setField(service, "googleClientId", CLIENT_ID);
+        ReflectionTestUtils.setField(service, "googleClientSecret", "bench-secret");
+        ReflectionTestUtils.setField(service, "googleRedirectUri", "http://localhost/callback");
+        ReflectionTestUtils.setField(service, "discoveryCacheTtlMillis", 86_400_000L);
+        // discovery 문서는 캐시된 상태로 시작 (시나리오별 토큰 엔드포인트 경로 지정)
+        ReflectionTestUtils.setField(service, "googleEndpoints",
+                cachedEndpoints(baseUri + tokenPath, baseUri + "/userinfo"));
+        return service;
+    }
+
+    private static Object cachedEndpoints(String tokenUri, String userInfoUri) {
+        try {
+            var constructor = Class.forName(SocialLoginService.class.getName() + "$ProviderEndpoints")
+                    .getDeclaredConstructor(String.class, String.class, long.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(tokenUri, userInfoUri, System.currentTimeMillis());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MemberMapper inMemoryMemberMapper() {
+        MemberMapper memberMapper = mock(MemberMapper.class);
+        when(memberMapper.getMemberByEmail(anyString()))
+                .thenAnswer(invocation -> members.get(invocation.<String>getArgument(0)));
+        when(memberMapper.insertSocialMemberIfAbsent(any())).thenAnswer(invocation -> {
+            Member member = invocation.getArgument(0);
+            // 중복이면 생성 키 없이 1 (드라이버 기본 설정과 같음)
+            if (members.putIfAbsent(member.getEmail(), member) == null) {
+                member.setMemberId(memberIds.incrementAndGet());
+            }
+            return 1;
+        });
+        return memberMapper;
+    }
+
+    private static long[] measure(Login login) throws Exception {
+        login.run(-1);  // 워밍업 (연결 수립)
+        long[] nanos = new long[LOGINS];
+        for (int i = 0; i < LOGINS; i++) {
+            long start = System.nanoTime();
+            login.run(i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void report(String label, long[] sortedNanos) {
+        System.out.printf("[social-login] %s: p50 %.1fms, p99 %.1fms%n", label,
+                sortedNanos[sortedNanos.length / 2] / 1e6,
+                sortedNanos[(int) (sortedNanos.length * 0.99) - 1] / 1e6);
+    }
+
+    private static String idToken(String code) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+        String claims = encoder.encodeToString(("{\"iss\":\"https://accounts.google.com\",\"aud\":\"" + CLIENT_ID + "\","
+                + "\"exp\":" + (System.currentTimeMillis() / 1000 + 3600) + ",\"email_verified\":true,"
+                + "\"email\":\"" + code + "@example.com\",\"name\":\"" + code + "\"}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + claims + ".signature";
+    }
+
+    private static String formValue(HttpExchange exchange, String name) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String pair : body.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (parts[0].equals(name) && parts.length == 2) {
+                return URLDecoder.decode(parts[1], StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        try {
+            Thread.sleep(PROVIDER_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    @FunctionalInterface
+    private interface Login {
+        void run(int index) throws Exception;
+    }
+}
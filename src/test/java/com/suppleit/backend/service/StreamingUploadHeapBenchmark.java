@@ -0,0 +1,171 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.mapper.UploadBlobMapper;
+import com.suppleit.backend.model.UploadBlob;
+import com.suppleit.backend.service.BlobStore.Area;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 1GB 첨부파일 스트리밍 업로드 중 힙 사용량 (./gradlew benchmark 로 실행, 일반 test 에서는 제외)
+// 요청 본문은 메모리에 만들지 않고 읽는 만큼 생성, 실제 FileService + LocalBlobStore(임시 디렉토리)에 저장
+// 업로드 동안 주기적으로 GC 후 남은 힙을 재서, 업로드 크기와 관계없이 일정한지 확인
+@Tag("benchmark")
+class StreamingUploadHeapBenchmark {
+
+    private static final String BOUNDARY = "----heap-boundary";
+    private static final long ATTACHMENT_BYTES = 1L << 30;  // 1GB
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void oneGigabyteUploadKeepsHeapFlat() throws Exception {
+        LocalBlobStore blobStore = new LocalBlobStore();
+        ReflectionTestUtils.setField(blobStore, "imageUploadDir", dir.resolve("images") + "/");
+        ReflectionTestUtils.setField(blobStore, "attachmentUploadDir", dir.resolve("attachments") + "/");
+        blobStore.init();
+        FileService fileService = new FileService(singleBlobMapper(), blobStore, new TestTransactionManager());
+        NoticeUploadPipeline uploadPipeline = new NoticeUploadPipeline(fileService, "http://localhost", 1);
+        StreamingUploadService service = new StreamingUploadService(fileService, uploadPipeline, new ObjectMapper(),
+                DataSize.ofGigabytes(2), DataSize.ofGigabytes(4), DataSize.ofMegabytes(1), 100);
+
+        GeneratedBody body = new GeneratedBody();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/notice/stream") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(body);
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return body.length;
+            }
+        };
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+
+        long baseline = liveHeap();
+        AtomicLong peak = new AtomicLong(baseline);
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(liveHeap(), Math::max);
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        StreamingUploadService.Result result;
+        long start = System.nanoTime();
+        sampler.start();
+        try {
+            result = service.read(request);
+        } finally {
+            sampler.interrupt();
+            sampler.join();
+            uploadPipeline.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Path stored = blobStore.localPath(Area.ATTACHMENT, result.uploads().getAttachmentPath());
+        assertThat(Files.size(stored)).isEqualTo(ATTACHMENT_BYTES);
+        assertThat(body.position).isEqualTo(body.length);
+
+        long growth = peak.get() - baseline;
+        System.out.printf("[stream-upload] 첨부파일 %dMB, %.1f초 (%.0fMB/s), GC 후 힙 기준 %.1fMB, 최대 증가 %.1fMB%n",
+                ATTACHMENT_BYTES >> 20, seconds, (ATTACHMENT_BYTES >> 20) / seconds,
+                baseline / 1048576.0, growth / 1048576.0);
+        assertThat(growth).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    // GC 이후 남아 있는 힙 (일시적인 버퍼가 아니라 실제로 붙잡고 있는 메모리)
+    private long liveHeap() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // 업로드 하나만 다루는 Upload_Blob (등록한 경로를 그대로 돌려줌)
+    private static UploadBlobMapper singleBlobMapper() {
+        UploadBlobMapper mapper = mock(UploadBlobMapper.class);
+        AtomicReference<String> path = new AtomicReference<>();
+        doAnswer(invocation -> {
+            path.compareAndSet(null, invocation.<UploadBlob>getArgument(0).getRelativePath());
+            return null;
+        }).when(mapper).acquire(any());
+        when(mapper.getPathByDigest(anyString(), anyString())).thenAnswer(invocation -> path.get());
+        return mapper;
+    }
+
+    // notice 파트 + 1GB 첨부파일 파트로 된 multipart 본문을 읽는 만큼 생성
+    private static final class GeneratedBody extends InputStream {
+
+        private final byte[] head = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"notice\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + "{\"title\":\"대용량 첨부\",\"content\":\"본문\"}\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"attachment\"; filename=\"large.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        private final byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        private final long length = head.length + ATTACHMENT_BYTES + tail.length;
+        private long position;
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int len) {
+            if (position >= length) {
+                return -1;
+            }
+            int count = (int) Math.min(len, length - position);
+            for (int i = 0; i < count; i++) {
+                long at = position + i;
+                if (at < head.length) {
+                    buffer[offset + i] = head[(int) at];
+                } else if (at < head.length + ATTACHMENT_BYTES) {
+                    buffer[offset + i] = (byte) ('a' + (at % 26));  // 경계 문자열('-')이 나오지 않는 내용
+                } else {
+                    buffer[offset + i] = tail[(int) (at - head.length - ATTACHMENT_BYTES)];
+                }
+            }
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.suppleit.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingUploadServiceTest {
+
+    private static final String BOUNDARY = "----test-boundary";
+    private static final String NOTICE_JSON = "{\"title\":\"제목\",\"content\":\"본문\"}";
+
+    private final FileService fileService = mock(FileService.class);
+    private final NoticeUploadPipeline uploadPipeline = new NoticeUploadPipeline(fileService, "http://localhost", 1);
+    private StreamingUploadService service;
+    private int savedCount;
+
+    // 파트 100바이트, 요청 4KB, notice JSON 256바이트, 파트 4개까지
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new StreamingUploadService(fileService, uploadPipeline, new ObjectMapper(),
+                DataSize.ofBytes(100), DataSize.ofKilobytes(4), DataSize.ofBytes(256), 4);
+        // 저장소처럼 스트림을 끝까지 읽어야 크기 제한이 검사됨
+        when(fileService.saveImage(any(InputStream.class), anyString(), any()))
+                .thenAnswer(invocation -> savedPath(invocation.getArgument(0), "img"));
+        when(fileService.saveAttachment(any(InputStream.class), anyString()))
+                .thenAnswer(invocation -> savedPath(invocation.getArgument(0), "files"));
+    }
+
+    @AfterEach
+    void shutdown() {
+        uploadPipeline.shutdown();
+    }
+
+    @Test
+    void readsNoticeAndStoresFileParts() throws IOException {
+        MockHttpServletRequest request = multipart(new Multipart()
+                .field("notice", NOTICE_JSON)
+                .file("image", "main.png", 10)
+                .file("attachment", "doc.pdf", 10)
+                .file("contentImages", "c0.png", 10));
+
+        StreamingUploadService.Result result = service.read(request);
+
+        assertThat(result.notice().getTitle()).isEqualTo("제목");
+        assertThat(result.uploads().getImagePath()).isEqualTo("img/0");
+        assertThat(result.uploads().getAttachmentPath()).isEqualTo("files/1");
+        assertThat(result.uploads().getAttachmentName()).isEqualTo("doc.pdf");
+        assertThat(result.uploads().getContentImagePaths()).containsExactly("img/2");
+    }
+
+    @Test
+    void oversizedPartIsRejectedAndSavedFilesDiscarded() throws IOException {
+        MockHttpServletRequest request = multipart(new Multipart()
+                .field("notice", NOTICE_JSON)
+                .file("image", "main.png", 10)
+                .file("attachment", "big.pdf", 200));
+
+        assertThatThrownBy(() -> service.read(request)).isInstanceOf(FileUploadSizeException.class);
+
+        verify(fileService).deleteImage("img/0");
+    }
+
+    @Test
+    void tooManyPartsAreRejected() throws IOException {
+        MockHttpServletRequest request = multipart(new Multipart()
+                .field("notice", NOTICE_JSON)
+                .file("contentImages", "c0.png", 1)
+                .file("contentImages", "c1.png", 1)
+                .file("contentImages", "c2.png", 1)
+                .file("contentImages", "c3.png", 1));
+
+        assertThatThrownBy(() -> service.read(request)).isInstanceOf(FileUploadSizeException.class);
+
+        verify(fileService).deleteImage("img/0");
+        verify(fileService).deleteImage("img/2");
+    }
+
+    @Test
+    void duplicateImagePartIsRejected() throws IOException {
+        MockHttpServletRequest request = multipart(new Multipart()
+                .field("notice", NOTICE_JSON)
+                .file("image", "a.png", 10)
+                .file("image", "b.png", 10));
+
+        assertThatThrownBy(() -> service.read(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("image");
+
+        verify(fileService).deleteImage("img/0");
+    }
+
+    @Test
+    void oversizedNoticeJsonIsRejected() throws IOException {
+        MockHttpServletRequest request = multipart(new Multipart()
+                .field("notice", "{\"title\":\"" + "가".repeat(200) + "\"}"));
+
+        assertThatThrownBy(() -> service.read(request)).isInstanceOf(IOException.class);
+
+        verify(fileService, never()).saveImage(any(InputStream.class), anyString(), any());
+    }
+
+    @Test
+    void missingNoticePartDiscardsUploads() throws IOException {
+        MockHttpServletRequest request = multipart(new Multipart().file("image", "main.png", 10));
+
+        assertThatThrownBy(() -> service.read(request)).isInstanceOf(IllegalArgumentException.class);
+
+        verify(fileService).deleteImage("img/0");
+    }
+
+    private String savedPath(InputStream in, String directory) throws IOException {
+        in.transferTo(OutputStream.nullOutputStream());
+        return directory + "/" + savedCount++;
+    }
+
+    private static MockHttpServletRequest multipart(Multipart body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/notice/stream");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.build());
+        return request;
+    }
+
+    // multipart/form-data 본문 작성
+    private static final class Multipart {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Multipart field(String name, String value) {
+            write("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"\r\n"
+                    + "Content-Type: application/json\r\n\r\n" + value + "\r\n");
+            return this;
+        }
+
+        Multipart file(String name, String fileName, int size) {
+            write("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n");
+            out.writeBytes(new byte[size]);
+            write("\r\n");
+            return this;
+        }
+
+        byte[] build() {
+            write("--" + BOUNDARY + "--\r\n");
+            return out.toByteArray();
+        }
+
+        private void write(String text) {
+            out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
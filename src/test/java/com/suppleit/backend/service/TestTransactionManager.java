@@ -0,0 +1,31 @@
+package com.suppleit.backend.service;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+// DB 없이 트랜잭션 동기화(afterCommit 등)만 실제와 같이 동작시키는 테스트용 트랜잭션 매니저
+class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+    int commits;
+    int rollbacks;
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        commits++;
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        rollbacks++;
+    }
+}
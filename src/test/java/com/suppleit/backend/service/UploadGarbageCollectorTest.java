@@ -0,0 +1,136 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.dto.NoticeDto;
+import com.suppleit.backend.mapper.NoticeMapper;
+import com.suppleit.backend.service.BlobStore.Area;
+import com.suppleit.backend.service.BlobStore.BlobInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UploadGarbageCollectorTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    private final NoticeMapper noticeMapper = mock(NoticeMapper.class);
+    private final FileService fileService = mock(FileService.class);
+    private final BlobStore blobStore = mock(BlobStore.class);
+
+    @Test
+    void variantPathMapsToOriginal() {
+        assertThat(UploadGarbageCollector.originalOfVariant("2025/01/01/img_1_thumb.jpg")).isEqualTo("2025/01/01/img_1.jpg");
+        assertThat(UploadGarbageCollector.originalOfVariant("2025/01/01/img_1_medium.webp")).isEqualTo("2025/01/01/img_1.webp");
+        assertThat(UploadGarbageCollector.originalOfVariant("2025/01/01/img_thumb")).isEqualTo("2025/01/01/img");
+        assertThat(UploadGarbageCollector.originalOfVariant("2025/01/01/img_1.jpg")).isEqualTo("2025/01/01/img_1.jpg");
+        assertThat(UploadGarbageCollector.originalOfVariant("2025/01/01_thumb/img.jpg")).isEqualTo("2025/01/01_thumb/img.jpg");
+    }
+
+    @Test
+    void referenceSetSeparatesKindsAndGrows() {
+        UploadGarbageCollector.ReferenceSet.Builder builder = new UploadGarbageCollector.ReferenceSet.Builder();
+        for (int i = 0; i < 3000; i++) {
+            builder.add("image", "2025/01/01/img_" + i + ".jpg");
+        }
+        builder.add("attachment", "2025/01/01/doc.pdf");
+
+        UploadGarbageCollector.ReferenceSet references = builder.build();
+
+        assertThat(references.size()).isEqualTo(3001);
+        assertThat(references.contains("image", "2025/01/01/img_2999.jpg")).isTrue();
+        assertThat(references.contains("image", "2025/01/01/img_3000.jpg")).isFalse();
+        assertThat(references.contains("attachment", "2025/01/01/doc.pdf")).isTrue();
+        assertThat(references.contains("image", "2025/01/01/doc.pdf")).isFalse();
+    }
+
+    @Test
+    void deletesOnlyExpiredUnreferencedFiles() throws IOException {
+        notices(NoticeDto.builder()
+                .imagePath("2025/01/01/main.jpg")
+                .attachmentPath("2025/01/01/doc.pdf")
+                .content("<img src=\"http://localhost/api/notice/image/2025/01/01/body.png\">")
+                .build());
+        directories(Area.IMAGE, List.of(
+                new BlobInfo("2025/01/01/main.jpg", 10, OLD),
+                new BlobInfo("2025/01/01/main_thumb.jpg", 10, OLD),
+                new BlobInfo("2025/01/01/body.png", 10, OLD),
+                new BlobInfo("2025/01/01/orphan.png", 10, OLD),
+                new BlobInfo("2025/01/01/recent.png", 10, Instant.now()),
+                new BlobInfo("2025/01/01/gone_thumb.jpg", 10, OLD)));
+        directories(Area.ATTACHMENT, List.of(
+                new BlobInfo("2025/01/01/doc.pdf", 10, OLD),
+                new BlobInfo("2025/01/01/orphan.pdf", 10, OLD)));
+        when(blobStore.exists(Area.IMAGE, "2025/01/01/gone.jpg")).thenReturn(false);
+        when(fileService.deleteOrphanImage(anyString(), any())).thenReturn(true);
+        when(fileService.deleteOrphanAttachment(anyString(), any())).thenReturn(true);
+
+        newCollector(100).sweepSlice();
+
+        verify(fileService).deleteOrphanImage(eq("2025/01/01/orphan.png"), any());
+        verify(fileService).deleteOrphanAttachment(eq("2025/01/01/orphan.pdf"), any());
+        verify(blobStore).delete(Area.IMAGE, "2025/01/01/gone_thumb.jpg");
+        verify(fileService, never()).deleteOrphanImage(eq("2025/01/01/main.jpg"), any());
+        verify(fileService, never()).deleteOrphanImage(eq("2025/01/01/body.png"), any());
+        verify(fileService, never()).deleteOrphanImage(eq("2025/01/01/recent.png"), any());
+        verify(fileService, never()).deleteOrphanAttachment(eq("2025/01/01/doc.pdf"), any());
+        verify(blobStore, never()).delete(Area.IMAGE, "2025/01/01/main_thumb.jpg");
+    }
+
+    @Test
+    void sweepsInSlices() throws IOException {
+        notices();
+        directories(Area.IMAGE, List.of(
+                new BlobInfo("2025/01/01/a.png", 10, OLD),
+                new BlobInfo("2025/01/01/b.png", 10, OLD),
+                new BlobInfo("2025/01/01/c.png", 10, OLD)));
+        directories(Area.ATTACHMENT, List.of());
+        UploadGarbageCollector collector = newCollector(2);
+
+        collector.sweepSlice();
+        verify(fileService).deleteOrphanImage(eq("2025/01/01/b.png"), any());
+        verify(fileService, never()).deleteOrphanImage(eq("2025/01/01/c.png"), any());
+
+        collector.sweepSlice();
+        verify(fileService).deleteOrphanImage(eq("2025/01/01/c.png"), any());
+    }
+
+    private UploadGarbageCollector newCollector(int sliceSize) {
+        return new UploadGarbageCollector(noticeMapper, fileService, blobStore, new SimpleMeterRegistry(),
+                true, sliceSize, Duration.ofDays(1));
+    }
+
+    private void notices(NoticeDto... notices) {
+        doAnswer(invocation -> {
+            ResultHandler<NoticeDto> handler = invocation.getArgument(0);
+            DefaultResultContext<NoticeDto> context = new DefaultResultContext<>();
+            for (NoticeDto notice : notices) {
+                context.nextResultObject(notice);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(noticeMapper).scanUploadReferences(any());
+    }
+
+    // 2025/01/01 디렉토리 하나와 그 안의 파일 (임시 저장 디렉토리는 제외되어야 함)
+    private void directories(Area area, List<BlobInfo> files) throws IOException {
+        when(blobStore.listDirectories(area, "")).thenReturn(List.of("2025/", ".staging/"));
+        when(blobStore.listDirectories(area, "2025/")).thenReturn(List.of("2025/01/"));
+        when(blobStore.listDirectories(area, "2025/01/")).thenReturn(List.of("2025/01/01/"));
+        when(blobStore.listFiles(area, "2025/01/01/")).thenReturn(files);
+    }
+}
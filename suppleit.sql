@@ -7,10 +7,20 @@ CREATE TABLE Member (
   birth DATE NULL COMMENT '생년월일 (소셜 로그인에 따라 NULL 허용)',
   member_role VARCHAR(20) NOT NULL DEFAULT 'USER' COMMENT '사용자 역할',
   social_type VARCHAR(20) NOT NULL DEFAULT 'NONE' COMMENT '소셜 로그인 유형',
+  token_epoch INT NOT NULL DEFAULT 0 COMMENT '토큰 세대 (증가 시 기존 토큰 전체 무효화)',
   CONSTRAINT chk_member_role CHECK (member_role IN ('USER', 'ADMIN')),
   CONSTRAINT chk_social_type CHECK (social_type IN ('NONE', 'KAKAO', 'NAVER', 'GOOGLE'))
 );
 
+-- ✅ 관리자 회원 검색용 복합 인덱스 (일치 조건 컬럼 + member_id)
+-- 일치 조건 뒤에 member_id 가 오므로 member_id 순서 그대로 커서 위치부터 읽음 (정렬 없음)
+-- 두 조건을 함께 쓰면 그중 한 인덱스로 읽으며 나머지 조건은 행마다 걸러냄
+-- 생년월일은 범위 조건이라 member_id 순서를 줄 수 없음 → 생년월일만 주면 PK 를 커서 위치부터 읽으며 걸러냄
+CREATE INDEX idx_member_social ON Member (social_type, member_id);
+CREATE INDEX idx_member_social_role ON Member (social_type, member_role, member_id);
+CREATE INDEX idx_member_role ON Member (member_role, member_id);
+CREATE INDEX idx_member_gender ON Member (gender, member_id);
+
 CREATE TABLE `Product` (
 	`prd_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
 	`product_name` VARCHAR(50) NOT NULL,
@@ -53,6 +63,14 @@ CREATE TABLE `Notice` (
 	FOREIGN KEY (`member_id`) REFERENCES `Member`(`member_id`) ON DELETE CASCADE
 );
 
+-- ✅ 공지사항 목록 버전 (단일 행) - 등록/수정/삭제 트랜잭션에서 함께 증가, 목록 캐시와 ETag 의 기준
+-- 모든 노드가 같은 값을 보므로 노드/재시작과 관계없이 같은 목록이면 같은 ETag
+CREATE TABLE `Notice_Version` (
+	`id` TINYINT NOT NULL PRIMARY KEY,
+	`version` BIGINT NOT NULL DEFAULT 0
+);
+INSERT INTO `Notice_Version` (`id`, `version`) VALUES (1, 0);
+
 CREATE TABLE `Review` (
 	`review_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
 	`rating` VARCHAR(20) NULL, -- ✅ ENUM → VARCHAR 변경
@@ -63,3 +81,46 @@ CREATE TABLE `Review` (
 	FOREIGN KEY (`member_id`) REFERENCES `Member`(`member_id`) ON DELETE CASCADE,
 	FOREIGN KEY (`prd_id`) REFERENCES `Product`(`prd_id`) ON DELETE CASCADE
 );
+
+-- ✅ 메일 발송 대기열 (outbox) - 요청 스레드는 적재만 하고 발송은 백그라운드 워커가 처리
+CREATE TABLE `Mail_Outbox` (
+	`mail_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+	`recipient` VARCHAR(200) NOT NULL,
+	`subject` VARCHAR(200) NOT NULL,
+	`body` TEXT NOT NULL, -- 발송 완료/최종 실패 시 비움 (임시 비밀번호 등 민감 정보 보관 방지)
+	`status` VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, SENDING, SENT, FAILED
+	`attempts` INT NOT NULL DEFAULT 0,
+	`next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	`locked_by` VARCHAR(64) NULL,
+	`locked_at` DATETIME NULL,
+	`last_error` VARCHAR(500) NULL,
+	`created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	`sent_at` DATETIME NULL,
+	INDEX `idx_mail_outbox_status_next` (`status`, `next_attempt_at`),
+	INDEX `idx_mail_outbox_locked` (`locked_by`, `status`)
+);
+
+-- ✅ 업로드 파일 저장소 (내용 해시 기준 중복 제거) - 같은 파일은 한 번만 저장하고 참조 수로 관리
+CREATE TABLE `Upload_Blob` (
+	`blob_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+	`kind` VARCHAR(20) NOT NULL, -- IMAGE, ATTACHMENT
+	`digest` CHAR(64) NOT NULL, -- SHA-256 (hex)
+	`relative_path` VARCHAR(255) NOT NULL, -- yyyy/MM/dd/{prefix}_{digest}.{ext}
+	`size` BIGINT NOT NULL,
+	`ref_count` INT NOT NULL DEFAULT 1,
+	`created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	`updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 마지막 참조 추가 시각 (정리 작업의 유예 기간 판단)
+	UNIQUE KEY `uk_upload_blob_digest` (`kind`, `digest`),
+	UNIQUE KEY `uk_upload_blob_path` (`kind`, `relative_path`)
+);
+
+-- ✅ 공지사항 본문 이미지 참조 - 공지사항이 실제로 등록(참조 수 증가)한 본문 이미지만 기록
+-- 본문 HTML 을 다시 파싱하지 않고 이 기록만큼만 참조 해제 (다른 공지사항에서 복사한 URL 은 해제하지 않음)
+-- 같은 이미지를 두 번 올렸으면 두 행 (등록 횟수만큼 해제)
+CREATE TABLE `Notice_Content_Image` (
+	`content_image_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+	`notice_id` BIGINT NOT NULL,
+	`relative_path` VARCHAR(255) NOT NULL,
+	INDEX `idx_notice_content_image_notice` (`notice_id`),
+	FOREIGN KEY (`notice_id`) REFERENCES `Notice`(`notice_id`) ON DELETE CASCADE
+);